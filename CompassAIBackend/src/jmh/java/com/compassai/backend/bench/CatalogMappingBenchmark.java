@@ -0,0 +1,68 @@
+package com.compassai.backend.bench;
+
+import com.compassai.backend.domain.AiTool;
+import com.compassai.backend.domain.Category;
+import com.compassai.backend.domain.catalog.CatalogSnapshot;
+import com.compassai.backend.domain.catalog.ToolFilter;
+import com.compassai.backend.domain.catalog.ToolSort;
+import com.compassai.backend.domain.dto.AiToolResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> AiToolResponse 매핑(카테고리 이름 정렬 포함)과 메모리 스냅샷 조회 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogMappingBenchmark {
+
+    private static final int PAGE_SIZE = 40;
+
+    @Param({"100", "10000", "100000"})
+    int toolCount;
+
+    private List<AiTool> tools;
+    private CatalogSnapshot snapshot;
+    private int pageOffset;
+
+    @Setup
+    public void setUp() {
+        tools = SyntheticCatalog.tools(toolCount);
+        snapshot = CatalogSnapshot.of(tools);
+        pageOffset = Math.max(0, toolCount / 2 - PAGE_SIZE);
+    }
+
+    // AiToolController.toDto 와 같은 방식으로 한 페이지(40개)를 매핑한다
+    @Benchmark
+    public List<AiToolResponse> toDtoPage() {
+        List<AiToolResponse> out = new ArrayList<>(PAGE_SIZE);
+        for (int i = pageOffset; i < pageOffset + PAGE_SIZE && i < tools.size(); i++) {
+            AiTool t = tools.get(i);
+            out.add(AiToolResponse.of(t, t.getCategories().stream().map(Category::getName).sorted().toList()));
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public CatalogSnapshot buildSnapshot() {
+        return CatalogSnapshot.of(tools);
+    }
+
+    @Benchmark
+    public Page<AiToolResponse> snapshotCategoryPage() {
+        ToolFilter filter = ToolFilter.of(List.of("글쓰기/콘텐츠"), null, null);
+        return snapshot.find(filter, null, ToolSort.RECENT, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<AiToolResponse> snapshotSearch() {
+        return snapshot.find(ToolFilter.NONE, "영상 편집", ToolSort.RELEVANCE, PageRequest.of(0, PAGE_SIZE));
+    }
+}
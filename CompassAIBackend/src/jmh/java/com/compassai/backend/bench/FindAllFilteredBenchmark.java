@@ -0,0 +1,107 @@
+package com.compassai.backend.bench;
+
+import com.compassai.backend.CompassAiBackendApplication;
+import com.compassai.backend.domain.AiTool;
+import com.compassai.backend.domain.AiToolRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AiToolRepository.findAllFiltered 를 H2(MySQL 모드) 위에서 측정한다.
+ * - 스냅샷/응답 캐시를 끈 상태로 애플리케이션 컨텍스트를 띄워 DB 조회 경로만 잰다.
+ * - 데이터는 JdbcTemplate 배치 insert 로 넣는다. (JPA로 10만 건을 넣으면 준비 시간이 너무 길다)
+ * - 웹 서버, 스케줄러까지 포함한 전체 컨텍스트를 application.properties(MySQL 기준) 위에 명령행 인자로 덮어 띄운다.
+ *   덮어쓰지 않은 설정이 MySQL 을 가정하면 기동이 실패할 수 있으므로 기본 ./gradlew jmh 에서는 뺀다.
+ *   따로 돌릴 때: ./gradlew jmh -Pjmh.includes=FindAllFilteredBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindAllFilteredBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "updatedAt"));
+
+    @Param({"100", "10000", "100000"})
+    int toolCount;
+
+    private ConfigurableApplicationContext context;
+    private AiToolRepository repo;
+    private Pageable middlePage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication app = new SpringApplication(CompassAiBackendApplication.class);
+        context = app.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--logging.level.root=WARN",
+                "--compassai.catalog.snapshot-enabled=false",
+                "--compassai.catalog.response-cache.enabled=false"
+        );
+        repo = context.getBean(AiToolRepository.class);
+        seed(context.getBean(JdbcTemplate.class), SyntheticCatalog.tools(toolCount));
+        middlePage = PageRequest.of(Math.max(0, toolCount / 40), 20, FIRST_PAGE.getSort());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<AiTool> firstPage() {
+        return repo.findAllFiltered(null, null, null, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<AiTool> deepPage() {
+        return repo.findAllFiltered(null, null, null, middlePage);
+    }
+
+    @Benchmark
+    public Page<AiTool> categoryAndOrigin() {
+        return repo.findAllFiltered("글쓰기/콘텐츠", null, "해외", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<AiTool> keyword() {
+        return repo.findAllFiltered(null, "영상", null, FIRST_PAGE);
+    }
+
+    private static void seed(JdbcTemplate jdbc, List<AiTool> tools) {
+        List<Object[]> categories = new ArrayList<>();
+        for (int i = 0; i < SyntheticCatalog.CATEGORY_NAMES.length; i++) {
+            categories.add(new Object[]{i + 1, SyntheticCatalog.CATEGORY_NAMES[i]});
+        }
+        jdbc.batchUpdate("INSERT INTO category (id, name) VALUES (?, ?)", categories);
+
+        List<Object[]> rows = new ArrayList<>(tools.size());
+        List<Object[]> links = new ArrayList<>();
+        for (AiTool t : tools) {
+            Timestamp at = Timestamp.valueOf(t.getUpdatedAt());
+            rows.add(new Object[]{t.getId(), t.getName(), t.getSubTitle(), t.getOrigin(), t.getUrl(),
+                    t.getLogo(), t.getDescription(), at, at});
+            t.getCategories().forEach(c -> links.add(new Object[]{t.getId(), c.getId()}));
+        }
+        jdbc.batchUpdate("INSERT INTO ai_tool (id, name, sub_title, origin, url, logo, description, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbc.batchUpdate("INSERT INTO ai_tool_category (tool_id, category_id) VALUES (?, ?)", links);
+    }
+}
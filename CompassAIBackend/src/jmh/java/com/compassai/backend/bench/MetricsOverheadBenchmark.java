@@ -0,0 +1,55 @@
+package com.compassai.backend.bench;
+
+import com.compassai.backend.config.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 붙는 계측 비용
+ * - @Timed 와 같은 히스토그램 Timer 기록, 요청별 SQL 수 요약 등록/기록, StatementInspector 호출 비용을 잰다.
+ * - baseline 과의 차이가 요청 하나에 더해지는 오버헤드다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsOverheadBenchmark {
+
+    private SimpleMeterRegistry registry;
+    private Timer timer;
+    private final SqlStatementCounter inspector = new SqlStatementCounter();
+    private long work = 1;
+
+    @Setup
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        timer = Timer.builder("bench.timer").publishPercentileHistogram().register(registry);
+    }
+
+    @Benchmark
+    public long baseline() {
+        return ++work;
+    }
+
+    @Benchmark
+    public long timedRecord() {
+        return timer.record(() -> ++work);
+    }
+
+    // SqlCountFilter 가 요청마다 하는 일: 요약 조회(등록) + 기록
+    @Benchmark
+    public void sqlCountSummary() {
+        DistributionSummary.builder("compassai.http.sql.statements")
+                .tag("uri", "/api/tools")
+                .register(registry)
+                .record(3);
+    }
+
+    @Benchmark
+    public String statementInspector() {
+        return inspector.inspect("select 1");
+    }
+}
@@ -0,0 +1,46 @@
+package com.compassai.backend.bench;
+
+import com.compassai.backend.domain.AiTool;
+import com.compassai.backend.domain.Category;
+import com.compassai.backend.domain.dto.AiToolResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page<AiToolResponse> 의 Jackson 직렬화 비용 (응답 캐시가 없을 때 요청마다 드는 비용)
+ * - 비용은 페이지에 담긴 툴 수에만 달려 있다. 전체 개수는 totalElements 숫자 하나라 변수로 두지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageSerializationBenchmark {
+
+    private static final int TOTAL_ELEMENTS = 10_000;
+
+    @Param({"20", "40", "1000"})
+    int pageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private Page<AiToolResponse> page;
+
+    @Setup
+    public void setUp() {
+        List<AiTool> tools = SyntheticCatalog.tools(pageSize);
+        List<AiToolResponse> content = tools.stream()
+                .map(t -> AiToolResponse.of(t, t.getCategories().stream().map(Category::getName).sorted().toList()))
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), TOTAL_ELEMENTS);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
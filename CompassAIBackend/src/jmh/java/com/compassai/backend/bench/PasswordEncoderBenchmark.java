@@ -0,0 +1,35 @@
+package com.compassai.backend.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt PasswordEncoder.matches 비용 (로그인 1회당 드는 CPU 시간)
+ * - SecurityConfig 기본값은 cost 10 이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class PasswordEncoderBenchmark {
+
+    @Param({"4", "8", "10", "12"})
+    int cost;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(cost);
+        hash = encoder.encode("test1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("test1234", hash);
+    }
+}
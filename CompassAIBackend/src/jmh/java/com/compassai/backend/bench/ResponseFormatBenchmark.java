@@ -0,0 +1,71 @@
+package com.compassai.backend.bench;
+
+import com.compassai.backend.domain.Category;
+import com.compassai.backend.domain.catalog.ToolResponseFormat;
+import com.compassai.backend.domain.dto.AiToolResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * /api/tools 응답 형식별 크기와 인코딩 비용
+ * - encode: 캐시가 비어 있을 때 한 번 드는 직렬화 비용
+ * - encodeAndGzip: 미리 압축해 두지 않으면 요청마다 드는 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseFormatBenchmark {
+
+    private static final int TOOL_COUNT = 10_000;
+
+    @Param({"20", "40", "1000"})
+    int pageSize;
+
+    @Param({"JSON", "COLUMNAR", "CBOR", "SMILE"})
+    ToolResponseFormat format;
+
+    private ObjectMapper mapper;
+    private Object body;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper json = new ObjectMapper().registerModule(new JavaTimeModule());
+        mapper = switch (format) {
+            case CBOR -> json.copyWith(new CBORFactory());
+            case SMILE -> json.copyWith(new SmileFactory());
+            default -> json;
+        };
+        List<AiToolResponse> content = SyntheticCatalog.tools(pageSize).stream()
+                .map(t -> AiToolResponse.of(t, t.getCategories().stream().map(Category::getName).sorted().toList()))
+                .toList();
+        body = format.body(new PageImpl<>(content, PageRequest.of(0, pageSize), TOOL_COUNT), null);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return mapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] encodeAndGzip() throws Exception {
+        return gzip(mapper.writeValueAsBytes(body));
+    }
+
+    private static byte[] gzip(byte[] bytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
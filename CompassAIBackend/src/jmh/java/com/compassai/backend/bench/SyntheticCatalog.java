@@ -0,0 +1,79 @@
+package com.compassai.backend.bench;
+
+import com.compassai.backend.domain.AiTool;
+import com.compassai.backend.domain.Category;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 벤치마크용 가짜 카탈로그
+ * - 실제 seed 데이터와 비슷하게 한글+영문 이름, 1~3개 카테고리, 국내/해외 출처를 섞는다.
+ * - 같은 개수면 항상 같은 데이터가 나오도록 시드를 고정한다.
+ */
+final class SyntheticCatalog {
+
+    static final String[] CATEGORY_NAMES = {
+            "글쓰기/콘텐츠", "디자인/아트", "비디오/오디오", "생산성/협업도구", "교육/학습", "개발/프로그래밍",
+            "비즈니스/마케팅", "검색/데이터", "엔터테인먼트/기타", "게임", "일상생활형 서비스"
+    };
+
+    private static final String[] WORDS = {
+            "챗", "지피티", "이미지", "영상", "편집", "음악", "생성", "검색", "번역", "요약",
+            "chat", "video", "image", "music", "writer", "search", "studio", "assistant", "code", "agent"
+    };
+
+    private SyntheticCatalog() {
+    }
+
+    static List<Category> categories() {
+        List<Category> out = new ArrayList<>();
+        for (int i = 0; i < CATEGORY_NAMES.length; i++) {
+            out.add(Category.builder().id((long) i + 1).name(CATEGORY_NAMES[i]).build());
+        }
+        return out;
+    }
+
+    static List<AiTool> tools(int count) {
+        Random random = new Random(42);
+        List<Category> categories = categories();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<AiTool> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Set<Category> picked = new HashSet<>();
+            int n = 1 + random.nextInt(3);
+            while (picked.size() < n) {
+                picked.add(categories.get(random.nextInt(categories.size())));
+            }
+            LocalDateTime at = base.plusSeconds(random.nextInt(60 * 60 * 24 * 365));
+            out.add(AiTool.builder()
+                    .id((long) i + 1)
+                    .name(phrase(random, 2) + " " + i)
+                    .subTitle(phrase(random, 3))
+                    .origin(random.nextBoolean() ? "국내" : "해외")
+                    .url("https://tool-" + i + ".example.com/")
+                    .logo("/gpt.png")
+                    .description(phrase(random, 25))
+                    .createdAt(at)
+                    .updatedAt(at)
+                    .categories(picked)
+                    .build());
+        }
+        return out;
+    }
+
+    static String phrase(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
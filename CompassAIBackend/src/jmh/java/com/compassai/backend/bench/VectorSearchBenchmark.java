@@ -0,0 +1,70 @@
+package com.compassai.backend.bench;
+
+import com.compassai.backend.domain.catalog.CatalogSnapshot;
+import com.compassai.backend.domain.catalog.ToolFilter;
+import com.compassai.backend.domain.catalog.VectorMath;
+import com.compassai.backend.domain.dto.AiToolResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * mode=similar 벡터 검색 비용
+ * - similarTop20: 검색어 임베딩 + 전체 행 내적 + 상위 20개 (실제 요청 경로)
+ * - scanSimd / scanScalar: 같은 크기(toolCount x 256) 행렬을 SIMD/스칼라 내적으로 한 번 훑는 비용
+ *   (SIMD 쪽은 --add-modules jdk.incubator.vector 가 있어야 실제로 SIMD 를 쓴다. VectorMath.SIMD_ENABLED 참고)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorSearchBenchmark {
+
+    private static final int DIMENSIONS = 256;
+
+    @Param({"10000", "100000"})
+    int toolCount;
+
+    private CatalogSnapshot snapshot;
+    private float[] matrix;
+    private float[] query;
+
+    @Setup
+    public void setUp() {
+        snapshot = CatalogSnapshot.of(SyntheticCatalog.tools(toolCount));
+        Random random = new Random(7);
+        matrix = new float[toolCount * DIMENSIONS];
+        for (int i = 0; i < matrix.length; i++) {
+            matrix[i] = random.nextFloat();
+        }
+        query = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            query[i] = random.nextFloat();
+        }
+    }
+
+    @Benchmark
+    public Page<AiToolResponse> similarTop20() {
+        return snapshot.similar(ToolFilter.NONE, "영상 편집", PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public float scanSimd() {
+        float best = 0f;
+        for (int row = 0; row < toolCount; row++) {
+            best = Math.max(best, VectorMath.dot(query, 0, matrix, row * DIMENSIONS, DIMENSIONS));
+        }
+        return best;
+    }
+
+    @Benchmark
+    public float scanScalar() {
+        float best = 0f;
+        for (int row = 0; row < toolCount; row++) {
+            best = Math.max(best, VectorMath.dotScalar(query, 0, matrix, row * DIMENSIONS, DIMENSIONS));
+        }
+        return best;
+    }
+}
@@ -0,0 +1,58 @@
+package com.compassai.backend.loadtest;
+
+import com.compassai.backend.loadtest.Workload.Endpoint;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 응답 시간 히스토그램 (마이크로초, 유효숫자 3자리)
+ * - 여러 가상 스레드가 동시에 기록하므로 HdrHistogram Recorder 를 쓴다.
+ * - 2xx 응답만 히스토그램에 넣는다. 나머지(429 포함)와 전송 실패는 따로 센다.
+ */
+final class LatencyRecorder {
+
+    // 이보다 긴 응답은 이 값으로 기록한다 (요청 timeout 보다 길다)
+    static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> rejected = new EnumMap<>(Endpoint.class);
+
+    LatencyRecorder() {
+        for (Endpoint e : Endpoint.values()) {
+            recorders.put(e, new Recorder(HIGHEST_MICROS, 3));
+            errors.put(e, new LongAdder());
+            rejected.put(e, new LongAdder());
+        }
+    }
+
+    // status 가 0 이하면 응답을 못 받은 경우다
+    void record(Endpoint endpoint, long micros, int status) {
+        if (status >= 200 && status < 300) {
+            recorders.get(endpoint).recordValue(Math.min(Math.max(micros, 0), HIGHEST_MICROS));
+            return;
+        }
+        errors.get(endpoint).increment();
+        if (status == 429) {
+            rejected.get(endpoint).increment();
+        }
+    }
+
+    // 지금까지 기록한 값을 꺼낸다 (측정 구간이 끝난 뒤 한 번 부른다)
+    Histogram histogram(Endpoint endpoint) {
+        return recorders.get(endpoint).getIntervalHistogram();
+    }
+
+    long errors(Endpoint endpoint) {
+        return errors.get(endpoint).sum();
+    }
+
+    long rejected(Endpoint endpoint) {
+        return rejected.get(endpoint).sum();
+    }
+}
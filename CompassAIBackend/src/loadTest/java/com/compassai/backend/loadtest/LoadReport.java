@@ -0,0 +1,186 @@
+package com.compassai.backend.loadtest;
+
+import com.compassai.backend.loadtest.Workload.Endpoint;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (요청 종류별 처리량과 p50/p90/p99/p99.9/max)
+ * - report.json: 기계가 읽는 결과. 다음 실행 때 -Ploadtest.baseline 으로 넘기면 비교 기준이 된다.
+ * - report.txt: 사람이 읽는 표, {종류}.hgrm: HdrHistogram 백분위 분포 (ms)
+ */
+final class LoadReport {
+
+    // 이보다 적게 나온 요청 종류는 백분위가 흔들리므로 회귀 판정에서 뺀다
+    static final long MIN_SAMPLES = 200;
+
+    // 지연 증가가 비율로는 넘어도 이 값(ms)보다 작으면 측정 잡음으로 본다
+    static final double MIN_DELTA_MS = 0.5;
+
+    // 오류율이 기준보다 이만큼 넘게 오르면 회귀다
+    static final double MAX_ERROR_RATE_INCREASE = 0.01;
+
+    private static final String ALL = "all";
+
+    private final Map<String, Object> config;
+    private final Map<String, Object> environment;
+    private final double seconds;
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, long[]> failures = new EnumMap<>(Endpoint.class);
+
+    LoadReport(Map<String, Object> config, Map<String, Object> environment, LatencyRecorder recorder, double seconds) {
+        this.config = config;
+        this.environment = environment;
+        this.seconds = seconds;
+        for (Endpoint e : Endpoint.values()) {
+            histograms.put(e, recorder.histogram(e));
+            failures.put(e, new long[]{recorder.errors(e), recorder.rejected(e)});
+        }
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Histogram all = new Histogram(LatencyRecorder.HIGHEST_MICROS, 3);
+        long errors = 0;
+        long rejected = 0;
+        for (Endpoint e : Endpoint.values()) {
+            Histogram h = histograms.get(e);
+            long[] f = failures.get(e);
+            if (h.getTotalCount() == 0 && f[0] == 0) {
+                continue;
+            }
+            endpoints.put(e.key(), stats(e.label, h, f[0], f[1]));
+            all.add(h);
+            errors += f[0];
+            rejected += f[1];
+        }
+        endpoints.put(ALL, stats("전체", all, errors, rejected));
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("config", config);
+        out.put("environment", environment);
+        out.put("seconds", round(seconds));
+        out.put("endpoints", endpoints);
+        return out;
+    }
+
+    private Map<String, Object> stats(String label, Histogram h, long errors, long rejected) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("label", label);
+        m.put("count", h.getTotalCount());
+        m.put("errors", errors);
+        m.put("rejected", rejected);
+        m.put("throughput", round(h.getTotalCount() / seconds));
+        m.put("p50Ms", millis(h.getValueAtPercentile(50)));
+        m.put("p90Ms", millis(h.getValueAtPercentile(90)));
+        m.put("p99Ms", millis(h.getValueAtPercentile(99)));
+        m.put("p999Ms", millis(h.getValueAtPercentile(99.9)));
+        m.put("maxMs", millis(h.getMaxValue()));
+        return m;
+    }
+
+    void write(Path dir, ObjectMapper mapper) throws IOException {
+        Files.createDirectories(dir);
+        mapper.writerWithDefaultPrettyPrinter().writeValue(dir.resolve("report.json").toFile(), toMap());
+        Files.write(dir.resolve("report.txt"), table(mapper.valueToTree(toMap())));
+        for (Endpoint e : Endpoint.values()) {
+            Histogram h = histograms.get(e);
+            if (h.getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(e.key() + ".hgrm")), false,
+                    StandardCharsets.UTF_8)) {
+                h.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    static List<String> table(JsonNode report) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-8s %9s %9s %9s %9s %9s %9s %9s %7s %7s",
+                "endpoint", "count", "req/s", "p50", "p90", "p99", "p99.9", "max", "errors", "429"));
+        Iterator<Map.Entry<String, JsonNode>> it = report.path("endpoints").fields();
+        while (it.hasNext()) {
+            Map.Entry<String, JsonNode> e = it.next();
+            JsonNode s = e.getValue();
+            lines.add(String.format("%-8s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d %7d",
+                    e.getKey(), s.path("count").asLong(), s.path("throughput").asDouble(),
+                    s.path("p50Ms").asDouble(), s.path("p90Ms").asDouble(), s.path("p99Ms").asDouble(),
+                    s.path("p999Ms").asDouble(), s.path("maxMs").asDouble(),
+                    s.path("errors").asLong(), s.path("rejected").asLong()));
+        }
+        lines.add("(지연은 ms, " + report.path("seconds").asDouble() + "초 측정)");
+        return lines;
+    }
+
+    /**
+     * baseline 대비 회귀 목록 (비어 있으면 통과)
+     * - p50, p99 가 maxRegression 비율을 넘게 느려졌거나, 처리량이 그만큼 줄었거나, 오류율이 올랐으면 회귀다.
+     * - p99.9 와 max 는 한 번의 GC 에도 크게 흔들리므로 기록만 하고 판정에는 쓰지 않는다.
+     * - 부하 설정(config)이 다르면 비교하지 않고 그 사실을 돌려준다.
+     */
+    static List<String> regressions(JsonNode current, JsonNode baseline, double maxRegression) {
+        List<String> out = new ArrayList<>();
+        if (!current.path("config").equals(baseline.path("config"))) {
+            out.add("부하 설정이 기준 리포트와 달라 비교할 수 없습니다: " + baseline.path("config")
+                    + " -> " + current.path("config"));
+            return out;
+        }
+        Iterator<Map.Entry<String, JsonNode>> it = baseline.path("endpoints").fields();
+        while (it.hasNext()) {
+            Map.Entry<String, JsonNode> e = it.next();
+            JsonNode before = e.getValue();
+            JsonNode after = current.path("endpoints").path(e.getKey());
+            if (after.isMissingNode()
+                    || before.path("count").asLong() < MIN_SAMPLES || after.path("count").asLong() < MIN_SAMPLES) {
+                continue;
+            }
+            for (String p : List.of("p50Ms", "p99Ms")) {
+                double b = before.path(p).asDouble();
+                double a = after.path(p).asDouble();
+                if (a > b * (1 + maxRegression) && a - b > MIN_DELTA_MS) {
+                    out.add(String.format("%s %s: %.2f ms -> %.2f ms (+%.0f%%)",
+                            e.getKey(), p, b, a, (a / b - 1) * 100));
+                }
+            }
+            double bt = before.path("throughput").asDouble();
+            double at = after.path("throughput").asDouble();
+            if (at < bt * (1 - maxRegression)) {
+                out.add(String.format("%s throughput: %.1f/s -> %.1f/s (%.0f%%)",
+                        e.getKey(), bt, at, (at / bt - 1) * 100));
+            }
+            double be = errorRate(before);
+            double ae = errorRate(after);
+            if (ae > be + MAX_ERROR_RATE_INCREASE) {
+                out.add(String.format("%s error rate: %.2f%% -> %.2f%%", e.getKey(), be * 100, ae * 100));
+            }
+        }
+        return out;
+    }
+
+    private static double errorRate(JsonNode s) {
+        double total = s.path("count").asLong() + s.path("errors").asLong();
+        return total == 0 ? 0 : s.path("errors").asLong() / total;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,135 @@
+package com.compassai.backend.loadtest;
+
+import com.compassai.backend.CompassAiBackendApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종단 부하 테스트: 앱 전체를 띄우고 가상 스레드 사용자들로 섞인 요청을 보내 요청 종류별 지연 분포를 잰다
+ * - ./gradlew loadTest 로 실행한다. MySQL 대신 H2(MySQL 모드) 메모리 DB에 schema.sql/data.sql 과 가짜 데이터를 넣는다.
+ * - 워밍업 구간은 버리고 측정 구간만 build/reports/loadtest 에 남긴다.
+ * - -Ploadtest.baseline=이전 report.json 을 주면 비교해서 회귀가 있으면 0이 아닌 코드로 끝난다. (릴리스 게이트)
+ * - 서버와 사용자가 같은 JVM/CPU 를 나눠 쓰므로 절대값보다 같은 머신에서의 실행 간 비교에 쓴다.
+ *
+ * 설정 (시스템 프로퍼티, gradle 에서는 -Ploadtest.xxx):
+ * clients, warmup-seconds, duration-seconds, tools, users, seed, rate(초당 전체 요청 수, 0이면 닫힌 부하), mix,
+ * baseline, max-regression, report-dir
+ */
+public final class LoadTest {
+
+    // DB_CLOSE_DELAY=-1: 시드를 넣은 연결을 닫아도 앱이 같은 DB를 쓰도록 유지한다
+    private static final String DB_URL =
+            "jdbc:h2:mem:compassai-load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final int EXIT_REGRESSION = 2;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("loadtest.clients", 64);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 15);
+        int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+        int tools = Integer.getInteger("loadtest.tools", 20_000);
+        int users = Integer.getInteger("loadtest.users", 1_000);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        int rate = Integer.getInteger("loadtest.rate", 0);
+        String mixSpec = System.getProperty("loadtest.mix", Workload.DEFAULT_MIX);
+        String baseline = System.getProperty("loadtest.baseline", "");
+        double maxRegression = Double.parseDouble(System.getProperty("loadtest.max-regression", "0.10"));
+        Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        if (clients < 1 || users < 1 || durationSeconds < 1) {
+            throw new IllegalArgumentException("clients, users, duration-seconds 는 1 이상이어야 합니다.");
+        }
+
+        System.out.printf("seeding H2: schema.sql + data.sql + %d tools, %d users%n", tools, users);
+        LoadTestDatabase.Seeded data = LoadTestDatabase.seed(DB_URL, tools, users, seed);
+
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(CompassAiBackendApplication.class)
+                .profiles("loadtest")
+                // properties() 는 application.properties 보다 우선순위가 낮으므로 명령행 인자로 넘긴다
+                .run("--spring.datasource.url=" + DB_URL);
+        int code = 0;
+        try {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            Workload workload = new Workload(URI.create("http://localhost:" + port),
+                    data, Workload.parseMix(mixSpec));
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("clients", clients);
+            config.put("warmupSeconds", warmupSeconds);
+            config.put("durationSeconds", durationSeconds);
+            config.put("tools", data.toolIds().length);
+            config.put("users", users);
+            config.put("seed", seed);
+            config.put("rate", rate);
+            config.put("mix", workload.describe());
+
+            Map<String, Object> environment = new LinkedHashMap<>();
+            environment.put("java", System.getProperty("java.version"));
+            environment.put("cpus", Runtime.getRuntime().availableProcessors());
+            environment.put("maxHeapMb", Runtime.getRuntime().maxMemory() >> 20);
+
+            System.out.printf("%d clients, %ds warmup + %ds measured, %s%n", clients, warmupSeconds,
+                    durationSeconds, rate > 0 ? rate + " req/s" : "closed loop");
+            LatencyRecorder recorder = drive(workload, clients, seed, rate, warmupSeconds, durationSeconds);
+
+            ObjectMapper mapper = new ObjectMapper();
+            new LoadReport(config, environment, recorder, durationSeconds).write(reportDir, mapper);
+            // 파일에서 다시 읽어야 숫자 타입까지 기준 리포트와 똑같이 비교된다
+            JsonNode current = mapper.readTree(reportDir.resolve("report.json").toFile());
+            LoadReport.table(current).forEach(System.out::println);
+            System.out.println("report: " + reportDir.toAbsolutePath());
+
+            if (!baseline.isBlank()) {
+                List<String> regressions = LoadReport.regressions(current,
+                        mapper.readTree(Path.of(baseline).toFile()), maxRegression);
+                if (regressions.isEmpty()) {
+                    System.out.printf("no regression against %s (max %.0f%%)%n", baseline, maxRegression * 100);
+                } else {
+                    System.out.println("REGRESSION against " + baseline + ":");
+                    regressions.forEach(r -> System.out.println("  " + r));
+                    code = EXIT_REGRESSION;
+                }
+            }
+        } finally {
+            app.close();
+        }
+        System.exit(code);
+    }
+
+    private static LatencyRecorder drive(Workload workload, int clients, long seed, int rate,
+                                         int warmupSeconds, int durationSeconds) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        // 열린 부하면 사용자마다 clients / rate 초 간격으로 보낸다
+        long interval = rate > 0 ? TimeUnit.SECONDS.toNanos(clients) / rate : 0;
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long until = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        // 사용자들은 until 이 지나면 스스로 끝나고, close 는 모두 끝날 때까지 기다린다
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                users.execute(new VirtualUser(i, http, workload, recorder, seed, interval, measureFrom, until));
+            }
+        }
+        return recorder;
+    }
+}
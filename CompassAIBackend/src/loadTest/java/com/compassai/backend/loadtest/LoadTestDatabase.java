@@ -0,0 +1,227 @@
+package com.compassai.backend.loadtest;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 H2(MySQL 모드) 메모리 DB를 만든다
+ * - 운영과 같은 sql/schema.sql, sql/data.sql 을 읽어 H2 가 모르는 MySQL 전용 구문만 바꿔 실행한다.
+ * - 그 위에 가짜 툴/카테고리 매핑/회원을 더 넣어 운영 규모로 키운다. 시드가 같으면 항상 같은 데이터가 들어간다.
+ */
+final class LoadTestDatabase {
+
+    static final String USER_PASSWORD = "loadtest1234";
+
+    // application.properties 의 compassai.auth.bcrypt-strength 와 같아야 로그인 때 다시 해시하지 않는다
+    private static final int BCRYPT_STRENGTH = 10;
+
+    private static final int BATCH_SIZE = 1000;
+
+    static final String[] WORDS = {
+            "챗", "지피티", "이미지", "영상", "편집", "음악", "생성", "검색", "번역", "요약",
+            "chat", "video", "image", "music", "writer", "search", "studio", "assistant", "code", "agent"
+    };
+
+    private LoadTestDatabase() {
+    }
+
+    /**
+     * @param extraTools seed 데이터 외에 더 넣을 툴 수
+     * @param users      로그인용 회원 수 (비밀번호는 모두 USER_PASSWORD)
+     */
+    static Seeded seed(String url, int extraTools, int users, long seed) throws SQLException, IOException {
+        try (Connection con = DriverManager.getConnection(url, "sa", "")) {
+            runScript(con, "sql/schema.sql");
+            runScript(con, "sql/data.sql");
+
+            List<Long> categoryIds = new ArrayList<>();
+            List<String> categoryNames = new ArrayList<>();
+            try (Statement st = con.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT id, name FROM category ORDER BY id")) {
+                while (rs.next()) {
+                    categoryIds.add(rs.getLong(1));
+                    categoryNames.add(rs.getString(2));
+                }
+            }
+
+            con.setAutoCommit(false);
+            insertTools(con, extraTools, categoryIds, new Random(seed));
+            insertUsers(con, users);
+            con.commit();
+
+            List<Long> toolIds = new ArrayList<>();
+            try (Statement st = con.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT id FROM ai_tool ORDER BY id")) {
+                while (rs.next()) {
+                    toolIds.add(rs.getLong(1));
+                }
+            }
+            return new Seeded(toolIds.stream().mapToLong(Long::longValue).toArray(), List.copyOf(categoryNames), users);
+        }
+    }
+
+    static String userEmail(int n) {
+        return "load-user-" + n + "@compassai.test";
+    }
+
+    /**
+     * MySQL 스크립트를 H2 MySQL 모드가 읽을 수 있게 바꾼다
+     * - CREATE DATABASE / USE: 접속 URL 이 이미 DB를 고른다
+     * - ENGINE=InnoDB: 테이블 옵션은 뺀다
+     * - INSERT ... AS new ON DUPLICATE KEY UPDATE c = new.c (MySQL 8.0.19 행 별칭) -> c = VALUES(c)
+     */
+    static String toH2(String sql) {
+        return sql
+                .replaceAll("(?is)CREATE\\s+DATABASE\\b.*?;", "")
+                .replaceAll("(?im)^\\s*USE\\s+\\w+\\s*;", "")
+                .replaceAll("(?i)\\)\\s*ENGINE\\s*=\\s*\\w+", ")")
+                .replaceAll("(?i)\\bAS\\s+new\\s+ON\\s+DUPLICATE", "ON DUPLICATE")
+                .replaceAll("(?i)=\\s*new\\.(\\w+)", "= VALUES($1)");
+    }
+
+    private static void runScript(Connection con, String path) throws IOException {
+        String sql = new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+        ScriptUtils.executeSqlScript(con, new EncodedResource(
+                new ByteArrayResource(toH2(sql).getBytes(StandardCharsets.UTF_8), path), StandardCharsets.UTF_8));
+    }
+
+    // 실제 카탈로그처럼 앞쪽 카테고리에 툴이 더 몰리도록 1/(순위+1) 비율로 1~3개를 고른다
+    private static void insertTools(Connection con, int count, List<Long> categoryIds, Random random)
+            throws SQLException {
+        long before;
+        try (Statement st = con.createStatement();
+             ResultSet rs = st.executeQuery("SELECT COALESCE(MAX(id), 0) FROM ai_tool")) {
+            rs.next();
+            before = rs.getLong(1);
+        }
+
+        double[] cumulative = new double[categoryIds.size()];
+        double sum = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            sum += 1.0 / (i + 1);
+            cumulative[i] = sum;
+        }
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<long[]> picks = new ArrayList<>(count);
+        try (PreparedStatement ps = con.prepareStatement("""
+                INSERT INTO ai_tool (name, sub_title, origin, url, logo, description, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (int i = 0; i < count; i++) {
+                Timestamp at = Timestamp.valueOf(base.plusSeconds(random.nextInt(60 * 60 * 24 * 365)));
+                ps.setString(1, phrase(random, 2) + " " + i);
+                ps.setString(2, phrase(random, 3));
+                ps.setString(3, random.nextInt(10) < 3 ? "국내" : "해외");
+                ps.setString(4, "https://tool-" + i + ".loadtest.example.com/");
+                ps.setString(5, "/gpt.png");
+                ps.setString(6, phrase(random, 10 + random.nextInt(20)));
+                ps.setTimestamp(7, at);
+                ps.setTimestamp(8, at);
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+
+                int n = 1 + random.nextInt(3);
+                long[] picked = new long[n];
+                int filled = 0;
+                while (filled < n) {
+                    long id = categoryIds.get(weighted(cumulative, random));
+                    boolean dup = false;
+                    for (int k = 0; k < filled; k++) {
+                        dup |= picked[k] == id;
+                    }
+                    if (!dup) {
+                        picked[filled++] = id;
+                    }
+                }
+                picks.add(picked);
+            }
+            ps.executeBatch();
+        }
+
+        // AUTO_INCREMENT 는 넣은 순서대로 커지므로 before 이후 id 를 순서대로 picks 와 맞춘다
+        try (PreparedStatement ids = con.prepareStatement("SELECT id FROM ai_tool WHERE id > ? ORDER BY id");
+             PreparedStatement ps = con.prepareStatement(
+                     "INSERT INTO ai_tool_category (tool_id, category_id) VALUES (?, ?)")) {
+            ids.setLong(1, before);
+            try (ResultSet rs = ids.executeQuery()) {
+                int i = 0;
+                int rows = 0;
+                while (rs.next()) {
+                    for (long categoryId : picks.get(i)) {
+                        ps.setLong(1, rs.getLong(1));
+                        ps.setLong(2, categoryId);
+                        ps.addBatch();
+                        if (++rows % BATCH_SIZE == 0) {
+                            ps.executeBatch();
+                        }
+                    }
+                    i++;
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    // 회원마다 해시하면 수천 명에 수십 초가 걸리므로 해시 하나를 같이 쓴다
+    private static void insertUsers(Connection con, int count) throws SQLException {
+        String hash = new BCryptPasswordEncoder(BCRYPT_STRENGTH).encode(USER_PASSWORD);
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO users (name, email, password, role) VALUES (?, ?, ?, 'USER')")) {
+            for (int i = 0; i < count; i++) {
+                ps.setString(1, "부하" + i);
+                ps.setString(2, userEmail(i));
+                ps.setString(3, hash);
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private static int weighted(double[] cumulative, Random random) {
+        double x = random.nextDouble() * cumulative[cumulative.length - 1];
+        for (int i = 0; i < cumulative.length; i++) {
+            if (x < cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+
+    static String phrase(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    // 부하를 만들 때 필요한 시드 결과 (툴 id 는 오름차순)
+    record Seeded(long[] toolIds, List<String> categories, int users) {
+    }
+}
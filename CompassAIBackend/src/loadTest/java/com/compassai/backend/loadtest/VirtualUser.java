@@ -0,0 +1,116 @@
+package com.compassai.backend.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 가상 스레드 하나에서 도는 사용자
+ * - 시작할 때 로그인해 세션 쿠키를 받아 두고, 이후 Set-Cookie 를 따라 쿠키를 바꾼다.
+ * - intervalNanos 가 0이면 응답을 받자마자 다음 요청을 보낸다. (닫힌 부하)
+ * - 0보다 크면 정해진 간격으로 보내고, 응답 시간을 "보냈어야 할 시각"부터 잰다.
+ *   서버가 밀려 요청이 늦게 나간 시간까지 포함하므로 밀린 구간의 지연이 p99 에서 빠지지 않는다. (coordinated omission 보정)
+ */
+final class VirtualUser implements Runnable {
+
+    private final int id;
+    private final HttpClient http;
+    private final Workload workload;
+    private final LatencyRecorder recorder;
+    private final Random random;
+    private final long intervalNanos;
+    private final long measureFrom;
+    private final long until;
+
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+
+    VirtualUser(int id, HttpClient http, Workload workload, LatencyRecorder recorder, long seed,
+                long intervalNanos, long measureFrom, long until) {
+        this.id = id;
+        this.http = http;
+        this.workload = workload;
+        this.recorder = recorder;
+        this.random = new Random(seed * 31 + id);
+        this.intervalNanos = intervalNanos;
+        this.measureFrom = measureFrom;
+        this.until = until;
+    }
+
+    @Override
+    public void run() {
+        try {
+            send(workload.login(random.nextInt(workload.users())));
+            // 사용자들이 한꺼번에 보내지 않도록 첫 요청 시각을 간격 안에서 흩어 놓는다
+            long next = System.nanoTime() + (intervalNanos > 0 ? (long) (random.nextDouble() * intervalNanos) : 0);
+            for (long seq = 0; ; seq++) {
+                long intended;
+                if (intervalNanos > 0) {
+                    intended = next;
+                    next += intervalNanos;
+                    long wait = intended - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                } else {
+                    intended = System.nanoTime();
+                }
+                if (intended - until >= 0) {
+                    return;
+                }
+
+                Workload.Call call = workload.next(random, id, seq);
+                int status = send(call.request());
+                long micros = (System.nanoTime() - intended) / 1_000;
+                if (intended - measureFrom >= 0) {
+                    recorder.record(call.endpoint(), micros, status);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 응답 상태 코드. 연결/timeout 실패는 -1
+    private int send(HttpRequest.Builder request) throws InterruptedException {
+        if (!cookies.isEmpty()) {
+            StringBuilder header = new StringBuilder();
+            cookies.forEach((name, value) -> {
+                if (!header.isEmpty()) {
+                    header.append("; ");
+                }
+                header.append(name).append('=').append(value);
+            });
+            request.setHeader("Cookie", header.toString());
+        }
+        try {
+            HttpResponse<Void> res = http.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            for (String setCookie : res.headers().allValues("set-cookie")) {
+                remember(setCookie);
+            }
+            return res.statusCode();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    // "name=value; Path=/; Max-Age=0" -> 값이 비었거나 만료면 지운다
+    private void remember(String setCookie) {
+        String pair = setCookie.split(";", 2)[0];
+        int eq = pair.indexOf('=');
+        if (eq <= 0) {
+            return;
+        }
+        String name = pair.substring(0, eq).trim();
+        String value = pair.substring(eq + 1).trim();
+        if (value.isEmpty() || setCookie.toLowerCase().contains("max-age=0")) {
+            cookies.remove(name);
+        } else {
+            cookies.put(name, value);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.compassai.backend.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 가상 사용자가 보내는 요청 종류와 비율
+ * - 비율은 "list=40,search=15,..." 형식으로 바꿀 수 있다. 빠진 종류는 보내지 않는다.
+ * - 어떤 요청을 보낼지는 사용자별 Random 으로만 정하므로 시드가 같으면 요청 순서도 같다.
+ */
+final class Workload {
+
+    static final String DEFAULT_MIX = "list=40,search=15,detail=25,me=12,login=6,signup=2";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] ORIGINS = {"국내", "해외"};
+
+    enum Endpoint {
+        LIST("GET /api/tools?category&origin"),
+        SEARCH("GET /api/tools?q"),
+        DETAIL("GET /api/tools/{id}"),
+        LOGIN("POST /api/auth/login"),
+        SIGNUP("POST /api/auth/signup"),
+        ME("GET /api/auth/me");
+
+        final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+
+        String key() {
+            return name().toLowerCase();
+        }
+    }
+
+    record Call(Endpoint endpoint, HttpRequest.Builder request) {
+    }
+
+    private final URI base;
+    private final LoadTestDatabase.Seeded data;
+    private final Map<Endpoint, Integer> mix;
+    private final Endpoint[] endpoints;
+    private final int[] cumulative;
+
+    Workload(URI base, LoadTestDatabase.Seeded data, Map<Endpoint, Integer> mix) {
+        this.base = base;
+        this.data = data;
+        this.mix = mix;
+        List<Endpoint> names = new ArrayList<>();
+        List<Integer> sums = new ArrayList<>();
+        int sum = 0;
+        for (Map.Entry<Endpoint, Integer> e : mix.entrySet()) {
+            if (e.getValue() > 0) {
+                sum += e.getValue();
+                names.add(e.getKey());
+                sums.add(sum);
+            }
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("요청 비율이 모두 0입니다.");
+        }
+        this.endpoints = names.toArray(new Endpoint[0]);
+        this.cumulative = sums.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    static Map<Endpoint, Integer> parseMix(String spec) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("잘못된 요청 비율: " + part);
+            }
+            mix.put(Endpoint.valueOf(kv[0].trim().toUpperCase()), Integer.parseInt(kv[1].trim()));
+        }
+        return mix;
+    }
+
+    // 리포트에 남기는 비율 (리포트끼리 비교할 때 같은 부하인지 확인한다)
+    Map<String, Integer> describe() {
+        Map<String, Integer> out = new LinkedHashMap<>();
+        mix.forEach((endpoint, weight) -> out.put(endpoint.key(), weight));
+        return out;
+    }
+
+    int users() {
+        return data.users();
+    }
+
+    // 로그인 상태로 시작하도록 사용자마다 처음 한 번 보낸다 (측정하지 않는다)
+    HttpRequest.Builder login(int user) {
+        return post("/api/auth/login",
+                "{\"email\":\"" + LoadTestDatabase.userEmail(user) + "\",\"password\":\""
+                        + LoadTestDatabase.USER_PASSWORD + "\"}");
+    }
+
+    Call next(Random random, int client, long seq) {
+        int x = random.nextInt(cumulative[cumulative.length - 1]);
+        int i = 0;
+        while (x >= cumulative[i]) {
+            i++;
+        }
+        Endpoint endpoint = endpoints[i];
+        return new Call(endpoint, switch (endpoint) {
+            case LIST -> get(listQuery(random));
+            case SEARCH -> get(searchQuery(random));
+            case DETAIL -> get("/api/tools/" + popularTool(random));
+            case LOGIN -> login(random.nextInt(data.users()));
+            case SIGNUP -> post("/api/auth/signup",
+                    "{\"name\":\"부하" + client + "\",\"email\":\"signup-" + client + "-" + seq
+                            + "@compassai.test\",\"password\":\"" + LoadTestDatabase.USER_PASSWORD + "\"}");
+            case ME -> get("/api/auth/me");
+        });
+    }
+
+    // 카테고리 하나(70%)/둘(10%)/없음, 출처 필터 25%, 대부분 첫 페이지, 4번에 1번은 패싯까지
+    private String listQuery(Random random) {
+        StringBuilder q = new StringBuilder("/api/tools?size=20");
+        int roll = random.nextInt(10);
+        if (roll < 8) {
+            q.append("&category=").append(category(random));
+        }
+        if (roll == 7) {
+            q.append("&category=").append(category(random));
+        }
+        if (random.nextInt(4) == 0) {
+            q.append("&origin=").append(encode(ORIGINS[random.nextInt(ORIGINS.length)]));
+        }
+        q.append("&page=").append(page(random));
+        if (random.nextInt(4) == 0) {
+            q.append("&facets=true");
+        }
+        return q.toString();
+    }
+
+    // 검색어 한두 단어, 다섯 번에 한 번은 카테고리와 함께
+    private String searchQuery(Random random) {
+        String words = LoadTestDatabase.phrase(random, 1 + random.nextInt(2));
+        StringBuilder q = new StringBuilder("/api/tools?size=20&q=").append(encode(words));
+        if (random.nextInt(5) == 0) {
+            q.append("&category=").append(category(random));
+        }
+        q.append("&page=").append(page(random));
+        return q.toString();
+    }
+
+    // 앞쪽(seed 데이터와 오래된 툴) id 가 더 자주 나오도록 치우치게 고른다
+    private long popularTool(Random random) {
+        long[] ids = data.toolIds();
+        double u = random.nextDouble();
+        return ids[(int) (ids.length * u * u * u)];
+    }
+
+    private String category(Random random) {
+        List<String> names = data.categories();
+        return encode(names.get(random.nextInt(names.size())));
+    }
+
+    private static int page(Random random) {
+        return random.nextInt(10) < 7 ? 0 : 1 + random.nextInt(4);
+    }
+
+    private HttpRequest.Builder get(String pathAndQuery) {
+        return HttpRequest.newBuilder(base.resolve(pathAndQuery))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                // 브라우저처럼 압축 응답을 받는다 (목록은 미리 압축해 둔 캐시를 쓴다)
+                .header("Accept-Encoding", "gzip")
+                .GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8));
+    }
+
+    private static String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+}
@@ -4,6 +4,7 @@ import com.compassai.backend.auth.dto.UserLoginRequest;
 import com.compassai.backend.auth.dto.UserLoginResponse;
 import com.compassai.backend.auth.dto.UserSignupRequest;
 import com.compassai.backend.auth.dto.UserSignupResponse;
+import com.compassai.backend.auth.session.LoginSessionStore;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -12,8 +13,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -30,18 +32,18 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AuthController {
 
-    // 세션에 사용자 정보를 저장할 때 사용하는 키
-    private static final String SESSION_USER_KEY = "user";
-
     // 리프레시 토큰을 저장하는 쿠키 이름
     private static final String REFRESH_COOKIE = "REFRESH_TOKEN";
 
     private final AuthService authService;
 
+    // 로그인 상태 보관 방식 (HttpSession 또는 서명 토큰 쿠키)
+    private final LoginSessionStore sessions;
+
     /**
      * 회원가입
      * - 이름, 이메일, 비밀번호로 신규 회원을 등록한다.
-     * - 성공 시 세션에 사용자 정보를 저장하고 응답으로 돌려준다.
+     * - 성공 시 로그인 상태로 만들고 응답으로 돌려준다.
      */
     @Operation(
             summary = "회원가입",
@@ -65,26 +67,30 @@ public class AuthController {
     @PostMapping("/signup")
     public ResponseEntity<?> signup(
             @org.springframework.web.bind.annotation.RequestBody UserSignupRequest req,
-            HttpSession session
+            HttpServletRequest httpReq,
+            HttpServletResponse httpRes
     ) {
         try {
             // 서비스 계층에 회원가입을 요청한다.
             UserSignupResponse res = authService.signup(req);
 
-            // 회원가입이 성공하면 자동으로 로그인 처리한다.
-            session.setAttribute(SESSION_USER_KEY, res);
+            // 회원가입이 성공하면 자동으로 로그인 처리한다. (가입은 항상 일반 유저 권한이다)
+            sessions.save(httpReq, httpRes,
+                    new UserLoginResponse(res.getId(), res.getName(), res.getEmail(), Role.USER));
 
             return ResponseEntity.ok(res);
         } catch (IllegalArgumentException e) {
             // 예: 이메일 중복 등의 경우 400으로 에러 메시지를 반환한다.
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (PasswordHashingBusyException e) {
+            return tooManyRequests(e);
         }
     }
 
     /**
      * 로그인
      * - 이메일과 비밀번호로 로그인한다.
-     * - 성공 시 세션ID를 재발급하고, 세션에 사용자 정보를 저장한다.
+     * - 성공 시 세션ID를 재발급하고 세션에 사용자 정보를 저장한다. (토큰 모드에서는 서명 쿠키를 발급한다)
      */
     @Operation(
             summary = "로그인",
@@ -108,28 +114,27 @@ public class AuthController {
     public ResponseEntity<?> login(
             @org.springframework.web.bind.annotation.RequestBody UserLoginRequest req,
             HttpServletRequest httpReq,
-            HttpSession session
+            HttpServletResponse httpRes
     ) {
         try {
             // 서비스 계층에 로그인 처리를 요청한다.
             UserLoginResponse res = authService.login(req);
 
-            // 세션 고정 공격을 막기 위해 로그인 직후 세션ID를 재발급한다.
-            httpReq.changeSessionId();
-
-            // 필요한 최소 정보만 세션에 저장한다.
-            session.setAttribute(SESSION_USER_KEY, res);
+            // 로그인 상태를 저장한다.
+            sessions.save(httpReq, httpRes, res);
 
             return ResponseEntity.ok(res);
         } catch (IllegalArgumentException e) {
             // 이메일 또는 비밀번호가 틀린 경우 401을 반환한다.
             return ResponseEntity.status(401).body(e.getMessage());
+        } catch (PasswordHashingBusyException e) {
+            return tooManyRequests(e);
         }
     }
 
     /**
      * 현재 로그인된 사용자 조회
-     * - 세션에 저장된 사용자 정보가 있으면 그대로 반환한다.
+     * - 세션(또는 토큰)에 저장된 사용자 정보가 있으면 그대로 반환한다.
      * - 없으면 null을 반환한다.
      */
     @Operation(
@@ -137,8 +142,8 @@ public class AuthController {
             description = "로그인되어 있으면 사용자 정보를, 아니면 null을 반환합니다."
     )
     @GetMapping("/me")
-    public ResponseEntity<?> me(HttpSession session) {
-        Object user = session.getAttribute(SESSION_USER_KEY);
+    public ResponseEntity<?> me(HttpServletRequest httpReq) {
+        UserLoginResponse user = sessions.current(httpReq);
         // 로그인하지 않은 경우에도 200 응답에 null을 담아 보낸다.
         return ResponseEntity.ok(user);
     }
@@ -152,9 +157,9 @@ public class AuthController {
             description = "세션을 종료하고 리프레시 쿠키를 삭제합니다."
     )
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpSession session, HttpServletResponse response) {
-        // 세션 전체를 무효화한다.
-        session.invalidate();
+    public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response) {
+        // 세션 전체를 무효화한다. (토큰 모드에서는 토큰을 폐기하고 쿠키를 지운다)
+        sessions.clear(request, response);
 
         // 리프레시 토큰 쿠키를 즉시 만료시킨다.
         expireCookie(response, REFRESH_COOKIE);
@@ -165,6 +170,13 @@ public class AuthController {
         return ResponseEntity.ok().build();
     }
 
+    // 내부 유틸: 비밀번호 해시 실행기가 꽉 찼을 때 429와 재시도 간격을 알려 준다.
+    private ResponseEntity<?> tooManyRequests(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+
     // 내부 유틸: 같은 이름의 쿠키를 0초로 설정해 즉시 만료 처리한다.
     private void expireCookie(HttpServletResponse response, String name) {
         Cookie c = new Cookie(name, "");
@@ -0,0 +1,194 @@
+package com.compassai.backend.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * /api/auth/login, /api/auth/signup 요청 수 제한 필터
+ * - 클라이언트 IP별, 정규화한 이메일별로 토큰 버킷을 두고 둘 중 하나라도 비면 429를 돌려준다.
+ * - IP 는 request.getRemoteAddr() 이다. 프록시 뒤에서는 server.forward-headers-strategy=native 로
+ *   신뢰하는 프록시가 넘긴 X-Forwarded-For 값이 들어온다. (설정이 없으면 모든 사용자가 프록시 IP 버킷 하나를 나눠 쓴다)
+ * - 서비스 계층(BCrypt, findByEmail/existsByEmail)에 닿기 전에 거절하는 것이 목적이다.
+ * - 이메일을 꺼내려고 읽은 본문은 다시 읽을 수 있게 감싸서 컨트롤러로 넘긴다.
+ */
+@Component
+@ConditionalOnProperty(name = "compassai.auth.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> LIMITED_PATHS = Set.of("/api/auth/login", "/api/auth/signup");
+
+    // 로그인/회원가입 본문은 작다. 이보다 크면 413으로 거절한다
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final TokenBucketRateLimiter byIp;
+    private final TokenBucketRateLimiter byEmail;
+    private final ObjectMapper objectMapper;
+    private final Counter ipRejected;
+    private final Counter emailRejected;
+
+    public AuthRateLimitFilter(ObjectMapper objectMapper,
+                               MeterRegistry registry,
+                               @Value("${compassai.auth.rate-limit.ip.capacity:20}") int ipCapacity,
+                               @Value("${compassai.auth.rate-limit.ip.refill-per-minute:20}") int ipRefill,
+                               @Value("${compassai.auth.rate-limit.email.capacity:5}") int emailCapacity,
+                               @Value("${compassai.auth.rate-limit.email.refill-per-minute:5}") int emailRefill,
+                               @Value("${compassai.auth.rate-limit.max-keys:100000}") int maxKeys) {
+        this.objectMapper = objectMapper;
+        this.byIp = new TokenBucketRateLimiter(ipCapacity, ipRefill, maxKeys);
+        this.byEmail = new TokenBucketRateLimiter(emailCapacity, emailRefill, maxKeys);
+        this.ipRejected = Counter.builder("compassai.auth.rate-limit.rejected").tag("key", "ip").register(registry);
+        this.emailRejected = Counter.builder("compassai.auth.rate-limit.rejected").tag("key", "email").register(registry);
+        registry.gauge("compassai.auth.rate-limit.keys", this, f -> f.byIp.size() + f.byEmail.size());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !LIMITED_PATHS.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long wait = byIp.tryAcquire(request.getRemoteAddr());
+        if (wait > 0) {
+            ipRejected.increment();
+            reject(response, wait);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+        String email = emailOf(body);
+        if (email != null) {
+            wait = byEmail.tryAcquire(email);
+            if (wait > 0) {
+                emailRejected.increment();
+                reject(response, wait);
+                return;
+            }
+        }
+        chain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    // 오래 쓰이지 않은 키를 정리한다
+    @Scheduled(fixedDelayString = "${compassai.auth.rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        byIp.evictIdle();
+        byEmail.evictIdle();
+    }
+
+    private void reject(HttpServletResponse response, long waitMillis) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8");
+        response.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private String emailOf(byte[] body) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            JsonNode email = (node != null) ? node.get("email") : null;
+            return (email != null && email.isTextual()) ? AuthService.normalizeEmail(email.asText()) : null;
+        } catch (IOException e) {
+            // 잘못된 JSON이면 컨트롤러가 400으로 처리한다
+            return null;
+        }
+    }
+
+    // 이미 읽은 본문을 다시 읽을 수 있게 돌려주는 요청 래퍼
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 다 있으므로 바로 읽을 수 있다고 알리고 끝을 알린다
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    Objects.requireNonNull(listener, "listener");
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -4,11 +4,10 @@ import com.compassai.backend.auth.dto.UserLoginRequest;
 import com.compassai.backend.auth.dto.UserLoginResponse;
 import com.compassai.backend.auth.dto.UserSignupRequest;
 import com.compassai.backend.auth.dto.UserSignupResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Locale;
 
@@ -17,10 +16,11 @@ import java.util.Locale;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
     // 회원가입 처리
-    @Transactional
+    // 해시하는 동안 DB 커넥션을 잡고 있지 않도록 메서드 전체를 트랜잭션으로 묶지 않는다
+    @Timed(value = "compassai.auth.signup", histogram = true)
     public UserSignupResponse signup(UserSignupRequest request) {
         // 이메일은 소문자+trim으로 정규화해서 저장한다
         String email = normalizeEmail(request.getEmail());
@@ -33,7 +33,7 @@ public class AuthService {
         User user = new User();
         user.setName(request.getName());
         user.setEmail(email);
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHasher.encode(request.getPassword()));
         user.setRole(Role.USER); // 회원가입은 항상 일반 유저 권한으로 생성한다
 
         try {
@@ -46,22 +46,38 @@ public class AuthService {
     }
 
     // 로그인 처리
-    @Transactional(readOnly = true)
+    // 비밀번호 검증은 조회 트랜잭션이 끝난 뒤에 하므로 커넥션을 붙잡지 않는다
+    @Timed(value = "compassai.auth.login", histogram = true)
     public UserLoginResponse login(UserLoginRequest request) {
         String email = normalizeEmail(request.getEmail());
 
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다."));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
 
-        return new UserLoginResponse(user.getId(), user.getName(), user.getEmail());
+        // 설정된 cost 가 바뀌었으면 방금 확인한 평문으로 다시 해시해 둔다
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            rehash(user, request.getPassword());
+        }
+
+        return new UserLoginResponse(user.getId(), user.getName(), user.getEmail(), user.getRole());
+    }
+
+    // 재해시는 로그인 성공에 영향을 주지 않는다. 실행기가 바쁘면 다음 로그인 때 다시 시도한다
+    private void rehash(User user, String rawPassword) {
+        try {
+            String newHash = passwordHasher.encode(rawPassword);
+            // 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않는다
+            userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), newHash);
+        } catch (PasswordHashingBusyException ignored) {
+        }
     }
 
-    // 이메일을 한 번 정규화해서 쓰기 위한 유틸 메서드
-    private String normalizeEmail(String raw) {
+    // 이메일을 한 번 정규화해서 쓰기 위한 유틸 메서드 (AuthRateLimitFilter 도 같은 규칙으로 키를 만든다)
+    static String normalizeEmail(String raw) {
         if (raw == null) {
             return null;
         }
@@ -0,0 +1,9 @@
+package com.compassai.backend.auth;
+
+// 비밀번호 해시 실행기가 꽉 차서 요청을 받을 수 없을 때 던진다 (컨트롤러에서 429로 바꾼다)
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("요청이 많아 잠시 후 다시 시도해 주세요.");
+    }
+}
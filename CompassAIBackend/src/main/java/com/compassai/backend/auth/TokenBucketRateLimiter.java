@@ -0,0 +1,160 @@
+package com.compassai.backend.auth;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(IP, 이메일 등)별 토큰 버킷
+ * - 버킷 상태는 long 하나에 (마지막 충전 시각 ms << 22 | 남은 토큰 * 1000) 으로 넣고 CAS 로만 바꾼다. (락 없음)
+ * - 키는 해시로 나눈 여러 stripe 에 흩어 두어, 유휴 키 정리와 크기 제한을 stripe 단위로 나눠 처리한다.
+ * - 버킷이 가득 찰 만큼 오래 쓰이지 않은 키는 새 버킷과 같으므로 지워도 결과가 같다.
+ * - stripe 가 최대 키 수에 닿으면 새 키들은 stripe 마다 하나 있는 공용(overflow) 버킷을 같이 쓴다.
+ *   그래서 서로 다른 키가 수백만 개 들어와도 메모리는 일정하게 유지된다.
+ * - 가득 찬 stripe 를 요청 경로에서 훑는 것은 stripe 마다 EVICT_INTERVAL_MILLIS 에 한 번(시각 CAS 를 이긴 요청)뿐이다.
+ *   나머지 새 키는 훑지 않고 바로 overflow 버킷으로 보낸다. (정리는 주로 주기 호출 evictIdle() 이 맡는다)
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int TOKEN_BITS = 22;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI = 1000;
+    private static final long EVICT_INTERVAL_MILLIS = 1000;
+
+    private final long capacity;        // milli-token 단위
+    private final long refillPerMinute; // 분당 충전되는 토큰 수
+    private final long fullRefillMillis;
+    private final int maxKeysPerStripe;
+    private final ConcurrentHashMap<String, Bucket>[] stripes;
+    private final Bucket[] overflow;
+    private final AtomicLong[] lastEviction;
+    private final LongSupplier clock;
+    private final long base;
+
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys) {
+        this(capacity, refillPerMinute, maxKeys, System::currentTimeMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys, LongSupplier clock) {
+        if (capacity < 1 || capacity * MILLI > TOKEN_MASK) {
+            throw new IllegalArgumentException("capacity는 1 이상 " + (TOKEN_MASK / MILLI) + " 이하여야 합니다.");
+        }
+        if (refillPerMinute < 1) {
+            throw new IllegalArgumentException("refill-per-minute는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity * MILLI;
+        this.refillPerMinute = refillPerMinute;
+        this.fullRefillMillis = (this.capacity * 60 + refillPerMinute - 1) / refillPerMinute;
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(64, Runtime.getRuntime().availableProcessors() * 4)));
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        this.overflow = new Bucket[stripeCount];
+        this.lastEviction = new AtomicLong[stripeCount];
+        this.clock = clock;
+        this.base = clock.getAsLong();
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+            overflow[i] = new Bucket(pack(0, this.capacity));
+            lastEviction[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * 토큰 하나를 꺼낸다.
+     * @return 0 이면 허용, 0보다 크면 다음 토큰이 생길 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong() - base;
+        int s = stripe(key);
+        ConcurrentHashMap<String, Bucket> map = stripes[s];
+        Bucket bucket = map.get(key);
+        if (bucket == null) {
+            if (map.size() >= maxKeysPerStripe && claimEviction(s, now)) {
+                evictIdle(map, now);
+            }
+            bucket = (map.size() < maxKeysPerStripe)
+                    ? map.computeIfAbsent(key, k -> new Bucket(pack(now, capacity)))
+                    : overflow[s];
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    // 가득 찰 만큼 오래 쓰이지 않은 버킷을 지운다 (주기적으로 호출)
+    public void evictIdle() {
+        long now = clock.getAsLong() - base;
+        for (ConcurrentHashMap<String, Bucket> map : stripes) {
+            evictIdle(map, now);
+        }
+    }
+
+    public int size() {
+        int n = 0;
+        for (ConcurrentHashMap<String, Bucket> map : stripes) {
+            n += map.size();
+        }
+        return n;
+    }
+
+    // 지우는 순간 다른 스레드가 같은 버킷에서 토큰을 꺼냈다면 그 한 번은 기록되지 않는다. (버킷이 가득 찬 상태라 영향이 작다)
+    private void evictIdle(ConcurrentHashMap<String, Bucket> map, long now) {
+        map.values().removeIf(b -> now - (b.get() >>> TOKEN_BITS) >= fullRefillMillis);
+    }
+
+    // 이 stripe 를 지난 정리 뒤 EVICT_INTERVAL_MILLIS 가 지났으면 한 요청만 true 를 받는다
+    private boolean claimEviction(int s, long now) {
+        long last = lastEviction[s].get();
+        return now - last >= EVICT_INTERVAL_MILLIS && lastEviction[s].compareAndSet(last, now);
+    }
+
+    private int stripe(String key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return h & (stripes.length - 1);
+    }
+
+    private static long pack(long at, long tokens) {
+        return (at << TOKEN_BITS) | tokens;
+    }
+
+    private final class Bucket extends AtomicLong {
+
+        Bucket(long state) {
+            super(state);
+        }
+
+        long tryAcquire(long now) {
+            for (;;) {
+                long state = get();
+                long last = state >>> TOKEN_BITS;
+                long tokens = state & TOKEN_MASK;
+                long elapsed = Math.max(0, now - last);
+
+                long nextTokens;
+                long nextLast;
+                if (elapsed >= fullRefillMillis) {
+                    nextTokens = capacity;
+                    nextLast = now;
+                } else {
+                    // 분당 refillPerMinute 개 = ms 당 refillPerMinute / 60 milli-token
+                    long gained = elapsed * refillPerMinute / 60;
+                    if (tokens + gained >= capacity) {
+                        nextTokens = capacity;
+                        nextLast = now;
+                    } else {
+                        // 충전에 실제로 쓴 시간만큼만 시각을 옮겨 나머지가 버려지지 않게 한다
+                        nextTokens = tokens + gained;
+                        nextLast = last + gained * 60 / refillPerMinute;
+                    }
+                }
+
+                if (nextTokens < MILLI) {
+                    return Math.max(1, ((MILLI - nextTokens) * 60 + refillPerMinute - 1) / refillPerMinute);
+                }
+                if (compareAndSet(state, pack(nextLast, nextTokens - MILLI))) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
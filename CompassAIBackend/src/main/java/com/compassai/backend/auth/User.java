@@ -29,7 +29,7 @@ public class User {
     @Column(nullable = false, length = 255)
     private String password;
 
-    // 권한 정보, enum을 문자열로 저장한다
+    // 권한 정보, enum을 문자열로 저장한다 (MySQL 에서는 schema.sql 과 같은 ENUM('USER','ADMIN') 으로 매핑된다)
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private Role role = Role.USER;
@@ -1,10 +1,16 @@
 package com.compassai.backend.auth;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 // 유저 엔티티를 DB와 연결해 주는 리포지토리
+// 조회 메서드는 읽기 전용 트랜잭션으로 실행한다 (복제본 라우팅 대상). 쓰기 메서드는 각자 @Transactional 을 단다
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
 
     // 이메일 중복 여부 확인용 메서드
@@ -12,4 +18,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 이메일로 유저 조회용 메서드
     Optional<User> findByEmail(String email);
+
+    // 로그인 시 재해시용: 저장된 해시가 읽었을 때와 같을 때만 바꾼다
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldHash") String oldHash,
+                                  @Param("newHash") String newHash);
 }
@@ -1,7 +1,6 @@
 package com.compassai.backend.auth;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 // 도메인 레벨에서 유저 관련 기능을 묶어두는 서비스
@@ -10,12 +9,12 @@ import org.springframework.stereotype.Service;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
     // 이메일과 비밀번호를 받아서 유저 엔티티를 직접 리턴하고 싶을 때 사용하는 메서드
     public User login(String email, String rawPassword) {
         return userRepository.findByEmail(email)
-                .filter(user -> passwordEncoder.matches(rawPassword, user.getPassword()))
+                .filter(user -> passwordHasher.matches(rawPassword, user.getPassword()))
                 .orElse(null);
     }
 }
@@ -1,5 +1,6 @@
 package com.compassai.backend.auth.dto;
 
+import com.compassai.backend.auth.Role;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -15,4 +16,7 @@ public class UserLoginResponse {
 
     // 유저 이메일
     private String email;
+
+    // 유저 권한 (토큰 세션 모드에서는 쿠키 토큰에도 같이 들어간다)
+    private Role role;
 }
@@ -0,0 +1,41 @@
+package com.compassai.backend.auth.session;
+
+import com.compassai.backend.auth.dto.UserLoginResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기본 모드: 서블릿 HttpSession 에 사용자 정보를 저장한다
+@Component
+@ConditionalOnProperty(name = "compassai.auth.session-mode", havingValue = "servlet", matchIfMissing = true)
+public class HttpSessionLoginStore implements LoginSessionStore {
+
+    // 세션에 사용자 정보를 저장할 때 사용하는 키
+    private static final String SESSION_USER_KEY = "user";
+
+    @Override
+    public void save(HttpServletRequest request, HttpServletResponse response, UserLoginResponse user) {
+        HttpSession session = request.getSession();
+        // 세션 고정 공격을 막기 위해 로그인 직후 세션ID를 재발급한다.
+        request.changeSessionId();
+        // 필요한 최소 정보만 세션에 저장한다.
+        session.setAttribute(SESSION_USER_KEY, user);
+    }
+
+    @Override
+    public UserLoginResponse current(HttpServletRequest request) {
+        // 조회만 할 때는 세션을 새로 만들지 않는다
+        HttpSession session = request.getSession(false);
+        return session != null ? (UserLoginResponse) session.getAttribute(SESSION_USER_KEY) : null;
+    }
+
+    @Override
+    public void clear(HttpServletRequest request, HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+    }
+}
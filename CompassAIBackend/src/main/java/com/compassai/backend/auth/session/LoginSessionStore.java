@@ -0,0 +1,23 @@
+package com.compassai.backend.auth.session;
+
+import com.compassai.backend.auth.dto.UserLoginResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 로그인 상태를 어디에 보관할지 정하는 추상화
+ * - servlet: 기존처럼 HttpSession 에 보관한다. (노드마다 메모리 상태가 생긴다)
+ * - token: 서명된 쿠키 토큰에 담아 서버는 아무것도 보관하지 않는다.
+ * compassai.auth.session-mode 로 고른다.
+ */
+public interface LoginSessionStore {
+
+    // 로그인/회원가입 성공 시 호출한다
+    void save(HttpServletRequest request, HttpServletResponse response, UserLoginResponse user);
+
+    // 현재 로그인된 사용자, 없으면 null
+    UserLoginResponse current(HttpServletRequest request);
+
+    // 로그아웃
+    void clear(HttpServletRequest request, HttpServletResponse response);
+}
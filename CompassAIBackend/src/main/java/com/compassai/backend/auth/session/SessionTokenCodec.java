@@ -0,0 +1,136 @@
+package com.compassai.backend.auth.session;
+
+import com.compassai.backend.auth.Role;
+import com.compassai.backend.auth.dto.UserLoginResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 세션 토큰 인코딩/검증
+ * - 형식: base64url(payload) "." base64url(HMAC-SHA256(payload))
+ * - payload: 버전, 토큰 id, 만료 시각(epoch 초), 유저 id, 이름, 이메일, 권한을 DataOutputStream 으로 이어 쓴 바이트
+ * - 키로 초기화한 Mac 을 하나 만들어 두고 요청마다 clone 해서 쓴다. (getInstance/init 비용을 매번 내지 않는다)
+ * - 여러 노드가 같은 토큰을 검증하려면 compassai.auth.token.secret 을 모든 노드에 똑같이 설정해야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "compassai.auth.session-mode", havingValue = "token")
+public class SessionTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+    private final SecureRandom random = new SecureRandom();
+
+    public SessionTokenCodec(@Value("${compassai.auth.token.secret:}") String secret) throws GeneralSecurityException {
+        byte[] key;
+        if (secret == null || secret.isBlank()) {
+            // 단일 노드 개발용. 재시작하면 기존 토큰은 모두 무효가 된다
+            log.warn("compassai.auth.token.secret is not set; using a random key (tokens will not survive restarts or work across nodes)");
+            key = new byte[32];
+            random.nextBytes(key);
+        } else {
+            key = Base64.getDecoder().decode(secret.trim());
+            if (key.length < 32) {
+                throw new IllegalArgumentException("compassai.auth.token.secret는 32바이트 이상이어야 합니다.");
+            }
+        }
+        this.prototype = Mac.getInstance(ALGORITHM);
+        this.prototype.init(new SecretKeySpec(key, ALGORITHM));
+    }
+
+    public String encode(SessionToken token) {
+        byte[] payload = payload(token);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(mac().doFinal(payload));
+    }
+
+    /**
+     * 서명과 만료를 확인해 토큰을 돌려준다. 형식이 틀렸거나 서명이 다르거나 만료됐으면 null
+     */
+    public SessionToken decode(String value, long nowEpochSecond) {
+        if (value == null) {
+            return null;
+        }
+        int dot = value.indexOf('.');
+        if (dot <= 0 || dot == value.length() - 1) {
+            return null;
+        }
+        try {
+            byte[] payload = DECODER.decode(value.substring(0, dot));
+            byte[] signature = DECODER.decode(value.substring(dot + 1));
+            if (!MessageDigest.isEqual(mac().doFinal(payload), signature)) {
+                return null;
+            }
+            SessionToken token = parse(payload);
+            return (token != null && token.expiresAt() > nowEpochSecond) ? token : null;
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    public long newTokenId() {
+        return random.nextLong();
+    }
+
+    private Mac mac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(ALGORITHM + " Mac을 복제할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] payload(SessionToken token) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            UserLoginResponse user = token.user();
+            out.writeByte(VERSION);
+            out.writeLong(token.id());
+            out.writeLong(token.expiresAt());
+            out.writeLong(user.getId());
+            out.writeUTF(nullToEmpty(user.getName()));
+            out.writeUTF(nullToEmpty(user.getEmail()));
+            out.writeUTF(user.getRole() != null ? user.getRole().name() : Role.USER.name());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static SessionToken parse(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        if (in.readByte() != VERSION) {
+            return null;
+        }
+        long id = in.readLong();
+        long expiresAt = in.readLong();
+        UserLoginResponse user = new UserLoginResponse(in.readLong(), in.readUTF(), in.readUTF(), Role.valueOf(in.readUTF()));
+        return new SessionToken(id, expiresAt, user);
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+
+    // id 는 로그아웃 시 폐기 목록에 넣을 때 쓰는 토큰 고유값이다
+    public record SessionToken(long id, long expiresAt, UserLoginResponse user) {
+    }
+}
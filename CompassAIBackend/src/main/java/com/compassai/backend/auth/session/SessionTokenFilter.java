@@ -0,0 +1,57 @@
+package com.compassai.backend.auth.session;
+
+import com.compassai.backend.auth.session.SessionTokenCodec.SessionToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * 세션 토큰 쿠키를 검증해 요청 속성에 넣어 두는 필터
+ * - 서명 확인과 폐기 목록 조회만 하므로 DB 나 HttpSession 을 건드리지 않는다.
+ * - 토큰이 없거나 잘못됐으면 아무것도 넣지 않고 그대로 통과시킨다. (비로그인 요청)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "compassai.auth.session-mode", havingValue = "token")
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+    static final String TOKEN_ATTRIBUTE = SessionTokenFilter.class.getName() + ".TOKEN";
+
+    private final SessionTokenCodec codec;
+    private final TokenRevocationList revocations;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String value = cookieValue(request, TokenLoginStore.COOKIE_NAME);
+        if (value != null) {
+            SessionToken token = codec.decode(value, Instant.now().getEpochSecond());
+            if (token != null && !revocations.isRevoked(token.id())) {
+                request.setAttribute(TOKEN_ATTRIBUTE, token);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String cookieValue(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie c : cookies) {
+            if (name.equals(c.getName())) {
+                return c.getValue();
+            }
+        }
+        return null;
+    }
+}
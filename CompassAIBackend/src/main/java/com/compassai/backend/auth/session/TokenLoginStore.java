@@ -0,0 +1,75 @@
+package com.compassai.backend.auth.session;
+
+import com.compassai.backend.auth.dto.UserLoginResponse;
+import com.compassai.backend.auth.session.SessionTokenCodec.SessionToken;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 토큰 모드: 서명된 HttpOnly 쿠키에 사용자 정보를 담는다.
+ * - 서버는 세션을 만들지 않으므로 어느 노드로 요청이 가도 같은 결과가 나온다.
+ * - 현재 사용자는 SessionTokenFilter 가 검증해 둔 요청 속성에서 읽는다.
+ */
+@Component
+@ConditionalOnProperty(name = "compassai.auth.session-mode", havingValue = "token")
+public class TokenLoginStore implements LoginSessionStore {
+
+    static final String COOKIE_NAME = "COMPASS_SESSION";
+
+    private final SessionTokenCodec codec;
+    private final TokenRevocationList revocations;
+    private final long ttlSeconds;
+    private final boolean secureCookie;
+
+    public TokenLoginStore(SessionTokenCodec codec,
+                           TokenRevocationList revocations,
+                           @Value("${compassai.auth.token.ttl-seconds:86400}") long ttlSeconds,
+                           @Value("${compassai.auth.token.cookie-secure:false}") boolean secureCookie) {
+        // 쿠키 Max-Age 는 int 이므로 그 범위를 넘는 값은 받지 않는다
+        if (ttlSeconds < 1 || ttlSeconds > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("compassai.auth.token.ttl-seconds는 1 이상 " + Integer.MAX_VALUE + " 이하여야 합니다.");
+        }
+        this.codec = codec;
+        this.revocations = revocations;
+        this.ttlSeconds = ttlSeconds;
+        this.secureCookie = secureCookie;
+    }
+
+    @Override
+    public void save(HttpServletRequest request, HttpServletResponse response, UserLoginResponse user) {
+        long expiresAt = Instant.now().getEpochSecond() + ttlSeconds;
+        String token = codec.encode(new SessionToken(codec.newTokenId(), expiresAt, user));
+        response.addCookie(cookie(token, Math.toIntExact(ttlSeconds)));
+    }
+
+    @Override
+    public UserLoginResponse current(HttpServletRequest request) {
+        SessionToken token = (SessionToken) request.getAttribute(SessionTokenFilter.TOKEN_ATTRIBUTE);
+        return token != null ? token.user() : null;
+    }
+
+    @Override
+    public void clear(HttpServletRequest request, HttpServletResponse response) {
+        SessionToken token = (SessionToken) request.getAttribute(SessionTokenFilter.TOKEN_ATTRIBUTE);
+        if (token != null) {
+            revocations.revoke(token.id(), token.expiresAt());
+        }
+        response.addCookie(cookie("", 0));
+    }
+
+    private Cookie cookie(String value, int maxAge) {
+        Cookie c = new Cookie(COOKIE_NAME, value);
+        c.setPath("/");
+        c.setMaxAge(maxAge);
+        c.setHttpOnly(true);
+        c.setSecure(secureCookie);
+        c.setAttribute("SameSite", "Lax");
+        return c;
+    }
+}
@@ -0,0 +1,39 @@
+package com.compassai.backend.auth.session;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃된 토큰 id 목록
+ * - 토큰이 원래 만료되는 시각까지만 들고 있다가 지운다. 그 뒤에는 서명 검증에서 어차피 만료로 걸러진다.
+ * - 노드 메모리에만 있으므로 다른 노드에서는 쿠키 삭제와 짧은 토큰 수명으로 로그아웃을 보장한다.
+ */
+@Component
+@ConditionalOnProperty(name = "compassai.auth.session-mode", havingValue = "token")
+public class TokenRevocationList {
+
+    // 토큰 id -> 만료 시각(epoch 초)
+    private final ConcurrentHashMap<Long, Long> revoked = new ConcurrentHashMap<>();
+
+    public void revoke(long tokenId, long expiresAt) {
+        revoked.put(tokenId, expiresAt);
+    }
+
+    public boolean isRevoked(long tokenId) {
+        return !revoked.isEmpty() && revoked.containsKey(tokenId);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Scheduled(fixedDelayString = "${compassai.auth.token.revocation-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = Instant.now().getEpochSecond();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
@@ -0,0 +1,9 @@
+package com.compassai.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// @Async 작업을 켠다. spring.threads.virtual.enabled=true 이면 기본 실행기가 가상 스레드를 쓴다
+@Configuration
+@EnableAsync
+public class AsyncConfig { }
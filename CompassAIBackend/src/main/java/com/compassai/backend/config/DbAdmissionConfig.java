@@ -0,0 +1,49 @@
+package com.compassai.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 빈을 AdmissionControlledDataSource 로 감싼다.
+ * - compassai.db.admission.enabled=false 이면 아무것도 하지 않는다.
+ * - 허가 수 기본값은 Hikari 풀 크기와 같다. 복제본 라우팅을 켜면 제한기가 라우팅 DataSource 바깥에서
+ *   primary 와 복제본 커넥션을 같이 세므로 복제본 풀 크기 합을 더한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "compassai.db.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class DbAdmissionConfig {
+
+    @Bean
+    public DbAdmissionLimiter dbAdmissionLimiter(
+            @Value("${compassai.db.admission.max-concurrent:0}") int maxConcurrent,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${compassai.db.admission.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+            ObjectProvider<ReplicaPool> replicas) {
+        // 0 이면 뒤에 있는 풀 크기 합으로 정한다
+        if (maxConcurrent <= 0) {
+            ReplicaPool pool = replicas.getIfAvailable();
+            maxConcurrent = poolSize + ((pool != null) ? pool.capacity() : 0);
+        }
+        return new DbAdmissionLimiter(maxConcurrent, acquireTimeoutMs);
+    }
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 두고 제한기는 필요할 때 꺼낸다
+    @Bean
+    public static BeanPostProcessor dbAdmissionPostProcessor(ObjectProvider<DbAdmissionLimiter> limiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource ds && !(bean instanceof AdmissionControlledDataSource)) {
+                    return new AdmissionControlledDataSource(ds, limiter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.compassai.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 커넥션 풀 앞에 두는 입장 제한기
+ * - 가상 스레드 수천 개가 한꺼번에 커넥션을 요청하면 풀 내부 대기열에 몰려 타임아웃이 연쇄로 난다.
+ * - 풀 크기만큼의 허가(permit)를 가진 공정(FIFO) 세마포어에서 먼저 기다리게 해서
+ *   대기는 가상 스레드 park 로 싸게 처리하고, 풀에는 실제로 받을 수 있는 만큼만 들어가게 한다.
+ * - 대기 중인 스레드 수, 사용 중인 허가 수, 대기 시간, 타임아웃 횟수를 메트릭으로 내보낸다.
+ */
+public class DbAdmissionLimiter implements MeterBinder {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMs;
+
+    // 메트릭 레지스트리에 연결되기 전에는 null 이다
+    private volatile Timer waitTimer;
+    private volatile Counter rejected;
+
+    public DbAdmissionLimiter(int maxConcurrent, long acquireTimeoutMs) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("max-concurrent는 1 이상이어야 합니다.");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    // 허가를 하나 얻는다. 제한 시간 안에 못 얻으면 커넥션 획득 실패와 같은 예외를 던진다
+    public void acquire() throws SQLTransientConnectionException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션 대기 중 인터럽트되었습니다.", e);
+        }
+        Timer timer = waitTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            Counter counter = rejected;
+            if (counter != null) {
+                counter.increment();
+            }
+            throw new SQLTransientConnectionException(
+                    "DB 커넥션 대기 시간(" + acquireTimeoutMs + "ms)을 초과했습니다.");
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    // 허가를 기다리고 있는 스레드 수 (근사값)
+    public int waiting() {
+        return permits.getQueueLength();
+    }
+
+    public int inUse() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("compassai.db.admission.waiting", this, DbAdmissionLimiter::waiting)
+                .description("DB 커넥션 허가를 기다리는 스레드 수")
+                .register(registry);
+        Gauge.builder("compassai.db.admission.in-use", this, DbAdmissionLimiter::inUse)
+                .description("사용 중인 DB 커넥션 허가 수")
+                .register(registry);
+        Gauge.builder("compassai.db.admission.limit", this, l -> l.maxConcurrent)
+                .register(registry);
+        rejected = Counter.builder("compassai.db.admission.rejected")
+                .description("대기 시간 초과로 거절된 커넥션 요청 수")
+                .register(registry);
+        waitTimer = Timer.builder("compassai.db.admission.wait")
+                .description("DB 커넥션 허가를 얻기까지 기다린 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,44 @@
+package com.compassai.backend.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * springdoc(OpenAPI/Swagger) 빈을 지연 초기화로 바꾼다.
+ * - compassai.openapi.lazy=true 일 때만 켠다. (faststart 프로파일)
+ * - 문서 빈은 기동 때 만들지 않고 /v3/api-docs, /swagger-ui 첫 요청 때 만든다.
+ * - 문서를 아예 끄려면 springdoc.api-docs.enabled=false, springdoc.swagger-ui.enabled=false 를 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "compassai.openapi.lazy", havingValue = "true")
+public class LazyOpenApiConfig {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    // BeanFactoryPostProcessor 는 설정 클래스보다 먼저 만들어지므로 static 으로 둔다
+    @Bean
+    public static BeanFactoryPostProcessor lazySpringdocPostProcessor() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isSpringdoc(beanFactory, definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    // @Bean 메서드로 등록된 빈은 클래스 이름이 없으므로 그 메서드를 가진 설정 클래스로 판단한다
+    private static boolean isSpringdoc(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String type = definition.getBeanClassName();
+        String factory = definition.getFactoryBeanName();
+        if (type == null && factory != null && beanFactory.containsBeanDefinition(factory)) {
+            type = beanFactory.getBeanDefinition(factory).getBeanClassName();
+        }
+        return type != null && type.startsWith(SPRINGDOC_PACKAGE);
+    }
+}
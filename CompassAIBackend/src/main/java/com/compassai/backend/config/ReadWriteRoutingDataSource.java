@@ -0,0 +1,76 @@
+package com.compassai.backend.config;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지(쓰기, 트랜잭션 밖 호출)는 primary 로 보내는 DataSource
+ * - 트랜잭션이 시작될 때가 아니라 첫 SQL 을 실행할 때 커넥션을 얻어야 readOnly 표시가 보이므로
+ *   항상 LazyConnectionDataSourceProxy 로 감싸서 쓴다. (ReplicaRoutingConfig)
+ * - 같은 클라이언트가 방금 썼으면(ReadYourWrites) 읽기 전용이어도 primary 를 쓴다.
+ * - 쓰기 트랜잭션에 커넥션을 줄 때와 그 트랜잭션이 커밋될 때 쓰기를 기록한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaPool replicas;
+    private final ReadYourWrites readYourWrites;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPool replicas, ReadYourWrites readYourWrites) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readYourWrites.recentlyWrote()) {
+            Connection replica = replicas.getConnection();
+            if (replica != null) {
+                return replica;
+            }
+        }
+        Connection connection = primary.getConnection();
+        recordWrite();
+        return connection;
+    }
+
+    // 복제본은 자기 계정으로 접속하므로 계정을 지정한 요청은 primary 로만 보낸다
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    // Hikari 메트릭 등이 풀을 찾을 수 있도록 primary 로 넘긴다
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    private void recordWrite() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        readYourWrites.markWrite();
+        // 긴 트랜잭션이어도 커밋 시점부터 window 를 다시 잰다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWrites.markWrite();
+                }
+            });
+        }
+    }
+}
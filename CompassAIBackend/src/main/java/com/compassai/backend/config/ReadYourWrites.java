@@ -0,0 +1,55 @@
+package com.compassai.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 자기가 방금 쓴 데이터를 바로 다시 읽는 요청은 복제본 지연 때문에 옛 값을 보지 않도록 primary 로 보낸다.
+ * - 요청마다 클라이언트 키(로그인 사용자 id, 없으면 접속 주소)를 스레드에 묶어 둔다. (ReadYourWritesFilter)
+ *   키는 처음 DB에 갈 때 계산하므로 로그인 정보를 채우는 다른 필터보다 먼저 돌아도 된다.
+ * - 그 키로 쓰기 트랜잭션이 실행되면 window 동안 같은 키의 읽기 전용 트랜잭션도 primary 를 쓴다.
+ * - 기록은 노드 메모리에만 있으므로, 여러 노드라면 같은 사용자가 같은 노드로 가야(sticky) 보장된다.
+ */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Supplier<String>> CLIENT = new ThreadLocal<>();
+
+    // 키 -> 마지막 쓰기. 만료되면 알아서 빠진다
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public static void bind(Supplier<String> clientKey) {
+        CLIENT.set(clientKey);
+    }
+
+    public static void clear() {
+        CLIENT.remove();
+    }
+
+    // 현재 스레드의 클라이언트가 방금 썼다고 기록한다 (키가 없으면 스케줄러 등 요청 밖이므로 무시)
+    public void markWrite() {
+        String client = client();
+        if (client != null) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+
+    // 현재 스레드의 클라이언트가 window 안에 쓴 적이 있는지
+    public boolean recentlyWrote() {
+        String client = client();
+        return client != null && recentWriters.getIfPresent(client) != null;
+    }
+
+    private static String client() {
+        Supplier<String> key = CLIENT.get();
+        return (key != null) ? key.get() : null;
+    }
+}
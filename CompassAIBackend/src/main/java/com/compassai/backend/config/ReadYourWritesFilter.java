@@ -0,0 +1,52 @@
+package com.compassai.backend.config;
+
+import com.compassai.backend.auth.dto.UserLoginResponse;
+import com.compassai.backend.auth.session.LoginSessionStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * 요청 동안 ReadYourWrites 클라이언트 키를 스레드에 묶는다.
+ * - 로그인 상태면 사용자 id, 아니면 접속 주소를 쓴다. (회원가입 직후 로그인처럼 로그인 전 쓰기/읽기도 묶인다)
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final LoginSessionStore sessions;
+
+    public ReadYourWritesFilter(LoginSessionStore sessions) {
+        this.sessions = sessions;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReadYourWrites.bind(new Supplier<>() {
+            private String key;
+
+            @Override
+            public String get() {
+                if (key == null) {
+                    UserLoginResponse user = sessions.current(request);
+                    key = (user != null) ? "u:" + user.getId() : "a:" + request.getRemoteAddr();
+                }
+                return key;
+            }
+        });
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+}
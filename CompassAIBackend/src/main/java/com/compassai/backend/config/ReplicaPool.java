@@ -0,0 +1,217 @@
+package com.compassai.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 복제본 DataSource 묶음
+ * - round-robin: 건강한 복제본을 차례로 고른다.
+ * - least-loaded: 지금 빌려 간 커넥션이 가장 적은 복제본을 고른다. (같으면 차례로)
+ * - 커넥션을 얻지 못한 복제본은 빼 두고(eject), 주기 검사에서 isValid 가 성공하면 다시 넣는다.
+ *   풀이 꽉 차서 기다리다 시간이 지난 것은 복제본이 바쁠 뿐이므로 빼지 않고 다음 복제본으로 넘어간다.
+ * - 쓸 수 있는 복제본이 없으면 null 을 돌려주고, 호출하는 쪽이 primary 를 쓴다.
+ */
+@Slf4j
+public class ReplicaPool implements Closeable {
+
+    public enum Strategy {
+        ROUND_ROBIN, LEAST_LOADED;
+
+        public static Strategy from(String value) {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final Replica[] replicas;
+    private final Strategy strategy;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(List<DataSource> dataSources, Strategy strategy) {
+        this.replicas = new Replica[dataSources.size()];
+        for (int i = 0; i < replicas.length; i++) {
+            replicas[i] = new Replica("replica-" + i, dataSources.get(i));
+        }
+        this.strategy = strategy;
+    }
+
+    /**
+     * 복제본 커넥션. 고른 복제본이 실패하면 다음 복제본을 시도한다. (같은 요청에서 한 복제본은 한 번만)
+     * - 연결 자체가 실패한 복제본은 빼 두고, 풀이 꽉 차 시간이 지난 복제본은 그대로 둔다.
+     * - 모두 빠져 있거나 모두 실패하면 null
+     */
+    Connection getConnection() {
+        boolean[] tried = new boolean[replicas.length];
+        for (int attempt = 0; attempt < replicas.length; attempt++) {
+            int index = pick(tried);
+            if (index < 0) {
+                return null;
+            }
+            tried[index] = true;
+            Replica replica = replicas[index];
+            try {
+                return replica.borrow();
+            } catch (SQLException e) {
+                if (isPoolTimeout(e)) {
+                    log.debug("{} pool timeout, trying next: {}", replica.name, e.getMessage());
+                } else {
+                    replica.eject(e);
+                }
+            }
+        }
+        return null;
+    }
+
+    // Hikari 는 연결이 안 될 때도 대기 시간이 지나면 SQLTransientConnectionException 을 던지지만,
+    // 그때는 마지막 연결 실패를 cause 로 붙인다. cause 가 없으면 복제본은 살아 있고 풀만 꽉 찬 것이다
+    static boolean isPoolTimeout(SQLException e) {
+        return e instanceof SQLTransientConnectionException && e.getCause() == null;
+    }
+
+    // 복제본 풀 크기 합 (Hikari 가 아닌 DataSource 는 세지 않는다). DB admission 기본 허가 수에 더한다
+    public int capacity() {
+        int capacity = 0;
+        for (Replica r : replicas) {
+            if (r.dataSource instanceof HikariDataSource hikari) {
+                capacity += hikari.getMaximumPoolSize();
+            }
+        }
+        return capacity;
+    }
+
+    public int healthyCount() {
+        int count = 0;
+        for (Replica r : replicas) {
+            if (!r.ejected) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 빠진 복제본은 되살아났는지, 건강한 복제본은 아직 살아 있는지 확인한다
+    // 검사도 복제본 풀에서 빌리므로 풀이 꽉 차 시간이 지난 것은 바쁠 뿐이다. 지금 상태를 그대로 둔다
+    @Scheduled(
+            initialDelayString = "${compassai.datasource.routing.health-check-interval-ms:5000}",
+            fixedDelayString = "${compassai.datasource.routing.health-check-interval-ms:5000}"
+    )
+    public void checkHealth() {
+        for (Replica r : replicas) {
+            try (Connection c = r.dataSource.getConnection()) {
+                if (c.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    r.reinstate();
+                } else {
+                    r.eject(null);
+                }
+            } catch (SQLException e) {
+                if (!isPoolTimeout(e)) {
+                    r.eject(e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica r : replicas) {
+            if (r.dataSource instanceof Closeable c) {
+                c.close();
+            }
+        }
+    }
+
+    // 빠져 있거나 이미 시도한 복제본을 뺀 나머지에서 고른 위치. 없으면 -1
+    private int pick(boolean[] tried) {
+        int n = replicas.length;
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(n, 1));
+        int best = -1;
+        for (int i = 0; i < n; i++) {
+            int index = (start + i) % n;
+            Replica r = replicas[index];
+            if (r.ejected || tried[index]) {
+                continue;
+            }
+            if (strategy == Strategy.ROUND_ROBIN) {
+                return index;
+            }
+            if (best < 0 || r.inFlight.get() < replicas[best].inFlight.get()) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static final class Replica {
+        final String name;
+        final DataSource dataSource;
+        final AtomicInteger inFlight = new AtomicInteger();
+        volatile boolean ejected;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        // 빌려 간 커넥션 수를 세기 위해 close() 때 한 번만 줄이는 프록시로 감싼다
+        Connection borrow() throws SQLException {
+            inFlight.incrementAndGet();
+            Connection target;
+            try {
+                target = dataSource.getConnection();
+            } catch (SQLException | RuntimeException e) {
+                inFlight.decrementAndGet();
+                throw e;
+            }
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                            try {
+                                target.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    inFlight.decrementAndGet();
+                                }
+                            }
+                            return null;
+                        }
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+
+        void eject(SQLException cause) {
+            if (!ejected) {
+                ejected = true;
+                log.warn("{} ejected: {}", name, (cause != null) ? cause.getMessage() : "connection is not valid");
+            }
+        }
+
+        void reinstate() {
+            if (ejected) {
+                ejected = false;
+                log.info("{} reinstated", name);
+            }
+        }
+    }
+}
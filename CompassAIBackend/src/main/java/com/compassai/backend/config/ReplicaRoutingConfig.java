@@ -0,0 +1,100 @@
+package com.compassai.backend.config;
+
+import com.compassai.backend.auth.session.LoginSessionStore;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * primary DataSource 를 읽기/쓰기 라우팅 DataSource 로 감싼다.
+ * - compassai.datasource.routing.enabled=true 일 때만 켠다.
+ * - 복제본은 compassai.datasource.replica.urls 의 URL마다 Hikari 풀을 하나씩 만든다.
+ * - DbAdmissionConfig 보다 먼저 감싸므로, admission 제한은 primary+복제본 전체 논리 커넥션 수에 걸린다.
+ *   (그래서 admission 기본 허가 수는 primary 풀 크기 + 복제본 풀 크기 합이다)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "compassai.datasource.routing.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReadYourWrites readYourWrites(
+            @Value("${compassai.datasource.routing.read-your-writes-ms:2000}") long windowMs) {
+        return new ReadYourWrites(Duration.ofMillis(windowMs));
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(
+            @Value("${compassai.datasource.replica.urls}") List<String> urls,
+            @Value("${compassai.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${compassai.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${compassai.datasource.replica.maximum-pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int poolSize,
+            @Value("${compassai.datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMs,
+            @Value("${compassai.datasource.routing.strategy:round-robin}") String strategy) {
+        List<DataSource> dataSources = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + dataSources.size());
+            config.setJdbcUrl(url.trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            // 복제본이 죽어 있으면 오래 기다리지 말고 다른 복제본/primary 로 넘긴다
+            config.setConnectionTimeout(connectionTimeoutMs);
+            // 복제본이 내려가 있어도 기동은 한다. 주기 검사가 되살아나면 다시 넣는다
+            config.setInitializationFailTimeout(-1);
+            config.setReadOnly(true);
+            dataSources.add(new HikariDataSource(config));
+        }
+        log.info("read replica routing: {} replicas, strategy={}", dataSources.size(), strategy);
+        return new ReplicaPool(dataSources, ReplicaPool.Strategy.from(strategy));
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(LoginSessionStore sessions) {
+        return new ReadYourWritesFilter(sessions);
+    }
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 두고 복제본 풀은 필요할 때 꺼낸다
+    @Bean
+    public static BeanPostProcessor readWriteRoutingPostProcessor(ObjectProvider<ReplicaPool> replicas,
+                                                                  ObjectProvider<ReadYourWrites> readYourWrites) {
+        return new RoutingPostProcessor(replicas, readYourWrites);
+    }
+
+    private record RoutingPostProcessor(ObjectProvider<ReplicaPool> replicas,
+                                        ObjectProvider<ReadYourWrites> readYourWrites)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource ds && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                return new LazyConnectionDataSourceProxy(
+                        new ReadWriteRoutingDataSource(ds, replicas.getObject(), readYourWrites.getObject()));
+            }
+            return bean;
+        }
+
+        // admission 제한 등 다른 DataSource 래퍼보다 안쪽에 있어야 한다
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
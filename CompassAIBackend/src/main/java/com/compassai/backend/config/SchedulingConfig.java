@@ -0,0 +1,9 @@
+package com.compassai.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 카탈로그 스냅샷 주기 갱신 등 @Scheduled 작업을 켠다
+@Configuration
+@EnableScheduling
+public class SchedulingConfig { }
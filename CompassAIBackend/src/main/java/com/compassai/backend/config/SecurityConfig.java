@@ -1,10 +1,12 @@
 package com.compassai.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -13,10 +15,14 @@ import org.springframework.security.web.SecurityFilterChain;
 @EnableWebSecurity
 public class SecurityConfig {
 
-    // 비밀번호 암호화용 빈
+    // token 이면 서블릿 세션을 만들지 않는다
+    @Value("${compassai.auth.session-mode:servlet}")
+    private String sessionMode;
+
+    // 비밀번호 암호화용 빈 (cost 를 바꾸면 기존 해시는 다음 로그인 때 다시 해시된다)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${compassai.auth.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     // HTTP 보안 설정
@@ -38,6 +44,9 @@ public class SecurityConfig {
                         // 그 외 요청도 전부 허용한다
                         .anyRequest().permitAll()
                 )
+                // 토큰 세션 모드에서는 HttpSession 을 만들지 않는다
+                .sessionManagement(session -> session.sessionCreationPolicy(
+                        "token".equals(sessionMode) ? SessionCreationPolicy.STATELESS : SessionCreationPolicy.IF_REQUIRED))
                 // 폼 로그인은 사용하지 않는다
                 .formLogin(form -> form.disable())
                 // HTTP Basic 인증도 사용하지 않는다
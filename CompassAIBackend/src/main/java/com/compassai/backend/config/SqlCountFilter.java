@@ -0,0 +1,66 @@
+package com.compassai.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 하나가 실행한 SQL 문장 수를 메트릭(compassai.http.sql.statements{uri})으로 남긴다.
+ * - uri 태그는 매핑된 패턴(/api/tools/{id})이라 값 종류가 늘어나지 않는다. 그래서 패턴별 DistributionSummary 를 한 번만 만들어 둔다.
+ * - 문장 수가 기준(compassai.sql.warn-statements-per-request)을 넘으면 N+1 의심으로 경고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+public class SqlCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+    private final int warnThreshold;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public SqlCountFilter(MeterRegistry registry,
+                          @Value("${compassai.sql.warn-statements-per-request:20}") int warnThreshold) {
+        this.registry = registry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int count = SqlStatementCounter.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = (pattern != null) ? pattern.toString() : "UNKNOWN";
+            summaries.computeIfAbsent(uri, this::summary).record(count);
+            if (count > warnThreshold) {
+                log.warn("{} {} executed {} SQL statements", request.getMethod(), uri, count);
+            }
+        }
+    }
+
+    private DistributionSummary summary(String uri) {
+        return DistributionSummary.builder("compassai.http.sql.statements")
+                .description("요청 하나에서 실행한 SQL 문장 수")
+                .tag("uri", uri)
+                .register(registry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.compassai.backend.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하려는 SQL 문장 수를 요청 단위로 센다.
+ * - SqlCountFilter 가 요청 시작 때 begin(), 끝날 때 end() 를 부른다. 그 사이가 아니면 세지 않는다.
+ * - 요청은 한 스레드(가상 스레드 포함)에서 처리되므로 ThreadLocal 배열 칸 하나만 올린다.
+ * - Hibernate 가 직접 생성하므로(hibernate.session_factory.statement_inspector) 스프링 빈이 아니다.
+ * - JdbcTemplate 로 직접 실행하는 SQL(일괄 등록, 내보내기)은 포함되지 않는다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] c = COUNT.get();
+        if (c != null) {
+            c[0]++;
+        }
+        return sql;
+    }
+
+    static void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    // 지금까지 센 수를 돌려주고 정리한다
+    static int end() {
+        int[] c = COUNT.get();
+        COUNT.remove();
+        return c == null ? 0 : c[0];
+    }
+}
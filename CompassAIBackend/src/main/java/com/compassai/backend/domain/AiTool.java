@@ -12,6 +12,10 @@ import java.util.Set;
         uniqueConstraints = {
                 @UniqueConstraint(name="uq_ai_tool_name", columnNames="name"),
                 @UniqueConstraint(name="uq_ai_tool_url",  columnNames="url")
+        },
+        indexes = {
+                // 최신순 커서 페이지네이션 (updated_at, id) 용
+                @Index(name="idx_ai_tool_updated_id", columnList="updated_at, id")
         })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class AiTool {
@@ -34,7 +38,8 @@ public class AiTool {
     @Column(length=300)   // 예: "/gemini.png" (Frontend/public 기준)
     private String logo;
 
-    @Lob
+    // schema.sql 은 TEXT 다. @Lob 은 MySQL 에서 longtext 로 매핑돼 ddl-auto=validate 를 통과하지 못한다
+    @Column(columnDefinition = "TEXT")
     private String description;
 
     @Column(name="created_at", nullable=false, updatable=false)
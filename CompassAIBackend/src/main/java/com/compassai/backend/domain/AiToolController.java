@@ -1,52 +1,331 @@
 package com.compassai.backend.domain;
 
+import com.compassai.backend.domain.catalog.AiToolCatalog;
+import com.compassai.backend.domain.catalog.CatalogVersion;
+import com.compassai.backend.domain.catalog.ToolListKey;
+import com.compassai.backend.domain.catalog.ToolPopularity;
+import com.compassai.backend.domain.catalog.ToolFilter;
+import com.compassai.backend.domain.catalog.ToolResponseCache;
+import com.compassai.backend.domain.catalog.ToolResponseFormat;
+import com.compassai.backend.domain.catalog.ToolSearchMode;
+import com.compassai.backend.domain.catalog.ToolSort;
+import com.compassai.backend.domain.catalog.ToolSuggester;
 import com.compassai.backend.domain.dto.AiToolResponse;
+import com.compassai.backend.domain.dto.CursorPage;
+import com.compassai.backend.domain.dto.ToolSuggestion;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/tools")
 public class AiToolController {
 
+    private static final int MAX_SUGGESTIONS = 20;
+
+    // 한 번에 돌려주는 최대 개수 (size, limit). 요청 값으로 목록 크기를 잡으므로 상한이 없으면 큰 값 하나로 메모리가 바닥난다
+    static final int MAX_PAGE_SIZE = 100;
+
     private final AiToolRepository repo;
+    private final AiToolCatalog catalog;
+    private final ToolResponseCache responseCache;
+    private final ToolSuggester suggester;
+    private final ToolPopularity popularity;
+    private final CacheControl cacheControl;
 
-    public AiToolController(AiToolRepository repo) {
+    public AiToolController(AiToolRepository repo,
+                            AiToolCatalog catalog,
+                            ToolResponseCache responseCache,
+                            ToolSuggester suggester,
+                            ToolPopularity popularity,
+                            @Value("${compassai.catalog.cache-max-age-seconds:0}") long cacheMaxAgeSeconds) {
         this.repo = repo;
+        this.catalog = catalog;
+        this.responseCache = responseCache;
+        this.suggester = suggester;
+        this.popularity = popularity;
+        // 브라우저가 캐시해 두되 매번 ETag로 재검증하게 한다 (max-age=0 이면 항상 재검증)
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAgeSeconds)).cachePublic().mustRevalidate();
     }
 
-    @GetMapping
-    public Page<AiToolResponse> list(
-            @RequestParam(required=false) String category,
+    /**
+     * 목록 조회 (Page 형식)
+     * - category, origin은 여러 번 넘길 수 있다. 카테고리는 match=all 이면 AND, 기본은 OR 로 묶는다.
+     * - size는 1~MAX_PAGE_SIZE, 벗어나면 400
+     * - facets=true 이면 현재 조건 기준 카테고리별/출처별 개수를 같은 응답에 붙인다.
+     * - sort=popular 는 메모리 조회/클릭 수로 정렬하고, 인기 점수가 바뀌면 ETag도 바뀐다.
+     * - mode=similar 이면 q를 부분 문자열 대신 n-gram 벡터 유사도로 찾는다. (정렬은 유사도순 고정)
+     * - 결과는 직렬화된 byte[] 로 캐시하므로, 캐시에 있으면 매핑/직렬화 없이 그대로 내려보낸다.
+     * - Accept 로 형식을 고른다: JSON(기본), 열 단위 JSON, CBOR, Smile. (ToolResponseFormat)
+     * - Accept-Encoding 에 gzip 이 있으면 캐시에 넣을 때 미리 압축해 둔 본문을 보낸다.
+     */
+    @Timed(value = "compassai.tools.list", histogram = true)
+    @GetMapping(produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            ToolResponseFormat.COLUMNAR_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE,
+            ToolResponseFormat.SMILE_VALUE
+    })
+    public ResponseEntity<byte[]> list(
+            @RequestParam(required=false) List<String> category,
             @RequestParam(required=false) String q,
-            @RequestParam(required=false) String origin,
+            @RequestParam(required=false) List<String> origin,
+            @RequestParam(defaultValue="any") String match,
             @RequestParam(defaultValue="0") int page,
-            @RequestParam(defaultValue="20") int size
+            @RequestParam(defaultValue="20") int size,
+            @RequestParam(required=false) String sort,
+            @RequestParam(required=false) String mode,
+            @RequestParam(defaultValue="false") boolean facets,
+            @RequestHeader(value=HttpHeaders.IF_NONE_MATCH, required=false) String ifNoneMatch,
+            @RequestHeader(value=HttpHeaders.ACCEPT, required=false) String accept,
+            @RequestHeader(value=HttpHeaders.ACCEPT_ENCODING, required=false) String acceptEncoding
+    ) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "page는 0 이상, size는 1~" + MAX_PAGE_SIZE + " 이어야 합니다.");
+        }
+        ToolFilter filter = ToolFilter.of(category, match, origin);
+        String query = blankToNull(q);
+        ToolSort toolSort = ToolSort.from(sort);
+        ToolSearchMode searchMode = ToolSearchMode.from(mode);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "updatedAt"));
+        requireSnapshotFor(filter, facets);
+        if (searchMode == ToolSearchMode.SIMILAR && !catalog.isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "mode=similar 는 카탈로그 스냅샷 모드에서만 지원합니다.");
+        }
+        CatalogVersion current = catalog.version();
+        if (toolSort == ToolSort.POPULAR) {
+            current = current.mix(popularity.epoch());
+        }
+        ToolResponseFormat format = ToolResponseFormat.fromAccept(accept);
+        boolean gzip = ToolResponseFormat.acceptsGzip(acceptEncoding);
+        // 같은 URL이라도 형식/압축마다 본문이 다르므로 ETag도 달라야 한다 (JSON 무압축은 기존 값 그대로)
+        int variant = format.ordinal() * 2 + (gzip ? 1 : 0);
+        if (variant != 0) {
+            current = current.mix(variant);
+        }
+        ResponseEntity<byte[]> result = conditional(current, ifNoneMatch, version -> responseCache.get(
+                ToolListKey.of(filter, query, toolSort, searchMode, page, size, facets, version),
+                format,
+                gzip,
+                () -> format.body(
+                        findPage(filter, query, toolSort, searchMode, pageable),
+                        facets ? catalog.current().facetCounts(filter, query, searchMode) : null)));
+        return encoded(result, format, gzip);
+    }
+
+    // 캐시된 응답을 고른 형식/압축에 맞는 헤더와 함께 내려보낸다 (304면 헤더만)
+    private static ResponseEntity<byte[]> encoded(ResponseEntity<byte[]> result, ToolResponseFormat format,
+                                                  boolean gzip) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(result.getHeaders());
+        headers.setVary(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = result.getBody();
+        if (body == null) {
+            return new ResponseEntity<>(headers, result.getStatusCode());
+        }
+        headers.setContentType(format.mediaType());
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return new ResponseEntity<>(body, headers, result.getStatusCode());
+    }
+
+    /**
+     * 커서 기반 목록 (무한 스크롤용)
+     * - limit 파라미터가 있으면 이 메서드가 처리한다. (1~MAX_PAGE_SIZE, 벗어나면 400)
+     * - OFFSET 대신 (updatedAt, id) 키로 이어 읽고 COUNT 쿼리를 하지 않으므로 몇 번째 페이지든 비용이 같다.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<AiToolResponse>> scroll(
+            @RequestParam(required=false) List<String> category,
+            @RequestParam(required=false) String q,
+            @RequestParam(required=false) List<String> origin,
+            @RequestParam(defaultValue="any") String match,
+            @RequestParam(required=false) String cursor,
+            @RequestParam int limit,
+            @RequestHeader(value=HttpHeaders.IF_NONE_MATCH, required=false) String ifNoneMatch
     ) {
-        Page<AiTool> p = repo.findAllFiltered(
-                (category != null && !category.isBlank()) ? category : null,
-                (q != null && !q.isBlank()) ? q : null,
-                (origin != null && !origin.isBlank()) ? origin : null,
-                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "updatedAt"))
-        );
-        return p.map(this::toDto);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit은 1~" + MAX_PAGE_SIZE + " 이어야 합니다.");
+        }
+        ToolCursor after;
+        try {
+            after = (cursor != null && !cursor.isBlank()) ? ToolCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        ToolFilter filter = ToolFilter.of(category, match, origin);
+        String query = blankToNull(q);
+        requireSnapshotFor(filter, false);
+        return conditional(ifNoneMatch, version -> findScroll(filter, query, after, limit));
     }
 
+    /**
+     * 검색창 자동완성
+     * - 이름 접두사로 찾고, 초성("ㅊㅈㅍㅌ")이나 입력 중인 글자("챗ㅈ")로도 찾는다.
+     * - 메모리 색인만 보므로 스냅샷 모드에서만 지원한다.
+     */
+    @Timed(value = "compassai.tools.suggest", histogram = true)
+    @GetMapping("/suggest")
+    public List<ToolSuggestion> suggest(
+            @RequestParam(defaultValue="") String q,
+            @RequestParam(defaultValue="8") int limit
+    ) {
+        if (!catalog.isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "자동완성은 카탈로그 스냅샷 모드에서만 지원합니다.");
+        }
+        return suggester.suggest(q, Math.max(0, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    @Timed(value = "compassai.tools.get", histogram = true)
     @GetMapping("/{id}")
-    public AiToolResponse get(@PathVariable Long id) {
+    public ResponseEntity<AiToolResponse> get(
+            @PathVariable Long id,
+            @RequestHeader(value=HttpHeaders.IF_NONE_MATCH, required=false) String ifNoneMatch
+    ) {
+        return conditional(ifNoneMatch, version -> findOne(id));
+    }
+
+    /**
+     * 비슷한 툴 추천
+     * - 카테고리 공유 정도(가중 Jaccard)와 출처로 미리 계산해 둔 상위 목록을 그대로 돌려준다.
+     */
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<AiToolResponse>> related(
+            @PathVariable Long id,
+            @RequestParam(defaultValue="6") int limit,
+            @RequestHeader(value=HttpHeaders.IF_NONE_MATCH, required=false) String ifNoneMatch
+    ) {
+        if (!catalog.isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "비슷한 툴 추천은 카탈로그 스냅샷 모드에서만 지원합니다.");
+        }
+        return conditional(ifNoneMatch, version -> catalog.current().related(id, Math.max(0, limit))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)));
+    }
+
+    /**
+     * 카탈로그 버전으로 조건부 GET을 처리한다.
+     * - If-None-Match가 현재 ETag와 같으면 조회/직렬화 없이 바로 304를 돌려준다.
+     * - 다를 때만 body를 계산한다.
+     */
+    private <T> ResponseEntity<T> conditional(String ifNoneMatch, Function<CatalogVersion, T> body) {
+        return conditional(catalog.version(), ifNoneMatch, body);
+    }
+
+    private <T> ResponseEntity<T> conditional(CatalogVersion version, String ifNoneMatch,
+                                              Function<CatalogVersion, T> body) {
+        String etag = version.etag();
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok().eTag(etag).cacheControl(cacheControl);
+        if (version.lastModified() > 0) {
+            ok.lastModified(version.lastModified());
+        }
+        return ok.body(body.apply(version));
+    }
+
+    // 다중 카테고리/출처와 패싯은 메모리 비트맵으로만 계산한다
+    private void requireSnapshotFor(ToolFilter filter, boolean facets) {
+        if (!catalog.isEnabled() && (facets || !filter.isSimple())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "다중 category/origin 과 facets 는 카탈로그 스냅샷 모드에서만 지원합니다.");
+        }
+    }
+
+    private Page<AiToolResponse> findPage(ToolFilter filter, String q, ToolSort sort, ToolSearchMode mode,
+                                          Pageable pageable) {
+        // 스냅샷이 켜져 있으면 DB를 거치지 않고 메모리에서 바로 응답한다
+        if (catalog.isEnabled() && q != null && mode == ToolSearchMode.SIMILAR) {
+            return catalog.current().similar(filter, q, pageable);
+        }
+        if (catalog.isEnabled()) {
+            return catalog.current().find(filter, q, sort, popularity, pageable);
+        }
+
+        // DB 경로는 관련도/인기 점수가 없으므로 항상 최신순으로 돌려준다
+        Page<AiTool> p = repo.findAllFiltered(filter.singleCategory(), q, filter.singleOrigin(), pageable);
+        Map<Long, List<String>> categories = categoryNames(p.getContent());
+        return p.map(t -> toDto(t, categories));
+    }
+
+    private CursorPage<AiToolResponse> findScroll(ToolFilter filter, String q, ToolCursor after, int limit) {
+        if (catalog.isEnabled()) {
+            return catalog.current().scroll(filter, q, after, limit);
+        }
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 읽는다
+        List<AiTool> rows = repo.findAllFilteredAfter(
+                filter.singleCategory(), q, filter.singleOrigin(),
+                after != null ? after.updatedAt() : null,
+                after != null ? after.id() : null,
+                Limit.of(limit + 1));
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) {
+            rows = rows.subList(0, limit);
+        }
+        Map<Long, List<String>> categories = categoryNames(rows);
+        List<AiToolResponse> content = rows.stream().map(t -> toDto(t, categories)).toList();
+        String nextCursor = null;
+        if (hasNext) {
+            AiTool last = rows.get(rows.size() - 1);
+            nextCursor = new ToolCursor(last.getUpdatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    private AiToolResponse findOne(Long id) {
+        if (catalog.isEnabled()) {
+            // 스냅샷 갱신 전에 막 추가된 툴이면 DB에서 한 번 더 찾는다
+            return catalog.current().findById(id)
+                    .orElseGet(() -> findFromDb(id));
+        }
+        return findFromDb(id);
+    }
+
+    private AiToolResponse findFromDb(Long id) {
         AiTool t = repo.findById(id).orElseThrow();
-        return toDto(t);
-    }
-
-    private AiToolResponse toDto(AiTool t) {
-        return new AiToolResponse(
-                t.getId(),
-                t.getName(),
-                t.getSubTitle(),
-                t.getOrigin(),
-                t.getUrl(),
-                t.getLogo(),
-                t.getDescription(),
-                t.getCategories().stream().map(Category::getName).sorted().toList()
-        );
+        return toDto(t, categoryNames(List.of(t)));
+    }
+
+    // 페이지에 포함된 툴들의 카테고리 이름을 쿼리 한 번으로 모아 툴 id별로 정렬해 둔다
+    private Map<Long, List<String>> categoryNames(List<AiTool> tools) {
+        if (tools.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = tools.stream().map(AiTool::getId).toList();
+        Map<Long, List<String>> byTool = new HashMap<>();
+        for (ToolCategoryName row : repo.findCategoryNamesByToolIds(ids)) {
+            byTool.computeIfAbsent(row.getToolId(), k -> new ArrayList<>()).add(row.getName());
+        }
+        byTool.values().forEach(Collections::sort);
+        return byTool;
+    }
+
+    private AiToolResponse toDto(AiTool t, Map<Long, List<String>> categories) {
+        return AiToolResponse.of(t, categories.getOrDefault(t.getId(), List.of()));
+    }
+
+    private static String blankToNull(String s) {
+        return (s != null && !s.isBlank()) ? s : null;
     }
 }
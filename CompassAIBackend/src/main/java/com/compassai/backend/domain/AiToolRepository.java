@@ -3,7 +3,14 @@ package com.compassai.backend.domain;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// 조회 메서드는 읽기 전용 트랜잭션으로 실행한다 (복제본 라우팅 대상). save/delete 는 SimpleJpaRepository 의 쓰기 트랜잭션을 쓴다
+@Transactional(readOnly = true)
 public interface AiToolRepository extends JpaRepository<AiTool, Long> {
 
     @Query("""
@@ -22,4 +29,57 @@ public interface AiToolRepository extends JpaRepository<AiTool, Long> {
                                  @Param("q")        String q,
                                  @Param("origin")   String origin,
                                  Pageable pageable);
+
+    // 커서 기반 목록: (updatedAt, id) 키 뒤에서부터 limit개만 읽는다. COUNT 쿼리는 실행하지 않는다.
+    @Query("""
+      SELECT DISTINCT t FROM AiTool t
+      LEFT JOIN t.categories c
+      WHERE (:category IS NULL OR c.name = :category)
+        AND (:origin   IS NULL OR t.origin = :origin)
+        AND (
+              :q IS NULL OR :q = '' OR
+              t.name      LIKE CONCAT('%', :q, '%') OR
+              t.subTitle  LIKE CONCAT('%', :q, '%') OR
+              t.description LIKE CONCAT('%', :q, '%')
+            )
+        AND (
+              :cursorAt IS NULL OR
+              t.updatedAt < :cursorAt OR
+              (t.updatedAt = :cursorAt AND t.id < :cursorId)
+            )
+      ORDER BY t.updatedAt DESC, t.id DESC
+      """)
+    List<AiTool> findAllFilteredAfter(@Param("category") String category,
+                                      @Param("q")        String q,
+                                      @Param("origin")   String origin,
+                                      @Param("cursorAt") LocalDateTime cursorAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Limit limit);
+
+    // 한 페이지 분량 툴의 카테고리 이름을 쿼리 한 번으로 읽는다 (툴마다 지연 로딩하지 않도록)
+    @Query("""
+      SELECT t.id AS toolId, c.name AS name
+      FROM AiTool t JOIN t.categories c
+      WHERE t.id IN :ids
+      """)
+    List<ToolCategoryName> findCategoryNamesByToolIds(@Param("ids") Collection<Long> ids);
+
+    // 카탈로그 버전 계산용: 가장 최근 수정 시각
+    @Query("SELECT MAX(t.updatedAt) FROM AiTool t")
+    LocalDateTime findMaxUpdatedAt();
+
+    // 카탈로그 버전 계산용: 툴-카테고리 매핑 전체에 대한 간단한 체크섬
+    @Query(value = """
+      SELECT COUNT(*) * 1000000007 + COALESCE(SUM(tool_id * 1000003 + category_id), 0)
+      FROM ai_tool_category
+      """, nativeQuery = true)
+    Long mappingStamp();
+
+    // 카탈로그 스냅샷용: 모든 툴을 카테고리까지 한 번에 읽는다
+    @Query("SELECT DISTINCT t FROM AiTool t LEFT JOIN FETCH t.categories")
+    List<AiTool> findAllWithCategories();
+
+    // 카탈로그 스냅샷 부분 갱신용: 바뀐 툴만 카테고리까지 읽는다
+    @Query("SELECT DISTINCT t FROM AiTool t LEFT JOIN FETCH t.categories WHERE t.id IN :ids")
+    List<AiTool> findAllWithCategoriesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,11 @@
+package com.compassai.backend.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+// 카테고리 마스터 조회용 리포지토리
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    Optional<Category> findByName(String name);
+}
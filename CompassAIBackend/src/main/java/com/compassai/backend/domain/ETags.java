@@ -0,0 +1,32 @@
+package com.compassai.backend.domain;
+
+/**
+ * 조건부 GET 의 ETag 비교
+ * - If-None-Match 는 "*" 이거나 쉼표로 구분된 여러 ETag 일 수 있다.
+ * - If-None-Match 는 약한 비교를 하므로 양쪽의 W/ 를 떼고 따옴표 안 값만 맞춘다.
+ */
+public final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {
+    }
+
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+        String current = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaque(tag).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
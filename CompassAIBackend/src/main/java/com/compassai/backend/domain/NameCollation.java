@@ -0,0 +1,27 @@
+package com.compassai.backend.domain;
+
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 툴/카테고리/출처 이름을 DB collation(utf8mb4_0900_ai_ci)에 가깝게 비교하는 규칙
+ * - 대소문자와 악센트를 가리지 않는다. ("Café" = "cafe", "ß" = "ss", 전각 "Ｃ" = "C")
+ * - 공백과 문장부호는 가린다. (Collator 의 PRIMARY 비교는 이것까지 무시해서 "Chat GPT" 와 "ChatGPT" 를 합쳐 버린다)
+ */
+public final class NameCollation {
+
+    public static final Comparator<String> ORDER = Comparator.comparing(NameCollation::key);
+
+    private static final Pattern MARKS = Pattern.compile("\\p{Mn}+");
+
+    private NameCollation() {
+    }
+
+    // 호환 분해 후 결합 부호를 지우고, 대문자로 바꿨다가 소문자로 내려 ß 같은 글자도 접는다
+    public static String key(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+        return MARKS.matcher(decomposed).replaceAll("").toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,7 @@
+package com.compassai.backend.domain;
+
+// 툴 id와 카테고리 이름 한 쌍을 받기 위한 프로젝션
+public interface ToolCategoryName {
+    Long getToolId();
+    String getName();
+}
@@ -0,0 +1,40 @@
+package com.compassai.backend.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션에서 "마지막으로 본 툴"의 위치
+ * - 정렬 키인 (updatedAt, id)를 그대로 담는다.
+ * - 클라이언트에는 내용을 알 수 없는 base64url 문자열로만 내보낸다.
+ */
+public record ToolCursor(LocalDateTime updatedAt, long id) {
+
+    public String encode() {
+        String raw = updatedAt.toEpochSecond(ZoneOffset.UTC) + "." + updatedAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // 형식이 맞지 않으면 IllegalArgumentException을 던진다
+    public static ToolCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int dot = raw.indexOf('.');
+            int colon = raw.indexOf(':');
+            long seconds = Long.parseLong(raw.substring(0, dot));
+            int nanos = Integer.parseInt(raw.substring(dot + 1, colon));
+            long id = Long.parseLong(raw.substring(colon + 1));
+            return new ToolCursor(LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor 값입니다.", e);
+        }
+    }
+
+    // 정렬 순서(updatedAt DESC, id DESC)상 (otherUpdatedAt, otherId)가 이 커서보다 뒤에 오는지
+    public boolean follows(LocalDateTime otherUpdatedAt, long otherId) {
+        int c = otherUpdatedAt.compareTo(updatedAt);
+        return c < 0 || (c == 0 && otherId < id);
+    }
+}
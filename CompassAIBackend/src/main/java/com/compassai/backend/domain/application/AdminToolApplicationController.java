@@ -0,0 +1,67 @@
+package com.compassai.backend.domain.application;
+
+import com.compassai.backend.auth.Role;
+import com.compassai.backend.auth.dto.UserLoginResponse;
+import com.compassai.backend.auth.session.LoginSessionStore;
+import com.compassai.backend.domain.application.dto.ApplicationDecisionRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 관리자용 등록 신청 목록/일괄 승인/일괄 거절 API
+ */
+@RestController
+@RequestMapping("/api/admin/applications")
+@RequiredArgsConstructor
+public class AdminToolApplicationController {
+
+    private final ToolApplicationService service;
+    private final LoginSessionStore sessions;
+
+    @GetMapping
+    public ResponseEntity<?> list(
+            @RequestParam(defaultValue="PENDING") ApplicationStatus status,
+            @RequestParam(defaultValue="0") int page,
+            @RequestParam(defaultValue="20") int size,
+            HttpServletRequest httpReq
+    ) {
+        if (admin(httpReq) == null) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(service.list(status, PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "appliedAt"))));
+    }
+
+    @PostMapping("/approve")
+    public ResponseEntity<?> approve(@RequestBody ApplicationDecisionRequest req, HttpServletRequest httpReq) {
+        UserLoginResponse admin = admin(httpReq);
+        if (admin == null) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(Map.of("approved", service.approve(req.ids(), admin.getId())));
+    }
+
+    @PostMapping("/reject")
+    public ResponseEntity<?> reject(@RequestBody ApplicationDecisionRequest req, HttpServletRequest httpReq) {
+        UserLoginResponse admin = admin(httpReq);
+        if (admin == null) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(Map.of("rejected", service.reject(req.ids(), admin.getId(), req.reason())));
+    }
+
+    private UserLoginResponse admin(HttpServletRequest httpReq) {
+        UserLoginResponse user = sessions.current(httpReq);
+        return (user != null && user.getRole() == Role.ADMIN) ? user : null;
+    }
+
+    private static ResponseEntity<?> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 사용할 수 있습니다.");
+    }
+}
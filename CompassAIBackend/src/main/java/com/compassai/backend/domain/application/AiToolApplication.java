@@ -0,0 +1,70 @@
+package com.compassai.backend.domain.application;
+
+import com.compassai.backend.domain.Category;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+// ai_tool_application 테이블과 매핑되는 엔티티 (쓰기는 ToolApplicationWriter 가 JDBC 배치로 한다)
+@Entity
+@Table(name = "ai_tool_application")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class AiToolApplication {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 신청자 (users.id)
+    @Column(name="user_id", nullable=false)
+    private Long userId;
+
+    @Column(length=120, nullable=false)
+    private String name;
+
+    @Column(name="sub_title", length=200)
+    private String subTitle;
+
+    @Column(length=30)
+    private String origin;
+
+    @Column(length=300)
+    private String url;
+
+    @Column(length=300)
+    private String logo;
+
+    // schema.sql 과 같은 TEXT (@Lob 은 MySQL 에서 longtext 로 매핑된다)
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name="applied_at", nullable=false)
+    private LocalDateTime appliedAt;
+
+    // MySQL 에서는 ENUM('PENDING','APPROVED','REJECTED') 로 매핑된다. validate 는 값 목록까지 비교하지 않으므로
+    // 상수를 바꾸면 schema.sql 도 같이 바꾼다
+    @Enumerated(EnumType.STRING)
+    @Column(length=20, nullable=false)
+    private ApplicationStatus status;
+
+    @Column(name="reject_reason", columnDefinition = "TEXT")
+    private String rejectReason;
+
+    @Column(name="processed_at")
+    private LocalDateTime processedAt;
+
+    // 처리한 관리자 (users.id)
+    @Column(name="processed_by")
+    private Long processedBy;
+
+    @ManyToMany
+    @JoinTable(
+            name = "ai_tool_application_category",
+            joinColumns = @JoinColumn(name = "application_id"),
+            inverseJoinColumns = @JoinColumn(name = "category_id")
+    )
+    @Builder.Default
+    private Set<Category> categories = new HashSet<>();
+}
@@ -0,0 +1,24 @@
+package com.compassai.backend.domain.application;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AiToolApplicationRepository extends JpaRepository<AiToolApplication, Long> {
+
+    Page<AiToolApplication> findByStatus(ApplicationStatus status, Pageable pageable);
+
+    // 페이지에 나온 신청들의 카테고리 이름을 쿼리 한 번으로 읽는다
+    @Query(value = """
+        SELECT ac.application_id AS applicationId, c.name AS name
+        FROM ai_tool_application_category ac
+        JOIN category c ON c.id = ac.category_id
+        WHERE ac.application_id IN (:ids)
+        """, nativeQuery = true)
+    List<ApplicationCategoryName> findCategoryNamesByApplicationIds(@Param("ids") Collection<Long> ids);
+}
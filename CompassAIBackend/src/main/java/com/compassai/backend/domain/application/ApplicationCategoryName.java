@@ -0,0 +1,7 @@
+package com.compassai.backend.domain.application;
+
+// 신청 id 별 카테고리 이름 (목록 조회 시 한 번에 읽기 위한 projection)
+public interface ApplicationCategoryName {
+    Long getApplicationId();
+    String getName();
+}
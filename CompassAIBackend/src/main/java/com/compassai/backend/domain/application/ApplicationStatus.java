@@ -0,0 +1,8 @@
+package com.compassai.backend.domain.application;
+
+// 등록 신청 상태 (ai_tool_application.status)
+public enum ApplicationStatus {
+    PENDING,    // 대기
+    APPROVED,   // 승인
+    REJECTED    // 거절
+}
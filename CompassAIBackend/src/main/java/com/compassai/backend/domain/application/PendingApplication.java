@@ -0,0 +1,8 @@
+package com.compassai.backend.domain.application;
+
+import com.compassai.backend.domain.application.dto.ToolApplicationRequest;
+
+import java.time.LocalDateTime;
+
+// 큐에 들어간, 아직 DB에 쓰이지 않은 신청
+record PendingApplication(Long userId, ToolApplicationRequest request, LocalDateTime appliedAt) { }
@@ -0,0 +1,44 @@
+package com.compassai.backend.domain.application;
+
+import com.compassai.backend.auth.dto.UserLoginResponse;
+import com.compassai.backend.auth.session.LoginSessionStore;
+import com.compassai.backend.domain.application.dto.ToolApplicationRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * AI 툴 등록 신청 API
+ * - 신청은 메모리 큐에 넣고 바로 202 를 돌려준다. DB 에는 백그라운드에서 묶어서 쓴다.
+ */
+@RestController
+@RequestMapping("/api/applications")
+@RequiredArgsConstructor
+public class ToolApplicationController {
+
+    private final ToolApplicationQueue queue;
+    private final LoginSessionStore sessions;
+
+    @PostMapping
+    public ResponseEntity<?> submit(@RequestBody ToolApplicationRequest req, HttpServletRequest httpReq) {
+        UserLoginResponse user = sessions.current(httpReq);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            req.validate();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        if (!queue.offer(user.getId(), req)) {
+            // 큐가 가득 찬 경우 잠시 뒤 다시 시도하게 한다
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body("신청이 몰려 있습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+}
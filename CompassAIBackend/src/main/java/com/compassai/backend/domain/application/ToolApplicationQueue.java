@@ -0,0 +1,119 @@
+package com.compassai.backend.domain.application;
+
+import com.compassai.backend.domain.application.dto.ToolApplicationRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 등록 신청 대기열
+ * - 요청 스레드는 offer() 로 메모리 큐에 넣기만 하고 바로 돌아간다. (DB 쓰기를 기다리지 않는다)
+ * - 백그라운드 스레드 하나가 큐를 batch-size 만큼씩 꺼내 ToolApplicationWriter 로 쓴다.
+ * - 큐가 가득 차면 offer() 가 false 를 돌려주고, 컨트롤러가 503 으로 응답한다.
+ * - 종료 시에는 큐에 남은 신청을 모두 쓰고 멈춘다.
+ */
+@Slf4j
+@Component
+public class ToolApplicationQueue implements SmartLifecycle {
+
+    private final BlockingQueue<PendingApplication> queue;
+    private final ToolApplicationWriter writer;
+    private final int batchSize;
+    private final long lingerMs;
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter written;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ToolApplicationQueue(ToolApplicationWriter writer,
+                                MeterRegistry registry,
+                                @Value("${compassai.application.queue-capacity:10000}") int capacity,
+                                @Value("${compassai.application.batch-size:500}") int batchSize,
+                                @Value("${compassai.application.linger-ms:50}") long lingerMs) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.lingerMs = lingerMs;
+        this.accepted = Counter.builder("compassai.application.submitted").tag("result", "accepted").register(registry);
+        this.rejected = Counter.builder("compassai.application.submitted").tag("result", "rejected").register(registry);
+        this.written = Counter.builder("compassai.application.written").register(registry);
+        registry.gauge("compassai.application.queue", queue, BlockingQueue::size);
+    }
+
+    // 큐에 넣는다. 가득 찼으면 false
+    public boolean offer(Long userId, ToolApplicationRequest request) {
+        boolean ok = running && queue.offer(new PendingApplication(userId, request, LocalDateTime.now()));
+        (ok ? accepted : rejected).increment();
+        return ok;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "tool-application-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("{} tool applications were not written before shutdown", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        List<PendingApplication> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingApplication first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 잠깐 더 기다려 묶음을 키운다
+                if (lingerMs > 0 && running && queue.size() < batchSize - 1) {
+                    Thread.sleep(lingerMs);
+                }
+            } catch (InterruptedException e) {
+                // 이미 꺼낸 신청은 버리지 않고 쓴 뒤 멈춘다
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                written.increment(writer.write(batch));
+            } catch (RuntimeException e) {
+                log.error("tool application writer failed, {} applications dropped", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.compassai.backend.domain.application;
+
+import com.compassai.backend.domain.application.dto.ToolApplicationResponse;
+import com.compassai.backend.domain.catalog.CatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 등록 신청 조회와 관리자 승인/거절
+ * - 승인은 건별 루프 없이 SQL 몇 문장으로 여러 신청을 한 트랜잭션에서 ai_tool / ai_tool_category 로 옮긴다.
+ * - ai_tool 은 이름(uq_ai_tool_name) 기준으로 upsert 하므로 이미 있는 툴이면 내용만 갱신된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ToolApplicationService {
+
+    private final AiToolApplicationRepository repo;
+    private final NamedParameterJdbcTemplate named;
+    private final ApplicationEventPublisher events;
+
+    @Transactional(readOnly = true)
+    public Page<ToolApplicationResponse> list(ApplicationStatus status, Pageable pageable) {
+        Page<AiToolApplication> page = repo.findByStatus(status, pageable);
+        Map<Long, List<String>> categories = categoryNames(page.getContent().stream().map(AiToolApplication::getId).toList());
+        return page.map(a -> ToolApplicationResponse.of(a, categories.getOrDefault(a.getId(), List.of())));
+    }
+
+    /**
+     * PENDING 상태인 신청들을 한 번에 승인한다.
+     * @return 실제로 승인된 건수 (이미 처리된 id 는 건너뛴다)
+     */
+    @Transactional
+    public int approve(Collection<Long> ids, Long adminId) {
+        List<Long> pending = lockPending(ids);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", pending).addValue("admin", adminId);
+
+        named.update("""
+                INSERT INTO ai_tool (name, sub_title, origin, url, logo, description, created_at, updated_at)
+                SELECT a.name, a.sub_title, a.origin, a.url, a.logo, a.description, NOW(), NOW()
+                FROM ai_tool_application a
+                WHERE a.id IN (:ids)
+                ON DUPLICATE KEY UPDATE
+                    sub_title   = VALUES(sub_title),
+                    origin      = VALUES(origin),
+                    url         = VALUES(url),
+                    logo        = VALUES(logo),
+                    description = VALUES(description),
+                    updated_at  = VALUES(updated_at)
+                """, params);
+
+        named.update("""
+                INSERT IGNORE INTO ai_tool_category (tool_id, category_id)
+                SELECT t.id, ac.category_id
+                FROM ai_tool_application a
+                JOIN ai_tool_application_category ac ON ac.application_id = a.id
+                JOIN ai_tool t ON t.name = a.name
+                WHERE a.id IN (:ids)
+                """, params);
+
+        List<Long> toolIds = named.queryForList("""
+                SELECT t.id FROM ai_tool t JOIN ai_tool_application a ON t.name = a.name WHERE a.id IN (:ids)
+                """, params, Long.class);
+
+        int approved = named.update("""
+                UPDATE ai_tool_application
+                SET status = 'APPROVED', processed_at = NOW(), processed_by = :admin, reject_reason = NULL
+                WHERE id IN (:ids)
+                """, params);
+
+        // 커밋 뒤에 카탈로그 스냅샷에 반영된다
+        events.publishEvent(new CatalogChangedEvent(new HashSet<>(toolIds)));
+        return approved;
+    }
+
+    @Transactional
+    public int reject(Collection<Long> ids, Long adminId, String reason) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return named.update("""
+                UPDATE ai_tool_application
+                SET status = 'REJECTED', processed_at = NOW(), processed_by = :admin, reject_reason = :reason
+                WHERE id IN (:ids) AND status = 'PENDING'
+                """, new MapSqlParameterSource("ids", ids).addValue("admin", adminId).addValue("reason", reason));
+    }
+
+    // 같은 신청을 두 관리자가 동시에 승인하지 않도록 행을 잠그고 아직 대기 중인 것만 고른다
+    private List<Long> lockPending(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return named.queryForList(
+                "SELECT id FROM ai_tool_application WHERE id IN (:ids) AND status = 'PENDING' FOR UPDATE",
+                new MapSqlParameterSource("ids", ids), Long.class);
+    }
+
+    private Map<Long, List<String>> categoryNames(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<String>> byApplication = new HashMap<>();
+        for (ApplicationCategoryName row : repo.findCategoryNamesByApplicationIds(ids)) {
+            byApplication.computeIfAbsent(row.getApplicationId(), k -> new ArrayList<>()).add(row.getName());
+        }
+        byApplication.values().forEach(Collections::sort);
+        return byApplication;
+    }
+}
@@ -0,0 +1,108 @@
+package com.compassai.backend.domain.application;
+
+import com.compassai.backend.domain.bulk.CategoryIdCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 큐에서 꺼낸 신청 묶음을 ai_tool_application(+_category) 에 JDBC 배치로 쓴다.
+ * - 묶음 전체를 트랜잭션 하나로 쓰고, 실패하면 한 건씩 다시 써서 문제 있는 신청만 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ToolApplicationWriter {
+
+    private static final String INSERT_APPLICATION = """
+            INSERT INTO ai_tool_application (user_id, name, sub_title, origin, url, logo, description, applied_at, status)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'PENDING')
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final CategoryIdCache categoryIds;
+
+    // 실제로 쓴 건수를 돌려준다
+    public int write(List<PendingApplication> batch) {
+        try {
+            tx.executeWithoutResult(status -> insert(batch));
+            return batch.size();
+        } catch (RuntimeException e) {
+            log.warn("application batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+        }
+        int written = 0;
+        for (PendingApplication one : batch) {
+            try {
+                tx.executeWithoutResult(status -> insert(List.of(one)));
+                written++;
+            } catch (RuntimeException e) {
+                log.error("dropping tool application '{}' from user {}", one.request().name(), one.userId(), e);
+            }
+        }
+        return written;
+    }
+
+    private void insert(List<PendingApplication> batch) {
+        List<Long> ids = jdbc.execute((Connection con) -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_APPLICATION, Statement.RETURN_GENERATED_KEYS)) {
+                for (PendingApplication p : batch) {
+                    ps.setLong(1, p.userId());
+                    ps.setString(2, p.request().name().trim());
+                    ps.setString(3, p.request().subTitle());
+                    ps.setString(4, p.request().origin());
+                    ps.setString(5, p.request().url());
+                    ps.setString(6, p.request().logo());
+                    ps.setString(7, p.request().description());
+                    ps.setTimestamp(8, Timestamp.valueOf(p.appliedAt()));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                List<Long> keys = new ArrayList<>(batch.size());
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    while (rs.next()) {
+                        keys.add(rs.getLong(1));
+                    }
+                }
+                return keys;
+            }
+        });
+        if (ids == null || ids.size() != batch.size()) {
+            throw new IllegalStateException("생성된 신청 id 수가 맞지 않습니다.");
+        }
+
+        // 모르는 카테고리 이름은 무시한다 (사용자 입력으로 카테고리를 만들지 않는다)
+        Set<String> names = new HashSet<>();
+        batch.forEach(p -> p.request().categories().forEach(c -> names.add(c.trim())));
+        Map<String, Long> categories = new HashMap<>();
+        categoryIds.resolveExisting(names, categories);
+
+        List<Object[]> links = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Long applicationId = ids.get(i);
+            batch.get(i).request().categories().stream()
+                    .map(c -> categories.get(c.trim()))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(categoryId -> links.add(new Object[]{applicationId, categoryId}));
+        }
+        if (!links.isEmpty()) {
+            jdbc.batchUpdate("INSERT INTO ai_tool_application_category (application_id, category_id) VALUES (?, ?)", links);
+        }
+    }
+}
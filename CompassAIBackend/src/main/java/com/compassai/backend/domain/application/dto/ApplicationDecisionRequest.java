@@ -0,0 +1,10 @@
+package com.compassai.backend.domain.application.dto;
+
+import java.util.List;
+
+// 관리자 일괄 승인/거절 요청 (reason 은 거절 때만 쓴다)
+public record ApplicationDecisionRequest(List<Long> ids, String reason) {
+    public ApplicationDecisionRequest {
+        ids = (ids == null) ? List.of() : ids;
+    }
+}
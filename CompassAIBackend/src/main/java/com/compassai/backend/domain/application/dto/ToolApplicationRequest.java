@@ -0,0 +1,50 @@
+package com.compassai.backend.domain.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 등록 신청 요청 본문
+ * - 저장은 나중에 배치로 하므로 DB 제약(길이, 필수값)은 여기서 미리 확인한다.
+ *   202 를 돌려준 뒤에는 실패를 알릴 방법이 없으므로, 쓰기에서 실패할 수 있는 값은 모두 여기서 거절한다.
+ */
+public record ToolApplicationRequest(
+        String name,
+        String subTitle,
+        String origin,
+        String url,
+        String logo,
+        String description,
+        List<String> categories
+) {
+    // description 컬럼(TEXT)의 최대 크기 (utf8mb4 로 인코딩한 바이트 수)
+    static final int MAX_DESCRIPTION_BYTES = 65_535;
+
+    public void validate() {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("이름을 입력하세요.");
+        }
+        checkLength("name", name, 120);
+        checkLength("subTitle", subTitle, 200);
+        checkLength("origin", origin, 30);
+        checkLength("url", url, 300);
+        checkLength("logo", logo, 300);
+        if (description != null && description.getBytes(StandardCharsets.UTF_8).length > MAX_DESCRIPTION_BYTES) {
+            throw new IllegalArgumentException("description은(는) " + MAX_DESCRIPTION_BYTES + "바이트 이하여야 합니다.");
+        }
+        if (categories == null) {
+            throw new IllegalArgumentException("categories를 입력하세요.");
+        }
+        for (String category : categories) {
+            if (category == null || category.isBlank()) {
+                throw new IllegalArgumentException("카테고리 이름이 비어 있습니다.");
+            }
+        }
+    }
+
+    private static void checkLength(String field, String value, int max) {
+        if (value != null && value.length() > max) {
+            throw new IllegalArgumentException(field + "은(는) " + max + "자 이하여야 합니다.");
+        }
+    }
+}
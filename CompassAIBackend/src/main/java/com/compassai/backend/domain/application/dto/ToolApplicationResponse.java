@@ -0,0 +1,29 @@
+package com.compassai.backend.domain.application.dto;
+
+import com.compassai.backend.domain.application.AiToolApplication;
+import com.compassai.backend.domain.application.ApplicationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 관리자 목록 조회용 응답
+public record ToolApplicationResponse(
+        Long id,
+        Long userId,
+        String name,
+        String subTitle,
+        String origin,
+        String url,
+        String logo,
+        String description,
+        List<String> categories,
+        ApplicationStatus status,
+        LocalDateTime appliedAt,
+        String rejectReason
+) {
+    public static ToolApplicationResponse of(AiToolApplication a, List<String> categories) {
+        return new ToolApplicationResponse(
+                a.getId(), a.getUserId(), a.getName(), a.getSubTitle(), a.getOrigin(), a.getUrl(), a.getLogo(),
+                a.getDescription(), categories, a.getStatus(), a.getAppliedAt(), a.getRejectReason());
+    }
+}
@@ -0,0 +1,47 @@
+package com.compassai.backend.domain.bulk;
+
+import com.compassai.backend.auth.Role;
+import com.compassai.backend.auth.dto.UserLoginResponse;
+import com.compassai.backend.auth.session.LoginSessionStore;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 관리자용 AI 툴 일괄 등록 API
+ * - 요청 본문을 그대로 스트림으로 읽는다. (multipart 임시 파일을 만들지 않는다)
+ * - 예: curl -X POST --data-binary @tools.csv -H 'Content-Type: text/csv' /api/admin/tools/import
+ */
+@RestController
+@RequestMapping("/api/admin/tools")
+@RequiredArgsConstructor
+public class AdminToolImportController {
+
+    private final BulkToolImporter importer;
+    private final LoginSessionStore sessions;
+
+    @PostMapping("/import")
+    public ResponseEntity<?> importTools(
+            @RequestParam(required = false) String format,
+            HttpServletRequest request
+    ) throws IOException {
+        UserLoginResponse user = sessions.current(request);
+        if (user == null || user.getRole() != Role.ADMIN) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 사용할 수 있습니다.");
+        }
+        try {
+            ToolImportFormat f = ToolImportFormat.detect(format, request.getContentType());
+            return ResponseEntity.ok(importer.importFrom(request.getInputStream(), f));
+        } catch (IllegalArgumentException e) {
+            // 형식 오류, CSV 헤더 오류 등은 400으로 돌려준다
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.compassai.backend.domain.bulk;
+
+import com.compassai.backend.domain.NameCollation;
+import com.compassai.backend.domain.catalog.CatalogChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * AI 툴 일괄 등록
+ * - 파일을 스트림으로 읽어 chunk-size 줄씩 끊고, chunk 마다 트랜잭션 하나로 JDBC 배치를 쓴다.
+ * - ai_tool 은 uq_ai_tool_name 기준으로 upsert 한다. (IDENTITY 라서 JPA 로는 insert 배치가 안 된다)
+ * - categories 가 있는 줄은 그 툴의 ai_tool_category 를 파일 내용으로 바꾼다. 비어 있으면 기존 매핑을 그대로 둔다.
+ * - 툴/카테고리 이름은 DB collation(utf8mb4_0900_ai_ci)처럼 대소문자/악센트를 가리지 않고 맞춘다. (NameCollation)
+ * - upsert 한 툴의 id 를 이름으로 찾지 못하면 그 줄의 카테고리 매핑만 건너뛰고 unresolved 로 센다.
+ * - 끝나면 카탈로그 스냅샷을 한 번 다시 읽게 한다.
+ */
+@Slf4j
+@Service
+public class BulkToolImporter {
+
+    private static final String UPSERT_TOOL = """
+            INSERT INTO ai_tool (name, sub_title, origin, url, logo, description, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                sub_title   = VALUES(sub_title),
+                origin      = VALUES(origin),
+                url         = VALUES(url),
+                logo        = VALUES(logo),
+                description = VALUES(description),
+                updated_at  = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+    private final TransactionTemplate tx;
+    private final CategoryIdCache categoryIds;
+    private final ApplicationEventPublisher events;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public BulkToolImporter(JdbcTemplate jdbc,
+                            NamedParameterJdbcTemplate named,
+                            TransactionTemplate tx,
+                            CategoryIdCache categoryIds,
+                            ApplicationEventPublisher events,
+                            ObjectMapper objectMapper,
+                            @Value("${compassai.import.chunk-size:2000}") int chunkSize) {
+        this.jdbc = jdbc;
+        this.named = named;
+        this.tx = tx;
+        this.categoryIds = categoryIds;
+        this.events = events;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportResult importFrom(InputStream in, ToolImportFormat format) throws IOException {
+        categoryIds.invalidate();
+        Progress progress = new Progress();
+        try (ToolRowReader reader = ToolRowReader.open(in, format, objectMapper)) {
+            List<ToolImportRow> chunk = new ArrayList<>(chunkSize);
+            while (reader.hasNext()) {
+                ToolImportRow row = reader.next();
+                if (row.name() == null || row.name().isBlank()) {
+                    progress.skipped++;
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    flush(chunk, progress);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                flush(chunk, progress);
+            }
+        } finally {
+            if (progress.chunks > 0) {
+                // 이미 커밋된 chunk 는 중간에 실패해도 반영돼 있으므로 스냅샷을 맞춘다
+                events.publishEvent(CatalogChangedEvent.all());
+            }
+        }
+        ImportResult result = progress.result();
+        log.info("bulk import finished: {}", result);
+        return result;
+    }
+
+    // chunk 하나를 트랜잭션 하나로 쓰고 처리량을 남긴다
+    private void flush(List<ToolImportRow> chunk, Progress progress) {
+        long start = System.nanoTime();
+        ChunkResult r = tx.execute(status -> writeChunk(chunk));
+        long ms = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        progress.add(chunk.size(), r);
+        log.info("bulk import chunk {}: {} rows, {} category links in {} ms ({} rows/s)",
+                progress.chunks, chunk.size(), r.links(), ms, chunk.size() * 1000L / ms);
+        chunk.clear();
+    }
+
+    private ChunkResult writeChunk(List<ToolImportRow> chunk) {
+        // 같은 chunk 안에 같은 이름(대소문자/악센트 무시)이 있으면 마지막 줄을 쓴다. 한 문장에 같은 키가 두 번 들어가지 않게 한다
+        Map<String, ToolImportRow> byName = new TreeMap<>(NameCollation.ORDER);
+        for (ToolImportRow row : chunk) {
+            String name = row.name().trim();
+            byName.remove(name);
+            byName.put(name, row);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> tools = new ArrayList<>(byName.size());
+        Set<String> categoryNames = new TreeSet<>(NameCollation.ORDER);
+        byName.forEach((name, row) -> {
+            tools.add(new Object[]{name, row.subTitle(), row.origin(), row.url(), row.logo(), row.description(), now, now});
+            categoryNames.addAll(row.categories());
+        });
+        jdbc.batchUpdate(UPSERT_TOOL, tools);
+
+        // upsert 후 id 를 이름으로 한 번에 읽는다. DB 에 남은 표기가 파일과 대소문자/악센트만 다를 수 있다
+        Map<String, Long> toolIds = new TreeMap<>(NameCollation.ORDER);
+        named.query("SELECT id, name FROM ai_tool WHERE name IN (:names)",
+                new MapSqlParameterSource("names", byName.keySet()),
+                rs -> {
+                    toolIds.put(rs.getString("name"), rs.getLong("id"));
+                });
+
+        Map<String, Long> categories = new TreeMap<>(NameCollation.ORDER);
+        int createdCategories = categoryNames.isEmpty() ? 0 : categoryIds.resolve(categoryNames, categories);
+
+        List<Long> replaced = new ArrayList<>();
+        List<Object[]> mappings = new ArrayList<>();
+        List<String> unresolved = new ArrayList<>();
+        byName.forEach((name, row) -> {
+            if (row.categories().isEmpty()) {
+                return;
+            }
+            Long toolId = toolIds.get(name);
+            if (toolId == null) {
+                // collation 차이로 못 찾은 줄 하나 때문에 나머지 chunk 를 버리지 않는다
+                unresolved.add(name);
+                return;
+            }
+            replaced.add(toolId);
+            row.categories().stream()
+                    .map(categories::get)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(categoryId -> mappings.add(new Object[]{toolId, categoryId}));
+        });
+        if (!replaced.isEmpty()) {
+            named.update("DELETE FROM ai_tool_category WHERE tool_id IN (:ids)",
+                    new MapSqlParameterSource("ids", replaced));
+            jdbc.batchUpdate("INSERT INTO ai_tool_category (tool_id, category_id) VALUES (?, ?)", mappings);
+        }
+        if (!unresolved.isEmpty()) {
+            log.warn("bulk import: could not find ids of {} upserted tools, categories not replaced: {}",
+                    unresolved.size(), unresolved.subList(0, Math.min(10, unresolved.size())));
+        }
+        return new ChunkResult(mappings.size(), createdCategories, unresolved.size());
+    }
+
+    private record ChunkResult(int links, int createdCategories, int unresolved) { }
+
+    private static final class Progress {
+        private final long start = System.nanoTime();
+        private long rows;
+        private long skipped;
+        private long unresolved;
+        private long links;
+        private int createdCategories;
+        private int chunks;
+
+        void add(int chunkRows, ChunkResult r) {
+            chunks++;
+            rows += chunkRows;
+            links += r.links();
+            unresolved += r.unresolved();
+            createdCategories += r.createdCategories();
+        }
+
+        ImportResult result() {
+            long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            return new ImportResult(rows, skipped, unresolved, links, createdCategories, chunks, elapsedMs, rows * 1000.0 / elapsedMs);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.compassai.backend.domain.bulk;
+
+import com.compassai.backend.domain.NameCollation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 카테고리 이름 -> id 캐시
+ * - 일괄 등록 때 줄마다 category 테이블을 조회하지 않도록 한 번 전부 읽어 둔다.
+ * - 처음 보는 이름은 INSERT IGNORE 로 만든 뒤 id 를 다시 읽어 캐시에 넣는다.
+ * - category.name 은 대소문자/악센트를 가리지 않는 collation 이므로 캐시도 같은 규칙(NameCollation)으로 찾는다.
+ *   (DB 에 "AI" 가 있으면 "ai" 는 새로 만들어지지 않고 같은 id 로 바뀐다)
+ * - 등록 신청 writer 와 함께 쓰므로 맵은 고치지 않고 항상 새 불변 맵으로 통째로 바꾼다.
+ *   (비우는 도중의 빈 맵을 다른 스레드가 보면 카테고리가 조용히 빠진다)
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryIdCache {
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+
+    // null 이면 아직 읽지 않았거나 비운 것이다
+    private volatile Map<String, Long> ids;
+
+    // 다른 경로로 카테고리가 바뀌었을 수 있으므로 일괄 등록을 시작할 때마다 비운다
+    public void invalidate() {
+        ids = null;
+    }
+
+    /**
+     * 이름 목록을 id 로 바꾼다. 없는 카테고리는 새로 만든다. out 에는 넘겨받은 이름 그대로 넣는다.
+     * @return 새로 만든 카테고리 수
+     */
+    public int resolve(Collection<String> names, Map<String, Long> out) {
+        Map<String, Long> known = loaded();
+        Set<String> missing = new TreeSet<>(NameCollation.ORDER);
+        for (String name : names) {
+            Long id = known.get(name);
+            if (id != null) {
+                out.put(name, id);
+            } else {
+                missing.add(name);
+            }
+        }
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> args = new ArrayList<>(missing.size());
+        for (String name : missing) {
+            args.add(new Object[]{name});
+        }
+        int created = 0;
+        for (int n : jdbc.batchUpdate("INSERT IGNORE INTO category (name) VALUES (?)", args)) {
+            // 배치를 한 문장으로 합치는 드라이버는 개수 대신 SUCCESS_NO_INFO(-2)를 돌려준다
+            created += Math.max(n, 0);
+        }
+        Map<String, Long> found = new TreeMap<>(NameCollation.ORDER);
+        named.query("SELECT id, name FROM category WHERE name IN (:names)",
+                new MapSqlParameterSource("names", missing),
+                rs -> {
+                    found.put(rs.getString("name"), rs.getLong("id"));
+                });
+        addAll(found);
+        for (String name : names) {
+            Long id = found.get(name);
+            if (id != null) {
+                out.put(name, id);
+            }
+        }
+        return created;
+    }
+
+    /**
+     * 이미 있는 카테고리만 id 로 바꾼다. 모르는 이름은 건너뛴다. (사용자 입력처럼 새로 만들면 안 되는 경우)
+     */
+    public void resolveExisting(Collection<String> names, Map<String, Long> out) {
+        Map<String, Long> known = loaded();
+        for (String name : names) {
+            Long id = known.get(name);
+            if (id != null) {
+                out.put(name, id);
+            }
+        }
+    }
+
+    private Map<String, Long> loaded() {
+        Map<String, Long> current = ids;
+        if (current != null) {
+            return current;
+        }
+        Map<String, Long> fresh = new TreeMap<>(NameCollation.ORDER);
+        jdbc.query("SELECT id, name FROM category", rs -> {
+            fresh.put(rs.getString("name"), rs.getLong("id"));
+        });
+        synchronized (this) {
+            if (ids == null) {
+                ids = Collections.unmodifiableMap(fresh);
+            }
+            return ids;
+        }
+    }
+
+    // 새로 읽은 id 를 더한 맵으로 바꾼다. 동시에 더하는 쪽끼리 서로의 결과를 덮어쓰지 않도록 묶는다
+    private synchronized void addAll(Map<String, Long> found) {
+        Map<String, Long> current = ids;
+        if (current == null) {
+            // 그사이 비워졌으면 다음 호출이 DB 에서 다시 읽는다
+            return;
+        }
+        Map<String, Long> next = new TreeMap<>(NameCollation.ORDER);
+        next.putAll(current);
+        next.putAll(found);
+        ids = Collections.unmodifiableMap(next);
+    }
+}
@@ -0,0 +1,13 @@
+package com.compassai.backend.domain.bulk;
+
+// 일괄 등록 결과 요약
+public record ImportResult(
+        long rows,              // 반영한 줄 수
+        long skipped,           // name 이 비어 건너뛴 줄 수
+        long unresolved,        // 툴 id 를 찾지 못해 카테고리 매핑을 건너뛴 줄 수
+        long categoryLinks,     // 새로 쓴 ai_tool_category 행 수
+        int createdCategories,  // 새로 만든 카테고리 수
+        int chunks,
+        long elapsedMs,
+        double rowsPerSecond
+) { }
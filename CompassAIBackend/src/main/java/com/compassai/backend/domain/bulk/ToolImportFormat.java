@@ -0,0 +1,28 @@
+package com.compassai.backend.domain.bulk;
+
+import java.util.Locale;
+
+// 일괄 등록 파일 형식
+public enum ToolImportFormat {
+    CSV,
+    NDJSON;
+
+    // format 파라미터가 없으면 Content-Type 이나 파일 확장자로 판단한다
+    public static ToolImportFormat detect(String format, String contentTypeOrFileName) {
+        if (format != null && !format.isBlank()) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+            }
+        }
+        String hint = (contentTypeOrFileName == null) ? "" : contentTypeOrFileName.toLowerCase(Locale.ROOT);
+        if (hint.contains("csv")) {
+            return CSV;
+        }
+        if (hint.contains("ndjson") || hint.contains("jsonl") || hint.contains("json")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("파일 형식을 알 수 없습니다. format=csv 또는 format=ndjson 을 지정하세요.");
+    }
+}
@@ -0,0 +1,27 @@
+package com.compassai.backend.domain.bulk;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 일괄 등록 파일의 한 줄
+ * - NDJSON 에서는 {"name": ..., "subTitle": ..., "categories": ["글쓰기/콘텐츠", ...]} 형식이다.
+ * - categories 의 null/빈 이름은 버리고 앞뒤 공백을 지운다. (CSV 와 같은 규칙)
+ */
+public record ToolImportRow(
+        String name,
+        String subTitle,
+        String origin,
+        String url,
+        String logo,
+        String description,
+        List<String> categories
+) {
+    public ToolImportRow {
+        categories = (categories == null) ? List.of() : categories.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(c -> !c.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,53 @@
+package com.compassai.backend.domain.bulk;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 명령줄 일괄 등록
+ * - java -jar app.jar --spring.main.web-application-type=none --import-tools=tools.csv
+ * - 여러 파일은 --import-tools 를 반복한다. 형식은 확장자(.csv / .ndjson, .jsonl)로 정한다.
+ * - 옵션이 있으면 등록을 마친 뒤 애플리케이션을 종료한다. (실패 시 종료 코드 1)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ToolImportRunner implements ApplicationRunner {
+
+    private static final String OPTION = "import-tools";
+
+    private final BulkToolImporter importer;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> files = args.getOptionValues(OPTION);
+        if (files == null || files.isEmpty()) {
+            return;
+        }
+        int exitCode = 0;
+        for (String file : files) {
+            Path path = Path.of(file);
+            try (InputStream in = Files.newInputStream(path)) {
+                ImportResult result = importer.importFrom(in, ToolImportFormat.detect(null, path.getFileName().toString()));
+                log.info("imported {}: {}", path, result);
+            } catch (Exception e) {
+                log.error("import failed: {}", path, e);
+                exitCode = 1;
+                break;
+            }
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
@@ -0,0 +1,192 @@
+package com.compassai.backend.domain.bulk;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 입력 스트림에서 ToolImportRow 를 한 줄씩 꺼내는 리더
+ * - 파일 전체를 메모리에 올리지 않고 필요한 만큼만 읽는다.
+ */
+public abstract class ToolRowReader implements Iterator<ToolImportRow>, Closeable {
+
+    public static ToolRowReader open(InputStream in, ToolImportFormat format, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(in);
+            case NDJSON -> new Ndjson(objectMapper.readerFor(ToolImportRow.class).readValues(in));
+        };
+    }
+
+    /**
+     * NDJSON: 한 줄에 JSON 객체 하나
+     */
+    static final class Ndjson extends ToolRowReader {
+
+        private final MappingIterator<ToolImportRow> rows;
+
+        Ndjson(MappingIterator<ToolImportRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public ToolImportRow next() {
+            return rows.next();
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+    }
+
+    /**
+     * CSV: 첫 줄은 헤더(name,sub_title,origin,url,logo,description,categories)
+     * - 따옴표로 감싼 값 안의 쉼표/줄바꿈과 "" 이스케이프를 처리한다. (RFC 4180)
+     * - categories 는 한 칸에 '|' 로 구분해 넣는다.
+     */
+    static final class Csv extends ToolRowReader {
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private List<String> pending;
+
+        Csv(InputStream in) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+            List<String> header = readRecord();
+            if (header == null) {
+                return;
+            }
+            for (int i = 0; i < header.size(); i++) {
+                String col = header.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "");
+                // UTF-8 BOM 이 붙은 엑셀 CSV 대비
+                if (i == 0 && !col.isEmpty() && col.charAt(0) == '\uFEFF') {
+                    col = col.substring(1);
+                }
+                columns.put(col, i);
+            }
+            if (!columns.containsKey("name")) {
+                throw new IllegalArgumentException("CSV 헤더에 name 열이 없습니다.");
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending == null) {
+                try {
+                    pending = readRecord();
+                    // 빈 줄은 건너뛴다
+                    while (pending != null && pending.size() == 1 && pending.get(0).isEmpty()) {
+                        pending = readRecord();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return pending != null;
+        }
+
+        @Override
+        public ToolImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<String> r = pending;
+            pending = null;
+            String categories = column(r, "categories");
+            return new ToolImportRow(
+                    column(r, "name"),
+                    column(r, "subtitle"),
+                    column(r, "origin"),
+                    column(r, "url"),
+                    column(r, "logo"),
+                    column(r, "description"),
+                    categories == null ? List.of() : Arrays.stream(categories.split("\\|"))
+                            .map(String::trim)
+                            .filter(s -> !s.isEmpty())
+                            .toList()
+            );
+        }
+
+        private String column(List<String> record, String name) {
+            Integer i = columns.get(name);
+            if (i == null || i >= record.size()) {
+                return null;
+            }
+            String v = record.get(i);
+            return v.isEmpty() ? null : v;
+        }
+
+        // 레코드 하나(따옴표 안 줄바꿈 포함)를 읽는다. 파일 끝이면 null
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("CSV 따옴표가 닫히지 않았습니다.");
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        int n = reader.read();
+                        if (n == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == -1 || c == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
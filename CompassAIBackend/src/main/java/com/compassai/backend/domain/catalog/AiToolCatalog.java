@@ -0,0 +1,147 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.AiTool;
+import com.compassai.backend.domain.AiToolRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AI 툴 카탈로그를 메모리 스냅샷으로 들고 있는 서비스
+ * - 기동 시 ai_tool + category 전체를 한 번 읽어 CatalogSnapshot을 만든다.
+ * - 카탈로그 변경 이벤트나 주기적 갱신 때 새 스냅샷을 만들어 원자적으로 교체한다.
+ * - 읽는 쪽은 current()로 받은 스냅샷만 보면 되므로 DB를 거치지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiToolCatalog {
+
+    private final AiToolRepository repo;
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+
+    // 스냅샷 교체를 직렬화한다. DB를 읽는 동안 잡고 있으므로 가상 스레드를 고정(pinning)시키는 synchronized 대신 락을 쓴다
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    // 스냅샷을 끈 경우에 쓰는 DB 기준 버전 (변경 이벤트/주기 갱신 때만 다시 계산한다)
+    private volatile CatalogVersion dbVersion;
+
+    // false면 컨트롤러가 기존처럼 DB 조회 경로를 사용한다
+    @Value("${compassai.catalog.snapshot-enabled:true}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 현재 스냅샷을 반환한다. 아직 한 번도 로딩되지 않았다면 그 자리에서 로딩한다.
+    public CatalogSnapshot current() {
+        CatalogSnapshot s = current.get();
+        return (s != null) ? s : reload();
+    }
+
+    /**
+     * 현재 카탈로그 버전
+     * - 스냅샷 모드에서는 지금 응답에 쓰이는 스냅샷의 버전을 그대로 쓰므로 내용과 ETag가 어긋나지 않는다.
+     * - DB 모드에서는 메모리에 캐시해 둔 값을 쓰고 요청마다 DB를 읽지 않는다.
+     */
+    public CatalogVersion version() {
+        if (enabled) {
+            return current().version();
+        }
+        CatalogVersion v = dbVersion;
+        return (v != null) ? v : refreshDbVersion();
+    }
+
+    private CatalogVersion refreshDbVersion() {
+        Long stamp = repo.mappingStamp();
+        CatalogVersion v = new CatalogVersion(repo.findMaxUpdatedAt(), stamp == null ? 0L : stamp);
+        dbVersion = v;
+        return v;
+    }
+
+    // DB에서 전체 카탈로그를 다시 읽어 스냅샷을 교체한다. 동시에 두 번 읽지 않도록 직렬화한다.
+    public CatalogSnapshot reload() {
+        reloadLock.lock();
+        try {
+            long start = System.nanoTime();
+            CatalogSnapshot next = CatalogSnapshot.of(repo.findAllWithCategories());
+            current.set(next);
+            log.info("catalog snapshot loaded: {} tools in {} ms", next.size(), (System.nanoTime() - start) / 1_000_000);
+            return next;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            reload();
+        } else {
+            refreshDbVersion();
+        }
+    }
+
+    /**
+     * 일부 툴만 바뀌었으면 그 툴만 다시 읽어 기존 스냅샷에 덧씌운다.
+     * - 요청한 id 중 DB에 없는 것이 있으면(삭제) 전체를 다시 읽는다.
+     */
+    public CatalogSnapshot applyChanges(Set<Long> toolIds) {
+        reloadLock.lock();
+        try {
+            CatalogSnapshot base = current.get();
+            if (base == null) {
+                return reload();
+            }
+            List<AiTool> changed = repo.findAllWithCategoriesByIdIn(toolIds);
+            if (changed.size() != toolIds.size()) {
+                return reload();
+            }
+            CatalogSnapshot next = base.withUpserts(changed);
+            current.set(next);
+            log.debug("catalog snapshot updated: {} tools changed", changed.size());
+            return next;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // 커밋이 끝난 뒤에 반영해야 방금 쓴 데이터를 읽을 수 있다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (!enabled) {
+            refreshDbVersion();
+            return;
+        }
+        if (event.isFullRefresh()) {
+            reload();
+        } else {
+            applyChanges(event.toolIds());
+        }
+    }
+
+    // 다른 경로(직접 SQL 등)로 바뀐 데이터도 일정 주기로 따라잡는다
+    @Scheduled(
+            initialDelayString = "${compassai.catalog.refresh-interval-ms:300000}",
+            fixedDelayString = "${compassai.catalog.refresh-interval-ms:300000}"
+    )
+    public void scheduledRefresh() {
+        if (enabled) {
+            reload();
+        } else {
+            refreshDbVersion();
+        }
+    }
+}
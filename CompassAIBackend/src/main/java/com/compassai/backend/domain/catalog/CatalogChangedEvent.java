@@ -0,0 +1,19 @@
+package com.compassai.backend.domain.catalog;
+
+import java.util.Set;
+
+/**
+ * ai_tool / ai_tool_category 가 바뀌었음을 알리는 이벤트
+ * - 트랜잭션 커밋 이후 AiToolCatalog가 받아서 스냅샷을 새로 만든다.
+ * - toolIds가 비어 있으면 카탈로그 전체가 바뀐 것으로 본다.
+ */
+public record CatalogChangedEvent(Set<Long> toolIds) {
+
+    public static CatalogChangedEvent all() {
+        return new CatalogChangedEvent(Set.of());
+    }
+
+    public boolean isFullRefresh() {
+        return toolIds == null || toolIds.isEmpty();
+    }
+}
@@ -0,0 +1,112 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.NameCollation;
+import com.compassai.backend.domain.dto.AiToolResponse;
+import com.compassai.backend.domain.dto.ToolFacets;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 카테고리별/출처별 툴 ordinal 비트맵
+ * - 여러 카테고리 AND/OR, 여러 출처 OR 조건을 비트맵 교집합/합집합으로 계산한다.
+ * - 패싯 개수는 "자기 차원의 필터는 빼고 나머지 조건만 건" 집합과의 교집합 크기로 센다.
+ *   (카테고리 탭에 숫자를 붙일 때, 이미 고른 카테고리 때문에 다른 탭이 0이 되지 않도록)
+ * - 이름은 NameCollation 으로 비교한다. DB 경로(utf8mb4_0900_ai_ci)처럼 "chatgpt" 필터가 "ChatGPT" 에 걸리고,
+ *   대소문자만 다른 출처는 패싯 하나로 합쳐진다.
+ */
+final class CatalogFacets {
+
+    private final int universe;
+    private final Map<String, ToolBitmap> byCategory;
+    private final Map<String, ToolBitmap> byOrigin;
+
+    private CatalogFacets(int universe, Map<String, ToolBitmap> byCategory, Map<String, ToolBitmap> byOrigin) {
+        this.universe = universe;
+        this.byCategory = byCategory;
+        this.byOrigin = byOrigin;
+    }
+
+    static CatalogFacets build(AiToolResponse[] tools) {
+        int n = tools.length;
+        Map<String, NgramIndex.IntList> categories = new TreeMap<>(NameCollation.ORDER);
+        Map<String, NgramIndex.IntList> origins = new TreeMap<>(NameCollation.ORDER);
+        for (int ordinal = 0; ordinal < n; ordinal++) {
+            AiToolResponse t = tools[ordinal];
+            for (String c : t.categories()) {
+                categories.computeIfAbsent(c, k -> new NgramIndex.IntList()).add(ordinal);
+            }
+            if (t.origin() != null) {
+                origins.computeIfAbsent(t.origin(), k -> new NgramIndex.IntList()).add(ordinal);
+            }
+        }
+        return new CatalogFacets(n, toBitmaps(categories, n), toBitmaps(origins, n));
+    }
+
+    /**
+     * 필터 전체를 만족하는 ordinal 집합. 필터가 없으면 null (전체)
+     */
+    ToolBitmap allowed(ToolFilter filter) {
+        return intersect(categoryMatch(filter), originMatch(filter));
+    }
+
+    /**
+     * base(검색어 결과 등, null이면 전체)에 대한 패싯 개수
+     */
+    ToolFacets count(ToolBitmap base, ToolFilter filter) {
+        ToolBitmap forCategories = intersect(base, originMatch(filter));
+        ToolBitmap forOrigins = intersect(base, categoryMatch(filter));
+
+        Map<String, Integer> categoryCounts = new LinkedHashMap<>();
+        byCategory.forEach((name, bitmap) -> categoryCounts.put(name, countIn(forCategories, bitmap)));
+        Map<String, Integer> originCounts = new LinkedHashMap<>();
+        byOrigin.forEach((name, bitmap) -> originCounts.put(name, countIn(forOrigins, bitmap)));
+        return new ToolFacets(categoryCounts, originCounts);
+    }
+
+    private ToolBitmap categoryMatch(ToolFilter filter) {
+        if (!filter.hasCategories()) {
+            return null;
+        }
+        ToolBitmap result = null;
+        for (String name : filter.categories()) {
+            ToolBitmap b = byCategory.getOrDefault(name, ToolBitmap.empty(universe));
+            if (result == null) {
+                result = b;
+            } else {
+                result = filter.matchAll() ? result.and(b) : result.or(b);
+            }
+        }
+        return result;
+    }
+
+    private ToolBitmap originMatch(ToolFilter filter) {
+        if (!filter.hasOrigins()) {
+            return null;
+        }
+        ToolBitmap result = ToolBitmap.empty(universe);
+        for (String name : filter.origins()) {
+            result = result.or(byOrigin.getOrDefault(name, ToolBitmap.empty(universe)));
+        }
+        return result;
+    }
+
+    // null은 "제한 없음"으로 취급한다
+    static ToolBitmap intersect(ToolBitmap a, ToolBitmap b) {
+        if (a == null) {
+            return b;
+        }
+        return (b == null) ? a : a.and(b);
+    }
+
+    private static int countIn(ToolBitmap base, ToolBitmap bitmap) {
+        return (base == null) ? bitmap.cardinality() : base.andCardinality(bitmap);
+    }
+
+    private static Map<String, ToolBitmap> toBitmaps(Map<String, NgramIndex.IntList> lists, int universe) {
+        Map<String, ToolBitmap> out = new TreeMap<>(NameCollation.ORDER);
+        lists.forEach((name, list) -> out.put(name, ToolBitmap.ofSorted(list.toArray(), universe)));
+        return out;
+    }
+}
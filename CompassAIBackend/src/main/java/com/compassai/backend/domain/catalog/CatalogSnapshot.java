@@ -0,0 +1,402 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.AiTool;
+import com.compassai.backend.domain.Category;
+import com.compassai.backend.domain.ToolCursor;
+import com.compassai.backend.domain.dto.AiToolResponse;
+import com.compassai.backend.domain.dto.CursorPage;
+import com.compassai.backend.domain.dto.ToolFacets;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 특정 시점의 AI 툴 카탈로그를 메모리에 고정해 둔 불변 스냅샷
+ * - 툴마다 스냅샷 안에서만 쓰는 고정 번호(ordinal)를 붙이고, 모든 배열은 ordinal로 접근한다.
+ * - order 배열에 updatedAt 내림차순(같으면 id 내림차순) 순서를 미리 계산해 둔다.
+ * - 카테고리/출처/검색어 필터링과 페이징을 DB 없이 배열 순회로 처리한다.
+ * - 한 번 만들어진 스냅샷은 절대 바뀌지 않으므로 여러 스레드가 락 없이 읽어도 된다.
+ */
+public final class CatalogSnapshot {
+
+    // ordinal -> 응답 DTO / 수정 시각
+    private final AiToolResponse[] tools;
+    private final LocalDateTime[] updatedAt;
+
+    // 최신순으로 나열한 ordinal, 그리고 그 역(ordinal -> order 안의 위치)
+    private final int[] order;
+    private final int[] rank;
+
+    // id -> ordinal
+    private final Map<Long, Integer> ordinalById;
+
+    // q 검색용 n-gram 색인
+    private final ToolSearchIndex search;
+
+    // 카테고리/출처 비트맵
+    private final CatalogFacets facets;
+
+    // 툴별 비슷한 툴 상위 K개
+    private final RelatedTools related;
+
+    // mode=similar 검색용 n-gram 벡터
+    private final ToolVectorIndex vectors;
+
+    // 이 스냅샷 내용의 버전 (ETag 용)
+    private final CatalogVersion version;
+
+    private CatalogSnapshot(AiToolResponse[] tools, LocalDateTime[] updatedAt, int[] order,
+                            Map<Long, Integer> ordinalById, ToolSearchIndex search, RelatedTools related,
+                            ToolVectorIndex vectors) {
+        this.tools = tools;
+        this.updatedAt = updatedAt;
+        this.order = order;
+        this.rank = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            rank[order[i]] = i;
+        }
+        this.ordinalById = ordinalById;
+        this.search = search;
+        this.related = related;
+        this.vectors = vectors;
+        this.facets = CatalogFacets.build(tools);
+        this.version = computeVersion(tools, updatedAt);
+    }
+
+    // 카테고리까지 모두 로딩된 엔티티 목록으로 스냅샷을 만든다
+    public static CatalogSnapshot of(List<AiTool> entities) {
+        int n = entities.size();
+        AiToolResponse[] tools = new AiToolResponse[n];
+        LocalDateTime[] updatedAt = new LocalDateTime[n];
+        Map<Long, Integer> ordinalById = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            AiTool t = entities.get(i);
+            tools[i] = toResponse(t);
+            updatedAt[i] = t.getUpdatedAt();
+            ordinalById.put(t.getId(), i);
+        }
+
+        int[] all = new int[n];
+        for (int i = 0; i < n; i++) {
+            all[i] = i;
+        }
+        int[] order = sortRecentFirst(all, tools, updatedAt);
+        return new CatalogSnapshot(tools, updatedAt, order, ordinalById, ToolSearchIndex.build(tools),
+                RelatedTools.build(tools), ToolVectorIndex.build(tools));
+    }
+
+    public static CatalogSnapshot empty() {
+        return of(List.of());
+    }
+
+    /**
+     * 일부 툴이 추가/수정되었을 때, 바뀐 툴만 반영한 새 스냅샷을 만든다.
+     * - 기존 툴의 ordinal은 그대로 두고 새 툴은 뒤에 붙인다.
+     * - 검색 색인은 바뀐 툴의 gram만, 비슷한 툴 표는 바뀐 툴과 카테고리를 공유하는 툴만 다시 계산한다.
+     * - 유사도 벡터도 바뀐 툴의 줄만 다시 만든다.
+     * - 삭제는 다루지 않는다. 삭제가 섞이면 호출하는 쪽에서 전체를 다시 만든다.
+     */
+    public CatalogSnapshot withUpserts(List<AiTool> changed) {
+        if (changed.isEmpty()) {
+            return this;
+        }
+        Map<Long, Integer> nextIds = new HashMap<>(ordinalById);
+        AiToolResponse[] nextTools = Arrays.copyOf(tools, tools.length + changed.size());
+        LocalDateTime[] nextUpdatedAt = Arrays.copyOf(updatedAt, tools.length + changed.size());
+        int size = tools.length;
+        int[] changedOrdinals = new int[changed.size()];
+        for (int i = 0; i < changed.size(); i++) {
+            AiTool t = changed.get(i);
+            Integer ordinal = nextIds.get(t.getId());
+            if (ordinal == null) {
+                ordinal = size++;
+                nextIds.put(t.getId(), ordinal);
+            }
+            nextTools[ordinal] = toResponse(t);
+            nextUpdatedAt[ordinal] = t.getUpdatedAt();
+            changedOrdinals[i] = ordinal;
+        }
+        nextTools = Arrays.copyOf(nextTools, size);
+        nextUpdatedAt = Arrays.copyOf(nextUpdatedAt, size);
+
+        // 기존 순서에서 바뀐 툴만 빼면 나머지는 이미 정렬되어 있으므로, 바뀐 툴끼리 정렬해 병합한다
+        boolean[] isChanged = new boolean[size];
+        for (int ordinal : changedOrdinals) {
+            isChanged[ordinal] = true;
+        }
+        int[] kept = new int[order.length];
+        int k = 0;
+        for (int ordinal : order) {
+            if (!isChanged[ordinal]) {
+                kept[k++] = ordinal;
+            }
+        }
+        kept = Arrays.copyOf(kept, k);
+        int[] moved = sortRecentFirst(changedOrdinals.clone(), nextTools, nextUpdatedAt);
+        int[] nextOrder = merge(kept, moved, nextTools, nextUpdatedAt);
+
+        return new CatalogSnapshot(nextTools, nextUpdatedAt, nextOrder, nextIds,
+                search.update(nextTools, changedOrdinals),
+                related.update(tools, nextTools, changedOrdinals),
+                vectors.update(nextTools, changedOrdinals));
+    }
+
+    public int size() {
+        return tools.length;
+    }
+
+    public CatalogVersion version() {
+        return version;
+    }
+
+    public boolean contains(Long id) {
+        return ordinalById.containsKey(id);
+    }
+
+    public Optional<AiToolResponse> findById(Long id) {
+        Integer ordinal = ordinalById.get(id);
+        return ordinal == null ? Optional.empty() : Optional.of(tools[ordinal]);
+    }
+
+    public Page<AiToolResponse> find(ToolFilter filter, String q, ToolSort sort, Pageable pageable) {
+        return find(filter, q, sort, ToolPopularity.NONE, pageable);
+    }
+
+    /**
+     * id 툴과 비슷한 툴을 유사도 순으로 최대 limit개 돌려준다. 미리 계산해 둔 표를 읽기만 한다.
+     * - 없는 id면 empty
+     */
+    public Optional<List<AiToolResponse>> related(Long id, int limit) {
+        Integer ordinal = ordinalById.get(id);
+        if (ordinal == null) {
+            return Optional.empty();
+        }
+        int[] neighbors = related.neighborsOf(ordinal, limit);
+        List<AiToolResponse> out = new ArrayList<>(neighbors.length);
+        for (int neighbor : neighbors) {
+            out.add(tools[neighbor]);
+        }
+        return Optional.of(out);
+    }
+
+    /**
+     * AiToolRepository.findAllFiltered와 같은 조건으로 필터링 후 페이지를 잘라 반환한다.
+     * - q는 이미 공백 정리(null 처리)가 끝난 상태로 들어온다고 가정한다.
+     * - 카테고리/출처 조건은 비트맵으로 미리 계산해 두고 ordinal마다 포함 여부만 확인한다.
+     * - q가 있으면 n-gram 색인으로 후보를 좁히고, RELEVANCE 정렬이면 점수순으로 나열한다.
+     * - POPULAR 정렬이면 popularity 점수순으로 나열한다. (같으면 최신순)
+     */
+    public Page<AiToolResponse> find(ToolFilter filter, String q, ToolSort sort, ToolPopularity popularity,
+                                     Pageable pageable) {
+        ToolBitmap allowed = facets.allowed(filter);
+        int from = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+        int to = (int) Math.min((long) from + pageable.getPageSize(), Integer.MAX_VALUE);
+
+        if (q == null && sort != ToolSort.POPULAR) {
+            // 검색어가 없으면 최신순 배열을 그대로 훑으면서 바로 페이지를 자른다
+            List<AiToolResponse> content = new ArrayList<>(Math.max(0, Math.min(to, tools.length) - from));
+            int total = 0;
+            for (int ordinal : order) {
+                if (allowed != null && !allowed.contains(ordinal)) {
+                    continue;
+                }
+                if (total >= from && total < to) {
+                    content.add(tools[ordinal]);
+                }
+                total++;
+            }
+            return new PageImpl<>(content, pageable, total);
+        }
+
+        ToolSearchIndex.Hits hits = (q == null) ? null : search.search(q);
+        int candidates = (hits == null) ? tools.length : hits.docs().length;
+        long[] keys = new long[candidates];
+        int total = 0;
+        for (int i = 0; i < candidates; i++) {
+            int ordinal = (hits == null) ? i : hits.docs()[i];
+            if (allowed != null && !allowed.contains(ordinal)) {
+                continue;
+            }
+            // 상위 32비트에 점수(역순), 하위 32비트에 최신순 위치를 넣어 long 정렬 한 번으로 끝낸다
+            long primary = switch (sort) {
+                case RELEVANCE -> Integer.MAX_VALUE - hits.scores()[i];
+                case POPULAR -> Integer.MAX_VALUE - (int) Math.min(popularity.score(tools[ordinal].id()), Integer.MAX_VALUE);
+                case RECENT -> 0;
+            };
+            keys[total++] = (primary << 32) | rank[ordinal];
+        }
+        Arrays.sort(keys, 0, total);
+
+        List<AiToolResponse> content = new ArrayList<>(Math.max(0, Math.min(to, total) - from));
+        for (int i = from; i < to && i < total; i++) {
+            content.add(tools[order[(int) keys[i]]]);
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * mode=similar 검색. q와 n-gram 벡터 유사도가 높은 순으로 페이지를 자른다.
+     * - 필터는 find와 같고, 정렬 기준은 유사도 하나뿐이다.
+     */
+    public Page<AiToolResponse> similar(ToolFilter filter, String q, Pageable pageable) {
+        float[] query = vectors.embed(q);
+        if (query == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        int from = (int) Math.min(pageable.getOffset(), tools.length);
+        int to = (int) Math.min((long) from + pageable.getPageSize(), tools.length);
+        ToolVectorIndex.Hits hits = vectors.top(query, facets.allowed(filter), to);
+
+        List<AiToolResponse> content = new ArrayList<>(Math.max(0, hits.docs().length - from));
+        for (int i = from; i < hits.docs().length; i++) {
+            content.add(tools[hits.docs()[i]]);
+        }
+        return new PageImpl<>(content, pageable, hits.total());
+    }
+
+    /**
+     * 커서 기반 목록. cursor 뒤(최신순 기준)에서부터 조건에 맞는 툴을 limit개 돌려준다.
+     * - 커서가 가리키던 툴이 그사이 수정되어도 (updatedAt, id) 값 자체로 위치를 찾으므로 문제없다.
+     * - 전체 개수는 세지 않는다.
+     */
+    public CursorPage<AiToolResponse> scroll(ToolFilter filter, String q, ToolCursor cursor, int limit) {
+        ToolBitmap allowed = facets.allowed(filter);
+        int[] candidates;
+        if (q == null) {
+            candidates = order;
+        } else {
+            // 검색 결과를 최신순 위치로 바꿔 정렬한 뒤 다시 ordinal로 돌린다
+            int[] hits = search.search(q).docs();
+            int[] ranks = new int[hits.length];
+            for (int i = 0; i < hits.length; i++) {
+                ranks[i] = rank[hits[i]];
+            }
+            Arrays.sort(ranks);
+            candidates = new int[ranks.length];
+            for (int i = 0; i < ranks.length; i++) {
+                candidates[i] = order[ranks[i]];
+            }
+        }
+
+        List<AiToolResponse> content = new ArrayList<>();
+        int last = -1;
+        boolean hasNext = false;
+        for (int i = firstAfter(candidates, cursor); i < candidates.length; i++) {
+            int ordinal = candidates[i];
+            if (allowed != null && !allowed.contains(ordinal)) {
+                continue;
+            }
+            if (content.size() == limit) {
+                hasNext = true;
+                break;
+            }
+            content.add(tools[ordinal]);
+            last = ordinal;
+        }
+        String next = (hasNext && last >= 0) ? new ToolCursor(updatedAt[last], tools[last].id()).encode() : null;
+        return new CursorPage<>(content, next, hasNext);
+    }
+
+    // 최신순으로 정렬된 candidates에서 cursor 뒤에 오는 첫 위치를 이분 탐색으로 찾는다
+    private int firstAfter(int[] candidates, ToolCursor cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        int lo = 0, hi = candidates.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int ordinal = candidates[mid];
+            if (cursor.follows(updatedAt[ordinal], tools[ordinal].id())) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    // 자동완성 색인은 스냅샷과 별도 스레드에서 만든다 (ToolSuggester)
+    ToolSuggestIndex buildSuggestIndex() {
+        return ToolSuggestIndex.build(tools, rank);
+    }
+
+    /**
+     * 현재 필터/검색어 기준 카테고리별, 출처별 툴 개수
+     */
+    public ToolFacets facetCounts(ToolFilter filter, String q) {
+        return facetCounts(filter, q, ToolSearchMode.KEYWORD);
+    }
+
+    public ToolFacets facetCounts(ToolFilter filter, String q, ToolSearchMode mode) {
+        ToolBitmap base = null;
+        if (q != null && mode == ToolSearchMode.SIMILAR) {
+            float[] query = vectors.embed(q);
+            base = ToolBitmap.ofSorted(query == null ? new int[0] : vectors.matches(query), tools.length);
+        } else if (q != null) {
+            base = ToolBitmap.ofSorted(search.search(q).docs(), tools.length);
+        }
+        return facets.count(base, filter);
+    }
+
+    // 최신 수정 시각과, 툴별 (id, 카테고리 목록) 해시를 순서와 무관하게 더한 값으로 버전을 만든다
+    private static CatalogVersion computeVersion(AiToolResponse[] tools, LocalDateTime[] updatedAt) {
+        LocalDateTime max = null;
+        long stamp = tools.length;
+        for (int i = 0; i < tools.length; i++) {
+            if (updatedAt[i] != null && (max == null || updatedAt[i].isAfter(max))) {
+                max = updatedAt[i];
+            }
+            stamp += tools[i].id() * 1_000_003L + tools[i].categories().hashCode();
+        }
+        return new CatalogVersion(max, stamp);
+    }
+
+    private static AiToolResponse toResponse(AiTool t) {
+        List<String> categories = t.getCategories().stream().map(Category::getName).sorted().toList();
+        return AiToolResponse.of(t, categories);
+    }
+
+    // 최신 수정순, 같은 시각이면 id가 큰 쪽을 먼저 둔다
+    private static int compareRecentFirst(int a, int b, AiToolResponse[] tools, LocalDateTime[] updatedAt) {
+        LocalDateTime ua = updatedAt[a], ub = updatedAt[b];
+        if (ua != null && ub != null) {
+            int c = ub.compareTo(ua);
+            if (c != 0) {
+                return c;
+            }
+        } else if (ua != ub) {
+            return (ua == null) ? 1 : -1;
+        }
+        return Long.compare(tools[b].id(), tools[a].id());
+    }
+
+    private static int[] sortRecentFirst(int[] ordinals, AiToolResponse[] tools, LocalDateTime[] updatedAt) {
+        return Arrays.stream(ordinals).boxed()
+                .sorted((a, b) -> compareRecentFirst(a, b, tools, updatedAt))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static int[] merge(int[] a, int[] b, AiToolResponse[] tools, LocalDateTime[] updatedAt) {
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            out[k++] = (compareRecentFirst(a[i], b[j], tools, updatedAt) <= 0) ? a[i++] : b[j++];
+        }
+        while (i < a.length) {
+            out[k++] = a[i++];
+        }
+        while (j < b.length) {
+            out[k++] = b[j++];
+        }
+        return out;
+    }
+}
@@ -0,0 +1,30 @@
+package com.compassai.backend.domain.catalog;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 카탈로그 내용의 버전
+ * - maxUpdatedAt: ai_tool.updated_at 의 최댓값 (툴 추가/수정을 잡아낸다)
+ * - mappingStamp: ai_tool_category 매핑 전체의 체크섬 (updated_at이 바뀌지 않는 매핑 변경을 잡아낸다)
+ * - 내용만으로 계산하므로 노드가 여러 대여도 같은 데이터면 같은 ETag가 나온다.
+ */
+public record CatalogVersion(LocalDateTime maxUpdatedAt, long mappingStamp) {
+
+    public static final CatalogVersion EMPTY = new CatalogVersion(null, 0L);
+
+    // 강한 ETag 값 (따옴표 포함)
+    public String etag() {
+        return "\"c" + Long.toHexString(lastModified()) + "-" + Long.toHexString(mappingStamp) + "\"";
+    }
+
+    // 인기순처럼 카탈로그 밖의 값(salt)에 따라서도 달라지는 응답용 버전
+    public CatalogVersion mix(long salt) {
+        return new CatalogVersion(maxUpdatedAt, mappingStamp * 31 + salt);
+    }
+
+    // Last-Modified 용 epoch millis. 툴이 하나도 없으면 0
+    public long lastModified() {
+        return (maxUpdatedAt == null) ? 0L : maxUpdatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
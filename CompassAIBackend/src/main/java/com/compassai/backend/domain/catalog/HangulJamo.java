@@ -0,0 +1,110 @@
+package com.compassai.backend.domain.catalog;
+
+import java.util.Locale;
+
+/**
+ * 한글 음절을 자모로 풀어 쓰는 도구 (자동완성용)
+ * - jamo("챗지피티") = "ㅊㅐㅅㅈㅣㅍㅣㅌㅣ". 입력 중인 "챗ㅈ", "채" 같은 미완성 글자도 접두사로 맞아떨어진다.
+ * - chosung("챗지피티") = "ㅊㅈㅍㅌ". 초성만 입력하는 검색에 쓴다.
+ * - 겹모음/겹받침(ㅘ, ㄳ 등)은 입력 순서대로 둘로 나눈다. ("과" 입력 중에는 "고"가 먼저 보이므로)
+ * - 첫가끝 조합형 자모(U+1100 영역, NFD 로 풀린 입력 등)는 같은 호환 자모(ㄱ, ㅏ ...)로 바꾼다.
+ * - 한글이 아닌 글자는 소문자로 바꾸고, 공백은 뺀다. ("chat gpt" 와 "chatgpt" 를 같게 본다)
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 따로 입력된 겹자모(호환 자모 "ㅘ", "ㄳ" 등)도 같은 방식으로 나눈다
+    private static final String COMPOUND = "ㅘㅙㅚㅝㅞㅟㅢㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ";
+    private static final String[] COMPOUND_PARTS = {
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ",
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ"
+    };
+
+    // 조합형 자모 영역. 순서가 CHO / JUNG / JONG(받침 없음 제외)과 같다
+    private static final char CHOSEONG_FIRST = '\u1100';
+    private static final char CHOSEONG_LAST = '\u1112';
+    private static final char JUNGSEONG_FIRST = '\u1161';
+    private static final char JUNGSEONG_LAST = '\u1175';
+    private static final char JONGSEONG_FIRST = '\u11A8';
+    private static final char JONGSEONG_LAST = '\u11C2';
+
+    private HangulJamo() {
+    }
+
+    static String jamo(String s) {
+        StringBuilder out = new StringBuilder(s.length() * 3);
+        String lower = s.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (isSyllable(c)) {
+                int idx = c - SYLLABLE_FIRST;
+                out.append(CHO.charAt(idx / (JUNG_COUNT * JONG_COUNT)))
+                        .append(JUNG[(idx / JONG_COUNT) % JUNG_COUNT])
+                        .append(JONG[idx % JONG_COUNT]);
+            } else if (c >= CHOSEONG_FIRST && c <= CHOSEONG_LAST) {
+                out.append(CHO.charAt(c - CHOSEONG_FIRST));
+            } else if (c >= JUNGSEONG_FIRST && c <= JUNGSEONG_LAST) {
+                out.append(JUNG[c - JUNGSEONG_FIRST]);
+            } else if (c >= JONGSEONG_FIRST && c <= JONGSEONG_LAST) {
+                out.append(JONG[c - JONGSEONG_FIRST + 1]);
+            } else if (!Character.isWhitespace(c)) {
+                int compound = COMPOUND.indexOf(c);
+                if (compound >= 0) {
+                    out.append(COMPOUND_PARTS[compound]);
+                } else {
+                    out.append(c);
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    static String chosung(String s) {
+        StringBuilder out = new StringBuilder(s.length());
+        String lower = s.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (isSyllable(c)) {
+                out.append(CHO.charAt((c - SYLLABLE_FIRST) / (JUNG_COUNT * JONG_COUNT)));
+            } else if (c >= CHOSEONG_FIRST && c <= CHOSEONG_LAST) {
+                out.append(CHO.charAt(c - CHOSEONG_FIRST));
+            } else if (c >= JUNGSEONG_FIRST && c <= JONGSEONG_LAST) {
+                // 조합형 중성/종성은 앞의 초성과 한 음절이므로 초성 키에 넣지 않는다
+                continue;
+            } else if (!Character.isWhitespace(c)) {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    static boolean containsSyllable(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isSyllable(c) || (c >= CHOSEONG_FIRST && c <= CHOSEONG_LAST)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+}
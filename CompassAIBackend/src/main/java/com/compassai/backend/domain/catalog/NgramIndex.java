@@ -0,0 +1,230 @@
+package com.compassai.backend.domain.catalog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문자 1~3-gram 역색인 (필드 하나 분량)
+ * - 공백 분리 없이 문자 단위로 자르므로 한글 음절과 영문이 섞인 텍스트에도 그대로 쓸 수 있다.
+ * - 포스팅 리스트는 문서 번호(ordinal)를 오름차순으로 담은 int[] 이다.
+ * - 불변 객체이며, 변경은 바뀐 문서의 gram에 해당하는 포스팅만 새로 복사해 만든다.
+ */
+final class NgramIndex {
+
+    static final int MAX_GRAM = 3;
+
+    private static final int[] EMPTY = new int[0];
+
+    // gram 키 -> 오름차순 문서 번호
+    private final Map<Long, int[]> postings;
+
+    private NgramIndex(Map<Long, int[]> postings) {
+        this.postings = postings;
+    }
+
+    // texts[i]가 i번 문서의 (소문자 정규화된) 텍스트. null이면 색인하지 않는다.
+    static NgramIndex build(String[] texts) {
+        Map<Long, IntList> acc = new HashMap<>();
+        for (int doc = 0; doc < texts.length; doc++) {
+            for (long key : grams(texts[doc])) {
+                acc.computeIfAbsent(key, k -> new IntList()).add(doc);
+            }
+        }
+        Map<Long, int[]> postings = new HashMap<>(acc.size() * 2);
+        acc.forEach((k, v) -> postings.put(k, v.toArray()));
+        return new NgramIndex(postings);
+    }
+
+    /**
+     * 일부 문서의 텍스트만 바뀌었을 때 새 색인을 만든다.
+     * - 바뀐 문서에서 사라진 gram은 포스팅에서 빼고, 새로 생긴 gram은 끼워 넣는다.
+     * - 건드리지 않은 포스팅 배열은 이전 색인과 그대로 공유한다.
+     */
+    NgramIndex update(int[] docs, String[] oldTexts, String[] newTexts) {
+        Map<Long, int[]> next = new HashMap<>(postings);
+        for (int i = 0; i < docs.length; i++) {
+            int doc = docs[i];
+            Set<Long> before = toSet(grams(oldTexts[i]));
+            Set<Long> after = toSet(grams(newTexts[i]));
+            for (Long key : before) {
+                if (!after.contains(key)) {
+                    int[] p = remove(next.getOrDefault(key, EMPTY), doc);
+                    if (p.length == 0) {
+                        next.remove(key);
+                    } else {
+                        next.put(key, p);
+                    }
+                }
+            }
+            for (Long key : after) {
+                if (!before.contains(key)) {
+                    next.put(key, insert(next.getOrDefault(key, EMPTY), doc));
+                }
+            }
+        }
+        return new NgramIndex(next);
+    }
+
+    /**
+     * 검색어의 모든 gram을 포함하는 문서 번호를 오름차순으로 반환한다.
+     * - gram이 모두 들어 있어도 연속된 부분 문자열이 아닐 수 있으므로 호출하는 쪽에서 확인해야 한다.
+     */
+    int[] candidates(String needle) {
+        long[] keys = queryGrams(needle);
+        if (keys.length == 0) {
+            return EMPTY;
+        }
+        int[][] lists = new int[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            int[] p = postings.get(keys[i]);
+            if (p == null) {
+                return EMPTY;
+            }
+            lists[i] = p;
+        }
+        // 가장 짧은 포스팅부터 교집합을 구해야 빨리 줄어든다
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    int gramCount() {
+        return postings.size();
+    }
+
+    // 문서용: 길이 1~3의 모든 gram (중복 제거)
+    static long[] grams(String text) {
+        if (text == null || text.isEmpty()) {
+            return new long[0];
+        }
+        Set<Long> keys = new HashSet<>();
+        int len = text.length();
+        for (int i = 0; i < len; i++) {
+            for (int n = 1; n <= MAX_GRAM && i + n <= len; n++) {
+                keys.add(key(text, i, n));
+            }
+        }
+        long[] out = new long[keys.size()];
+        int j = 0;
+        for (Long k : keys) {
+            out[j++] = k;
+        }
+        return out;
+    }
+
+    // 검색어용: 가능한 가장 긴 길이(최대 3)의 gram만 쓴다. 길수록 포스팅이 짧다.
+    static long[] queryGrams(String needle) {
+        if (needle == null || needle.isEmpty()) {
+            return new long[0];
+        }
+        int n = Math.min(MAX_GRAM, needle.length());
+        int count = needle.length() - n + 1;
+        long[] out = new long[count];
+        for (int i = 0; i < count; i++) {
+            out[i] = key(needle, i, n);
+        }
+        return out;
+    }
+
+    // 길이 n의 gram을 long 하나로 묶는다. 상위 비트에 길이를 넣어 길이가 다른 gram끼리 겹치지 않게 한다.
+    private static long key(String s, int from, int n) {
+        long k = n;
+        for (int i = 0; i < n; i++) {
+            k = (k << 16) | s.charAt(from + i);
+        }
+        return k;
+    }
+
+    static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return (k == out.length) ? out : Arrays.copyOf(out, k);
+    }
+
+    static int[] union(int[] a, int[] b) {
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                out[k++] = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                out[k++] = b[j++];
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return (k == out.length) ? out : Arrays.copyOf(out, k);
+    }
+
+    private static int[] insert(int[] sorted, int value) {
+        int pos = Arrays.binarySearch(sorted, value);
+        if (pos >= 0) {
+            return sorted;
+        }
+        pos = -pos - 1;
+        int[] out = new int[sorted.length + 1];
+        System.arraycopy(sorted, 0, out, 0, pos);
+        out[pos] = value;
+        System.arraycopy(sorted, pos, out, pos + 1, sorted.length - pos);
+        return out;
+    }
+
+    private static int[] remove(int[] sorted, int value) {
+        int pos = Arrays.binarySearch(sorted, value);
+        if (pos < 0) {
+            return sorted;
+        }
+        int[] out = new int[sorted.length - 1];
+        System.arraycopy(sorted, 0, out, 0, pos);
+        System.arraycopy(sorted, pos + 1, out, pos, sorted.length - pos - 1);
+        return out;
+    }
+
+    private static Set<Long> toSet(long[] keys) {
+        Set<Long> set = new HashSet<>(keys.length * 2);
+        for (long k : keys) {
+            set.add(k);
+        }
+        return set;
+    }
+
+    // 박싱 없이 int를 모으기 위한 최소한의 가변 배열
+    static final class IntList {
+        private int[] data = new int[4];
+        private int size;
+
+        void add(int v) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = v;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.dto.AiToolResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 툴별 "비슷한 툴" 상위 K개를 미리 계산해 둔 표
+ * - 툴-카테고리 이분 그래프에서 가중 Jaccard 로 유사도를 매긴다.
+ *   카테고리 가중치는 log(1 + N / 그 카테고리의 툴 수) 라서 흔한 카테고리보다 드문 카테고리를 공유할 때 점수가 높다.
+ * - 출처(origin)가 같으면 ORIGIN_BOOST 를 더한다.
+ * - 결과는 ordinal * K 위치부터 K칸씩 primitive 배열에 담아 두므로 조회는 O(K) 이다. (-1 은 빈칸)
+ * - 점수는 (카테고리 조합, 출처)에만 달려 있으므로 같은 조합의 툴들은 후보 목록을 한 번만 계산해 나눠 쓴다.
+ *   카테고리 수가 적어 조합 수가 툴 수보다 훨씬 적으면 툴 수의 제곱이 아니라 조합 수의 제곱에 비례한다.
+ */
+final class RelatedTools {
+
+    static final int K = 10;
+    static final float ORIGIN_BOOST = 0.1f;
+
+    private final int[] neighbors;
+    private final float[] scores;
+
+    private RelatedTools(int[] neighbors, float[] scores) {
+        this.neighbors = neighbors;
+        this.scores = scores;
+    }
+
+    static RelatedTools build(AiToolResponse[] tools) {
+        int n = tools.length;
+        int[] neighbors = new int[n * K];
+        float[] scores = new float[n * K];
+        Arrays.fill(neighbors, -1);
+        fillRows(Graph.of(tools), tools, null, neighbors, scores);
+        return new RelatedTools(neighbors, scores);
+    }
+
+    /**
+     * 카테고리 매핑이 바뀐 툴(changed)과, 바뀌기 전/후 카테고리를 하나라도 같이 쓰는 툴만 다시 계산한다.
+     * - prev는 이전 스냅샷의 툴 배열, tools는 변경이 반영된 전체 배열(새로 추가된 툴 포함)이다.
+     * - 나머지 툴은 이전 결과를 그대로 쓴다. 카테고리 가중치 변화까지 반영하려면 전체 재적재를 기다린다.
+     */
+    RelatedTools update(AiToolResponse[] prev, AiToolResponse[] tools, int[] changed) {
+        int n = tools.length;
+        int[] nextNeighbors = Arrays.copyOf(neighbors, n * K);
+        float[] nextScores = Arrays.copyOf(scores, n * K);
+        Arrays.fill(nextNeighbors, neighbors.length, nextNeighbors.length, -1);
+
+        Graph graph = Graph.of(tools);
+        boolean[] affected = new boolean[n];
+        for (int ordinal : changed) {
+            affected[ordinal] = true;
+            markSharing(graph, tools[ordinal].categories(), affected);
+            if (ordinal < prev.length) {
+                markSharing(graph, prev[ordinal].categories(), affected);
+            }
+        }
+        fillRows(graph, tools, affected, nextNeighbors, nextScores);
+        return new RelatedTools(nextNeighbors, nextScores);
+    }
+
+    // ordinal의 이웃 ordinal을 점수 높은 순으로 최대 limit개 (limit <= K)
+    int[] neighborsOf(int ordinal, int limit) {
+        int base = ordinal * K;
+        int count = 0;
+        while (count < Math.min(limit, K) && neighbors[base + count] >= 0) {
+            count++;
+        }
+        return Arrays.copyOfRange(neighbors, base, base + count);
+    }
+
+    private static void markSharing(Graph graph, List<String> categories, boolean[] affected) {
+        for (String name : categories) {
+            Integer c = graph.categoryIds.get(name);
+            if (c == null) {
+                continue;
+            }
+            for (int set : graph.setsByCategory[c]) {
+                for (int other : graph.members[set]) {
+                    affected[other] = true;
+                }
+            }
+        }
+    }
+
+    // only가 null이면 전체, 아니면 only[ordinal]이 true인 툴의 줄만 채운다
+    private static void fillRows(Graph graph, AiToolResponse[] tools, boolean[] only,
+                                 int[] neighbors, float[] scores) {
+        float[] overlap = new float[graph.members.length];
+        int[] touched = new int[graph.members.length];
+        for (int set = 0; set < graph.members.length; set++) {
+            // 이 조합에서 다시 계산할 툴을 출처별로 묶는다
+            Map<String, List<Integer>> byOrigin = new LinkedHashMap<>();
+            for (int ordinal : graph.members[set]) {
+                if (only == null || only[ordinal]) {
+                    byOrigin.computeIfAbsent(tools[ordinal].origin(), k -> new ArrayList<>()).add(ordinal);
+                }
+            }
+            for (Map.Entry<String, List<Integer>> e : byOrigin.entrySet()) {
+                // 자기 자신을 빼도 K개가 남도록 K+1개를 뽑는다
+                Candidates top = rank(graph, tools, set, e.getKey(), overlap, touched);
+                for (int ordinal : e.getValue()) {
+                    int base = ordinal * K;
+                    Arrays.fill(neighbors, base, base + K, -1);
+                    Arrays.fill(scores, base, base + K, 0f);
+                    int k = 0;
+                    for (int i = 0; i < top.count && k < K; i++) {
+                        if (top.ordinals[i] != ordinal) {
+                            neighbors[base + k] = top.ordinals[i];
+                            scores[base + k] = top.scores[i];
+                            k++;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 카테고리 조합 set 에 속하고 출처가 origin 인 툴 입장에서 가장 비슷한 툴 K+1개
+     * - 다른 조합과의 Jaccard 를 구한 뒤, 조합마다 (출처 같음, 다름) 두 묶음으로 나눠 점수 순으로 훑는다.
+     * - 점수가 같으면 조합 번호, 그다음 ordinal 순이다.
+     */
+    private static Candidates rank(Graph graph, AiToolResponse[] tools, int set, String origin,
+                                   float[] overlap, int[] touched) {
+        int t = 0;
+        for (int c : graph.setCategories[set]) {
+            for (int other : graph.setsByCategory[c]) {
+                if (overlap[other] == 0f) {
+                    touched[t++] = other;
+                }
+                overlap[other] += graph.weights[c];
+            }
+        }
+
+        List<Group> groups = new ArrayList<>(t * 2);
+        for (int i = 0; i < t; i++) {
+            int other = touched[i];
+            float shared = overlap[other];
+            overlap[other] = 0f;
+            float jaccard = shared / (graph.setWeights[set] + graph.setWeights[other] - shared);
+            if (origin == null) {
+                groups.add(new Group(jaccard, other, Match.ANY));
+            } else {
+                groups.add(new Group(jaccard + ORIGIN_BOOST, other, Match.SAME_ORIGIN));
+                groups.add(new Group(jaccard, other, Match.OTHER_ORIGIN));
+            }
+        }
+        groups.sort((a, b) -> a.score != b.score ? Float.compare(b.score, a.score) : Integer.compare(a.set, b.set));
+
+        Candidates top = new Candidates(K + 1);
+        for (Group g : groups) {
+            for (int ordinal : graph.members[g.set]) {
+                if (top.count == K + 1) {
+                    return top;
+                }
+                boolean same = Objects.equals(origin, tools[ordinal].origin());
+                if (g.match == Match.ANY || same == (g.match == Match.SAME_ORIGIN)) {
+                    top.ordinals[top.count] = ordinal;
+                    top.scores[top.count] = g.score;
+                    top.count++;
+                }
+            }
+        }
+        return top;
+    }
+
+    private enum Match { ANY, SAME_ORIGIN, OTHER_ORIGIN }
+
+    private record Group(float score, int set, Match match) {
+    }
+
+    private static final class Candidates {
+        final int[] ordinals;
+        final float[] scores;
+        int count;
+
+        Candidates(int capacity) {
+            this.ordinals = new int[capacity];
+            this.scores = new float[capacity];
+        }
+    }
+
+    // 카테고리 이름을 번호로 바꾸고, 같은 카테고리 조합을 가진 툴끼리 묶은 그래프
+    private static final class Graph {
+        final Map<String, Integer> categoryIds;
+        final float[] weights;
+
+        // 조합 번호 -> 카테고리 번호들 / 가중치 합 / 속한 툴 ordinal (오름차순)
+        final int[][] setCategories;
+        final float[] setWeights;
+        final int[][] members;
+
+        // 카테고리 번호 -> 그 카테고리를 포함하는 조합 번호들
+        final int[][] setsByCategory;
+
+        private Graph(Map<String, Integer> categoryIds, float[] weights, int[][] setCategories,
+                      float[] setWeights, int[][] members, int[][] setsByCategory) {
+            this.categoryIds = categoryIds;
+            this.weights = weights;
+            this.setCategories = setCategories;
+            this.setWeights = setWeights;
+            this.members = members;
+            this.setsByCategory = setsByCategory;
+        }
+
+        static Graph of(AiToolResponse[] tools) {
+            int n = tools.length;
+            Map<String, Integer> ids = new HashMap<>();
+            Map<List<Integer>, Integer> setIds = new HashMap<>();
+            List<int[]> setCategories = new ArrayList<>();
+            List<NgramIndex.IntList> members = new ArrayList<>();
+            int[] df = new int[0];
+            for (int ordinal = 0; ordinal < n; ordinal++) {
+                List<String> names = tools[ordinal].categories();
+                Integer[] cats = new Integer[names.size()];
+                for (int i = 0; i < cats.length; i++) {
+                    cats[i] = ids.computeIfAbsent(names.get(i), k -> ids.size());
+                }
+                Arrays.sort(cats);
+                List<Integer> key = List.of(cats);
+                Integer set = setIds.get(key);
+                if (set == null) {
+                    set = setCategories.size();
+                    setIds.put(key, set);
+                    setCategories.add(key.stream().mapToInt(Integer::intValue).toArray());
+                    members.add(new NgramIndex.IntList());
+                }
+                members.get(set).add(ordinal);
+                if (df.length < ids.size()) {
+                    df = Arrays.copyOf(df, Math.max(ids.size(), df.length * 2));
+                }
+                for (int c : cats) {
+                    df[c]++;
+                }
+            }
+
+            int categoryCount = ids.size();
+            float[] weights = new float[categoryCount];
+            for (int c = 0; c < categoryCount; c++) {
+                weights[c] = (float) Math.log(1.0 + (double) n / df[c]);
+            }
+
+            int m = setCategories.size();
+            int[][] setCats = setCategories.toArray(new int[0][]);
+            float[] setWeights = new float[m];
+            int[][] memberArrays = new int[m][];
+            NgramIndex.IntList[] bySet = new NgramIndex.IntList[categoryCount];
+            for (int set = 0; set < m; set++) {
+                memberArrays[set] = members.get(set).toArray();
+                for (int c : setCats[set]) {
+                    setWeights[set] += weights[c];
+                    if (bySet[c] == null) {
+                        bySet[c] = new NgramIndex.IntList();
+                    }
+                    bySet[c].add(set);
+                }
+            }
+            int[][] setsByCategory = new int[categoryCount][];
+            for (int c = 0; c < categoryCount; c++) {
+                setsByCategory[c] = bySet[c].toArray();
+            }
+            return new Graph(ids, weights, setCats, setWeights, memberArrays, setsByCategory);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.compassai.backend.domain.catalog;
+
+import java.util.Arrays;
+
+/**
+ * 스냅샷 ordinal 집합을 담는 불변 비트맵
+ * - 원소가 적으면 정렬된 int[], 많으면 long[] 비트셋으로 저장한다. (Roaring 비트맵의 컨테이너 선택과 같은 생각)
+ * - int 하나가 32비트이므로 원소 수 * 32 < 전체 크기(universe) 일 때 배열 쪽이 더 작다.
+ * - 교집합/합집합/교집합 크기 계산은 두 표현의 조합별로 가장 싼 방법을 쓴다.
+ */
+final class ToolBitmap {
+
+    private final int universe;
+    private final int cardinality;
+
+    // 둘 중 하나만 null이 아니다
+    private final int[] members;
+    private final long[] words;
+
+    private ToolBitmap(int universe, int cardinality, int[] members, long[] words) {
+        this.universe = universe;
+        this.cardinality = cardinality;
+        this.members = members;
+        this.words = words;
+    }
+
+    // sorted는 중복 없는 오름차순이어야 한다
+    static ToolBitmap ofSorted(int[] sorted, int universe) {
+        if (useArray(sorted.length, universe)) {
+            return new ToolBitmap(universe, sorted.length, sorted, null);
+        }
+        long[] w = new long[wordCount(universe)];
+        for (int v : sorted) {
+            w[v >>> 6] |= 1L << v;
+        }
+        return new ToolBitmap(universe, sorted.length, null, w);
+    }
+
+    static ToolBitmap all(int universe) {
+        long[] w = new long[wordCount(universe)];
+        Arrays.fill(w, -1L);
+        if ((universe & 63) != 0) {
+            w[w.length - 1] = (1L << universe) - 1;
+        }
+        return new ToolBitmap(universe, universe, null, w);
+    }
+
+    static ToolBitmap empty(int universe) {
+        return new ToolBitmap(universe, 0, new int[0], null);
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    boolean contains(int v) {
+        if (words != null) {
+            return v >= 0 && v < universe && (words[v >>> 6] & (1L << v)) != 0;
+        }
+        return Arrays.binarySearch(members, v) >= 0;
+    }
+
+    ToolBitmap and(ToolBitmap o) {
+        if (members != null && o.members != null) {
+            return ofSorted(NgramIndex.intersect(members, o.members), universe);
+        }
+        if (members != null || o.members != null) {
+            // 배열 쪽 원소만 비트셋에서 확인하면 된다
+            ToolBitmap arr = (members != null) ? this : o;
+            ToolBitmap bits = (members != null) ? o : this;
+            int[] out = new int[arr.members.length];
+            int k = 0;
+            for (int v : arr.members) {
+                if (bits.contains(v)) {
+                    out[k++] = v;
+                }
+            }
+            return new ToolBitmap(universe, k, Arrays.copyOf(out, k), null);
+        }
+        long[] w = new long[words.length];
+        for (int i = 0; i < w.length; i++) {
+            w[i] = words[i] & o.words[i];
+        }
+        return fromWords(w, universe);
+    }
+
+    ToolBitmap or(ToolBitmap o) {
+        if (members != null && o.members != null) {
+            return ofSorted(NgramIndex.union(members, o.members), universe);
+        }
+        long[] w = toWords();
+        long[] ow = o.toWords();
+        for (int i = 0; i < w.length; i++) {
+            w[i] |= ow[i];
+        }
+        return fromWords(w, universe);
+    }
+
+    // 교집합을 만들지 않고 크기만 센다 (패싯 개수 계산용)
+    int andCardinality(ToolBitmap o) {
+        if (words != null && o.words != null) {
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                count += Long.bitCount(words[i] & o.words[i]);
+            }
+            return count;
+        }
+        if (members != null && o.members != null) {
+            return NgramIndex.intersect(members, o.members).length;
+        }
+        ToolBitmap arr = (members != null) ? this : o;
+        ToolBitmap bits = (members != null) ? o : this;
+        int count = 0;
+        for (int v : arr.members) {
+            if (bits.contains(v)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long[] toWords() {
+        if (words != null) {
+            return words.clone();
+        }
+        long[] w = new long[wordCount(universe)];
+        for (int v : members) {
+            w[v >>> 6] |= 1L << v;
+        }
+        return w;
+    }
+
+    // 비트셋 결과를 원소 수에 맞는 표현으로 바꾼다
+    private static ToolBitmap fromWords(long[] w, int universe) {
+        int count = 0;
+        for (long word : w) {
+            count += Long.bitCount(word);
+        }
+        if (!useArray(count, universe)) {
+            return new ToolBitmap(universe, count, null, w);
+        }
+        int[] out = new int[count];
+        int k = 0;
+        for (int i = 0; i < w.length; i++) {
+            long word = w[i];
+            while (word != 0) {
+                out[k++] = (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return new ToolBitmap(universe, count, out, null);
+    }
+
+    private static boolean useArray(int cardinality, int universe) {
+        return (long) cardinality * 32 < universe;
+    }
+
+    private static int wordCount(int universe) {
+        return (universe + 63) >>> 6;
+    }
+}
@@ -0,0 +1,61 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.NameCollation;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * /api/tools 의 카테고리/출처 필터
+ * - categories: 여러 개면 matchAll=true 일 때 모두 포함(AND), false 일 때 하나라도 포함(OR)
+ * - origins: 툴 하나는 출처가 하나뿐이므로 항상 OR 로 묶는다
+ * - 값은 공백 제거, 중복 제거, 정렬을 거쳐 같은 조건이면 같은 객체가 되도록 만든다. (캐시 키로도 쓴다)
+ * - 중복과 순서는 DB collation 처럼 NameCollation 으로 따진다. ("AI" 와 "ai" 는 하나만 남는다)
+ */
+public record ToolFilter(List<String> categories, boolean matchAll, List<String> origins) {
+
+    public static final ToolFilter NONE = new ToolFilter(List.of(), false, List.of());
+
+    public static ToolFilter of(List<String> categories, String match, List<String> origins) {
+        return new ToolFilter(
+                normalize(categories),
+                "all".equals(match == null ? null : match.trim().toLowerCase(Locale.ROOT)),
+                normalize(origins)
+        );
+    }
+
+    public boolean hasCategories() {
+        return !categories.isEmpty();
+    }
+
+    public boolean hasOrigins() {
+        return !origins.isEmpty();
+    }
+
+    // 값이 하나 이하인 단순 조건인지 (DB 조회 경로가 처리할 수 있는 범위)
+    public boolean isSimple() {
+        return categories.size() <= 1 && origins.size() <= 1;
+    }
+
+    public String singleCategory() {
+        return categories.isEmpty() ? null : categories.get(0);
+    }
+
+    public String singleOrigin() {
+        return origins.isEmpty() ? null : origins.get(0);
+    }
+
+    private static List<String> normalize(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return List.copyOf(values.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(v -> !v.isEmpty())
+                .collect(Collectors.toCollection(() -> new TreeSet<>(NameCollation.ORDER))));
+    }
+}
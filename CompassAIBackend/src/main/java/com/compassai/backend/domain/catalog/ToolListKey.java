@@ -0,0 +1,52 @@
+package com.compassai.backend.domain.catalog;
+
+import java.util.Locale;
+
+/**
+ * /api/tools 응답 캐시 키
+ * - 같은 결과를 내는 요청이 같은 키가 되도록 파라미터를 정규화한다. (필터 값은 ToolFilter가 정렬/중복 제거)
+ * - 카탈로그 버전을 키에 포함하므로 데이터가 바뀌면 자연히 다른 키가 된다.
+ */
+public record ToolListKey(
+        ToolFilter filter,
+        String q,
+        ToolSort sort,
+        ToolSearchMode mode,
+        int page,
+        int size,
+        boolean facets,
+        String version
+) {
+
+    // 검색은 대소문자를 구분하지 않으므로 q는 소문자로 맞춘다
+    public static ToolListKey of(ToolFilter filter, String q, ToolSort sort, ToolSearchMode mode,
+                                 int page, int size, boolean facets, CatalogVersion version) {
+        return new ToolListKey(
+                filter,
+                (q == null) ? null : q.toLowerCase(Locale.ROOT),
+                // 검색어가 없으면 관련도 정렬과 최신순 정렬의 결과가 같다
+                (q == null && sort == ToolSort.RELEVANCE) ? ToolSort.RECENT : sort,
+                (q == null) ? ToolSearchMode.KEYWORD : mode,
+                page,
+                size,
+                facets,
+                version.etag()
+        );
+    }
+
+    // 캐시 용량 계산용 대략적인 키 크기
+    int approximateBytes() {
+        int bytes = 96 + length(q) * 2 + length(version);
+        for (String c : filter.categories()) {
+            bytes += 16 + c.length() * 2;
+        }
+        for (String o : filter.origins()) {
+            bytes += 16 + o.length() * 2;
+        }
+        return bytes;
+    }
+
+    private static int length(String s) {
+        return (s == null) ? 0 : s.length();
+    }
+}
@@ -0,0 +1,24 @@
+package com.compassai.backend.domain.catalog;
+
+/**
+ * sort=popular 정렬에 쓰는 툴별 인기 점수
+ * - epoch는 점수가 바뀔 때마다 올라가는 값으로, 응답 캐시 키와 ETag에 섞어 쓴다.
+ */
+public interface ToolPopularity {
+
+    ToolPopularity NONE = new ToolPopularity() {
+        @Override
+        public long score(Long toolId) {
+            return 0L;
+        }
+
+        @Override
+        public long epoch() {
+            return 0L;
+        }
+    };
+
+    long score(Long toolId);
+
+    long epoch();
+}
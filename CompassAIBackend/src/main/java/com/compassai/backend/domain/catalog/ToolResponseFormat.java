@@ -0,0 +1,116 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.dto.AiToolResponse;
+import com.compassai.backend.domain.dto.ColumnarPage;
+import com.compassai.backend.domain.dto.FacetedPage;
+import com.compassai.backend.domain.dto.ToolFacets;
+import org.springframework.data.domain.Page;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * /api/tools 목록 응답 형식 (Accept 헤더로 고른다)
+ * - JSON: 기존 Page JSON
+ * - COLUMNAR: 필드 이름을 한 번만 쓰는 열 단위 JSON (ColumnarPage)
+ * - CBOR, SMILE: 기존 Page 구조를 바이너리로 인코딩 (Smile 은 반복되는 필드 이름을 앞쪽 참조로 줄인다)
+ */
+public enum ToolResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    COLUMNAR(MediaType.parseMediaType(ToolResponseFormat.COLUMNAR_VALUE)),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(MediaType.parseMediaType(ToolResponseFormat.SMILE_VALUE));
+
+    public static final String COLUMNAR_VALUE = "application/vnd.compassai.columnar+json";
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    private final MediaType mediaType;
+
+    ToolResponseFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Accept 헤더에서 q 값이 가장 높은 형식을 고른다. q가 같으면 Accept 에 먼저 나온 것, 와일드카드면 JSON.
+     * - 헤더가 없거나 읽을 수 없으면 JSON
+     */
+    public static ToolResponseFormat fromAccept(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        ToolResponseFormat best = null;
+        double bestQuality = 0;
+        try {
+            for (MediaType requested : MediaType.parseMediaTypes(accept)) {
+                double quality = requested.getQualityValue();
+                if (quality <= bestQuality) {
+                    continue;
+                }
+                for (ToolResponseFormat f : values()) {
+                    if (requested.isCompatibleWith(f.mediaType)) {
+                        best = f;
+                        bestQuality = quality;
+                        break;
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        return (best != null) ? best : JSON;
+    }
+
+    /**
+     * Accept-Encoding 이 gzip 을 받는지
+     * - gzip(x-gzip) 이 q > 0 으로 있으면 받는다. "gzip;q=0" 은 거절이고, gzip 이 없으면 "*" 의 q 를 따른다.
+     * - 헤더가 없으면 압축하지 않는다.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        double gzip = -1;
+        double any = -1;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] params = entry.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.length() > 2 && Character.toLowerCase(param.charAt(0)) == 'q' && param.charAt(1) == '=') {
+                    quality = quality(param.substring(2).trim());
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = Math.max(gzip, quality);
+            } else if (coding.equals("*")) {
+                any = Math.max(any, quality);
+            }
+        }
+        return (gzip >= 0) ? gzip > 0 : any > 0;
+    }
+
+    // 읽을 수 없는 q 는 0 (받지 않음) 으로 본다
+    private static double quality(String value) {
+        try {
+            double q = Double.parseDouble(value);
+            return (q >= 0 && q <= 1) ? q : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    // 형식에 맞는 응답 객체. facets가 null이면 패싯 없이 만든다
+    public Object body(Page<AiToolResponse> page, ToolFacets facets) {
+        if (this == COLUMNAR) {
+            return ColumnarPage.of(page, facets);
+        }
+        return (facets == null) ? page : new FacetedPage<>(page, facets);
+    }
+}
@@ -0,0 +1,136 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.dto.AiToolResponse;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * name / subTitle / description 세 필드에 대한 n-gram 검색 색인
+ * - 후보는 역색인 교집합으로 고르고, 실제 부분 문자열 포함 여부를 확인해 LIKE '%q%'와 같은 결과를 낸다.
+ * - 필드 가중치(name 3, subTitle 2, description 1)와 이름 접두/일치 보너스로 관련도 점수를 매긴다.
+ */
+final class ToolSearchIndex {
+
+    static final int NAME_WEIGHT = 3;
+    static final int SUB_TITLE_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+    static final int NAME_PREFIX_BONUS = 2;
+    static final int NAME_EXACT_BONUS = 3;
+
+    // 문서 번호(ordinal)별 소문자 텍스트
+    private final String[] names;
+    private final String[] subTitles;
+    private final String[] descriptions;
+
+    private final NgramIndex nameIndex;
+    private final NgramIndex subTitleIndex;
+    private final NgramIndex descriptionIndex;
+
+    private ToolSearchIndex(String[] names, String[] subTitles, String[] descriptions,
+                            NgramIndex nameIndex, NgramIndex subTitleIndex, NgramIndex descriptionIndex) {
+        this.names = names;
+        this.subTitles = subTitles;
+        this.descriptions = descriptions;
+        this.nameIndex = nameIndex;
+        this.subTitleIndex = subTitleIndex;
+        this.descriptionIndex = descriptionIndex;
+    }
+
+    static ToolSearchIndex build(AiToolResponse[] tools) {
+        int n = tools.length;
+        String[] names = new String[n];
+        String[] subTitles = new String[n];
+        String[] descriptions = new String[n];
+        for (int i = 0; i < n; i++) {
+            names[i] = normalize(tools[i].name());
+            subTitles[i] = normalize(tools[i].subTitle());
+            descriptions[i] = normalize(tools[i].description());
+        }
+        return new ToolSearchIndex(names, subTitles, descriptions,
+                NgramIndex.build(names), NgramIndex.build(subTitles), NgramIndex.build(descriptions));
+    }
+
+    /**
+     * changed에 들어 있는 문서만 다시 색인한 새 인스턴스를 만든다.
+     * - tools는 변경이 반영된 전체 배열(새로 추가된 문서 포함)이다.
+     */
+    ToolSearchIndex update(AiToolResponse[] tools, int[] changed) {
+        int n = tools.length;
+        String[] nextNames = Arrays.copyOf(names, n);
+        String[] nextSubTitles = Arrays.copyOf(subTitles, n);
+        String[] nextDescriptions = Arrays.copyOf(descriptions, n);
+
+        String[] oldNames = new String[changed.length], newNames = new String[changed.length];
+        String[] oldSubs = new String[changed.length], newSubs = new String[changed.length];
+        String[] oldDescs = new String[changed.length], newDescs = new String[changed.length];
+        for (int i = 0; i < changed.length; i++) {
+            int doc = changed[i];
+            oldNames[i] = nextNames[doc];
+            oldSubs[i] = nextSubTitles[doc];
+            oldDescs[i] = nextDescriptions[doc];
+            nextNames[doc] = newNames[i] = normalize(tools[doc].name());
+            nextSubTitles[doc] = newSubs[i] = normalize(tools[doc].subTitle());
+            nextDescriptions[doc] = newDescs[i] = normalize(tools[doc].description());
+        }
+        return new ToolSearchIndex(nextNames, nextSubTitles, nextDescriptions,
+                nameIndex.update(changed, oldNames, newNames),
+                subTitleIndex.update(changed, oldSubs, newSubs),
+                descriptionIndex.update(changed, oldDescs, newDescs));
+    }
+
+    /**
+     * 검색어를 포함하는 문서와 그 점수를 반환한다.
+     * - docs는 문서 번호 오름차순, scores[i]는 docs[i]의 점수다.
+     */
+    Hits search(String q) {
+        String needle = normalize(q);
+        if (needle == null || needle.isEmpty()) {
+            return Hits.EMPTY;
+        }
+        int[] candidates = NgramIndex.union(
+                NgramIndex.union(nameIndex.candidates(needle), subTitleIndex.candidates(needle)),
+                descriptionIndex.candidates(needle));
+
+        int[] docs = new int[candidates.length];
+        int[] scores = new int[candidates.length];
+        int k = 0;
+        for (int doc : candidates) {
+            int score = score(doc, needle);
+            if (score > 0) {
+                docs[k] = doc;
+                scores[k] = score;
+                k++;
+            }
+        }
+        return new Hits(Arrays.copyOf(docs, k), Arrays.copyOf(scores, k));
+    }
+
+    private int score(int doc, String needle) {
+        int score = 0;
+        String name = names[doc];
+        if (name != null && name.contains(needle)) {
+            score += NAME_WEIGHT;
+            if (name.equals(needle)) {
+                score += NAME_EXACT_BONUS;
+            } else if (name.startsWith(needle)) {
+                score += NAME_PREFIX_BONUS;
+            }
+        }
+        if (subTitles[doc] != null && subTitles[doc].contains(needle)) {
+            score += SUB_TITLE_WEIGHT;
+        }
+        if (descriptions[doc] != null && descriptions[doc].contains(needle)) {
+            score += DESCRIPTION_WEIGHT;
+        }
+        return score;
+    }
+
+    static String normalize(String s) {
+        return s == null ? null : s.toLowerCase(Locale.ROOT);
+    }
+
+    record Hits(int[] docs, int[] scores) {
+        static final Hits EMPTY = new Hits(new int[0], new int[0]);
+    }
+}
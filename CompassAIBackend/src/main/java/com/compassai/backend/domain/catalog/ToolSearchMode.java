@@ -0,0 +1,21 @@
+package com.compassai.backend.domain.catalog;
+
+import java.util.Locale;
+
+// /api/tools 의 mode 파라미터로 고르는 검색 방식
+public enum ToolSearchMode {
+    KEYWORD,    // q를 부분 문자열로 포함하는 툴 (기본값)
+    SIMILAR;    // n-gram 벡터 유사도순. 스냅샷 모드에서만 지원한다
+
+    // 알 수 없는 값이나 빈 값은 기본 방식으로 처리한다
+    public static ToolSearchMode from(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return KEYWORD;
+        }
+        try {
+            return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return KEYWORD;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.compassai.backend.domain.catalog;
+
+import java.util.Locale;
+
+// /api/tools 의 sort 파라미터로 고를 수 있는 정렬 기준
+public enum ToolSort {
+    RECENT,     // 최근 수정순 (기본값)
+    RELEVANCE,  // 검색어 관련도순. q가 없으면 RECENT와 같다.
+    POPULAR;    // 조회/클릭 수 기준 인기순 (스냅샷 모드에서만, DB 모드는 RECENT와 같다)
+
+    // 알 수 없는 값이나 빈 값은 기본 정렬로 처리한다
+    public static ToolSort from(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return RECENT;
+        }
+        try {
+            return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return RECENT;
+        }
+    }
+}
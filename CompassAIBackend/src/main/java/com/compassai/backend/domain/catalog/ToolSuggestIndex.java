@@ -0,0 +1,155 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.dto.AiToolResponse;
+import com.compassai.backend.domain.dto.ToolSuggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 툴 이름 자동완성용 정렬 배열 접두사 색인
+ * - 이름을 자모로 푼 키와 초성 키를 한 배열에 정렬해 두고, 이분 탐색으로 접두사 구간을 찾는다.
+ * - 두 번째 단어부터 시작하는 키도 넣어 "gem" 으로 "Google Gemini" 를 찾을 수 있게 한다.
+ * - 순위는 고정 점수로 매긴다: 이름 처음부터 맞은 것 > 초성으로 맞은 것 > 중간 단어로 맞은 것, 같으면 최신순.
+ */
+final class ToolSuggestIndex {
+
+    // 키 종류별 우선순위 (작을수록 먼저)
+    private static final int NAME = 0;
+    private static final int NAME_CHOSUNG = 1;
+    private static final int WORD = 2;
+    private static final int WORD_CHOSUNG = 3;
+
+    private final AiToolResponse[] tools;
+
+    // 같은 위치끼리 한 항목이다. keys 오름차순
+    private final String[] keys;
+    private final int[] ordinals;
+    private final long[] priorities;
+
+    private ToolSuggestIndex(AiToolResponse[] tools, String[] keys, int[] ordinals, long[] priorities) {
+        this.tools = tools;
+        this.keys = keys;
+        this.ordinals = ordinals;
+        this.priorities = priorities;
+    }
+
+    // rank는 ordinal -> 최신순 위치
+    static ToolSuggestIndex build(AiToolResponse[] tools, int[] rank) {
+        List<Entry> entries = new ArrayList<>(tools.length * 4);
+        for (int ordinal = 0; ordinal < tools.length; ordinal++) {
+            String name = tools[ordinal].name();
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            addKeys(entries, name, ordinal, rank[ordinal], NAME, NAME_CHOSUNG);
+            for (int i = 1; i < name.length(); i++) {
+                if (Character.isWhitespace(name.charAt(i - 1)) && !Character.isWhitespace(name.charAt(i))) {
+                    addKeys(entries, name.substring(i), ordinal, rank[ordinal], WORD, WORD_CHOSUNG);
+                }
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::key));
+
+        int n = entries.size();
+        String[] keys = new String[n];
+        int[] ordinals = new int[n];
+        long[] priorities = new long[n];
+        for (int i = 0; i < n; i++) {
+            Entry e = entries.get(i);
+            keys[i] = e.key();
+            ordinals[i] = e.ordinal();
+            priorities[i] = e.priority();
+        }
+        return new ToolSuggestIndex(tools, keys, ordinals, priorities);
+    }
+
+    private static void addKeys(List<Entry> entries, String term, int ordinal, int rank, int kind, int chosungKind) {
+        entries.add(new Entry(HangulJamo.jamo(term), ordinal, priority(kind, rank)));
+        // 한글이 없으면 초성 키는 자모 키와 같으므로 넣지 않는다
+        if (HangulJamo.containsSyllable(term)) {
+            entries.add(new Entry(HangulJamo.chosung(term), ordinal, priority(chosungKind, rank)));
+        }
+    }
+
+    private static long priority(int kind, int rank) {
+        return ((long) kind << 32) | rank;
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * q로 시작하는 툴을 우선순위 순으로 최대 limit개 돌려준다.
+     * - q도 같은 방식으로 자모를 풀기 때문에 완성 글자, 입력 중인 글자, 초성을 섞어 써도 된다.
+     */
+    List<ToolSuggestion> suggest(String q, int limit) {
+        String prefix = (q == null) ? "" : HangulJamo.jamo(q);
+        if (prefix.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        // 상위 limit개만 우선순위 오름차순으로 유지한다. 같은 툴은 가장 좋은 키 하나만 남긴다
+        long[] best = new long[limit];
+        int[] bestOrdinals = new int[limit];
+        int count = 0;
+        for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+            int ordinal = ordinals[i];
+            long p = priorities[i];
+            int at = indexOf(bestOrdinals, count, ordinal);
+            if (at < 0) {
+                if (count < limit) {
+                    at = count++;
+                } else if (p < best[count - 1]) {
+                    at = count - 1;
+                } else {
+                    continue;
+                }
+            } else if (p >= best[at]) {
+                continue;
+            }
+            // 새 값을 넣고 앞쪽으로 밀어 정렬을 유지한다
+            while (at > 0 && best[at - 1] > p) {
+                best[at] = best[at - 1];
+                bestOrdinals[at] = bestOrdinals[at - 1];
+                at--;
+            }
+            best[at] = p;
+            bestOrdinals[at] = ordinal;
+        }
+
+        List<ToolSuggestion> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            out.add(ToolSuggestion.of(tools[bestOrdinals[i]]));
+        }
+        return out;
+    }
+
+    // prefix 이상인 첫 키의 위치
+    private int lowerBound(String prefix) {
+        int pos = Arrays.binarySearch(keys, prefix);
+        if (pos >= 0) {
+            // 같은 키가 여러 개면 그중 첫 번째
+            while (pos > 0 && keys[pos - 1].equals(prefix)) {
+                pos--;
+            }
+            return pos;
+        }
+        return -pos - 1;
+    }
+
+    private static int indexOf(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private record Entry(String key, int ordinal, long priority) {
+    }
+}
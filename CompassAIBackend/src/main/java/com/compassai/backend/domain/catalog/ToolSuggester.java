@@ -0,0 +1,65 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.dto.ToolSuggestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 툴 이름 자동완성 (/api/tools/suggest)
+ * - 현재 카탈로그 스냅샷으로 만든 ToolSuggestIndex 로 답하고 DB는 보지 않는다.
+ * - 스냅샷이 바뀐 것을 알면 별도 스레드에서 색인을 다시 만들고, 그동안은 이전 색인으로 계속 답한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ToolSuggester {
+
+    private final AiToolCatalog catalog;
+
+    private volatile Built built;
+
+    // 재색인은 한 번에 하나만 돈다
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public List<ToolSuggestion> suggest(String q, int limit) {
+        CatalogSnapshot snapshot = catalog.current();
+        Built b = built;
+        if (b == null) {
+            // 처음 한 번은 기다려서 만든다
+            b = rebuild(snapshot);
+        } else if (b.source() != snapshot) {
+            rebuildInBackground(snapshot);
+        }
+        return b.index().suggest(q, limit);
+    }
+
+    private void rebuildInBackground(CatalogSnapshot snapshot) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("catalog-suggest-rebuild").start(() -> {
+            try {
+                rebuild(snapshot);
+            } catch (RuntimeException e) {
+                log.warn("suggest index rebuild failed", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    private Built rebuild(CatalogSnapshot snapshot) {
+        long start = System.nanoTime();
+        Built next = new Built(snapshot, snapshot.buildSuggestIndex());
+        built = next;
+        log.debug("suggest index built: {} keys in {} ms", next.index().size(), (System.nanoTime() - start) / 1_000_000);
+        return next;
+    }
+
+    private record Built(CatalogSnapshot source, ToolSuggestIndex index) {
+    }
+}
@@ -0,0 +1,295 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.dto.AiToolResponse;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * name / subTitle / description 을 해시 n-gram TF-IDF 벡터로 바꿔 둔 유사도 검색 색인 (mode=similar)
+ * - 단어 하나와 그 안의 글자 2-gram, 3-gram 을 DIMENSIONS 개 칸으로 해시해 센다. 외부 모델 없이 메모리에서만 계산한다.
+ *   "영상 편집" 으로 "영상을 편집하는" 처럼 조사/어미가 붙은 문장도 n-gram 이 겹쳐 찾을 수 있다.
+ * - 해시 n-gram 은 글자가 겹쳐야 닮은 것으로 보므로 "video editing" 과 "영상 편집" 처럼 언어가 다르면 그대로는 못 찾는다.
+ *   그래서 자주 쓰는 영어 단어는 ALIASES 의 한국어 낱말로 바꿔 센다. (툴 본문과 검색어 양쪽에 같게 적용)
+ *   사전에 없는 단어는 여전히 언어를 넘어 찾지 못한다.
+ * - 칸별 가중치는 (1 + log tf) * idf, 벡터는 길이 1로 맞춰 내적이 곧 코사인 유사도다.
+ * - 모든 툴 벡터를 ordinal * DIMENSIONS 위치부터 float[] 하나에 연속으로 담고, VectorMath 로 내적한다.
+ */
+final class ToolVectorIndex {
+
+    static final int DIMENSIONS = 256;
+
+    // 이 값보다 낮은 유사도는 결과에서 뺀다
+    static final float MIN_SIMILARITY = 0.15f;
+
+    // 이름은 두 번 센다
+    private static final float NAME_WEIGHT = 2f;
+
+    // 영어 단어(소문자) -> 같은 뜻의 한국어 낱말. 단어 전체가 같을 때만 바꾼다
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+            Map.entry("video", "영상"),
+            Map.entry("videos", "영상"),
+            Map.entry("edit", "편집"),
+            Map.entry("editing", "편집"),
+            Map.entry("editor", "편집"),
+            Map.entry("image", "이미지"),
+            Map.entry("images", "이미지"),
+            Map.entry("photo", "사진"),
+            Map.entry("generate", "생성"),
+            Map.entry("generation", "생성"),
+            Map.entry("generator", "생성"),
+            Map.entry("voice", "음성"),
+            Map.entry("speech", "음성"),
+            Map.entry("synthesis", "합성"),
+            Map.entry("translate", "번역"),
+            Map.entry("translation", "번역"),
+            Map.entry("translator", "번역"),
+            Map.entry("summary", "요약"),
+            Map.entry("summarize", "요약"),
+            Map.entry("code", "코드"),
+            Map.entry("coding", "코드"),
+            Map.entry("review", "리뷰"),
+            Map.entry("document", "문서"),
+            Map.entry("documents", "문서"),
+            Map.entry("search", "검색"),
+            Map.entry("meeting", "회의"),
+            Map.entry("music", "음악"),
+            Map.entry("design", "디자인"),
+            Map.entry("marketing", "마케팅"),
+            Map.entry("assistant", "도우미"),
+            Map.entry("writing", "글쓰기"));
+
+    private final float[] matrix;
+    private final float[] idf;
+    private final int size;
+
+    private ToolVectorIndex(float[] matrix, float[] idf, int size) {
+        this.matrix = matrix;
+        this.idf = idf;
+        this.size = size;
+    }
+
+    static ToolVectorIndex build(AiToolResponse[] tools) {
+        int n = tools.length;
+        float[] matrix = new float[n * DIMENSIONS];
+        int[] df = new int[DIMENSIONS];
+        for (int ordinal = 0; ordinal < n; ordinal++) {
+            int base = ordinal * DIMENSIONS;
+            countFeatures(tools[ordinal], matrix, base);
+            for (int j = 0; j < DIMENSIONS; j++) {
+                if (matrix[base + j] > 0f) {
+                    df[j]++;
+                }
+            }
+        }
+        float[] idf = new float[DIMENSIONS];
+        for (int j = 0; j < DIMENSIONS; j++) {
+            idf[j] = (float) Math.log((1.0 + n) / (1.0 + df[j])) + 1f;
+        }
+        for (int ordinal = 0; ordinal < n; ordinal++) {
+            weigh(matrix, ordinal * DIMENSIONS, idf);
+        }
+        return new ToolVectorIndex(matrix, idf, n);
+    }
+
+    /**
+     * changed에 들어 있는 툴의 벡터만 다시 만든 새 인스턴스를 만든다.
+     * - idf는 그대로 쓴다. 전체 재적재 때 다시 계산된다.
+     */
+    ToolVectorIndex update(AiToolResponse[] tools, int[] changed) {
+        float[] next = Arrays.copyOf(matrix, tools.length * DIMENSIONS);
+        for (int ordinal : changed) {
+            int base = ordinal * DIMENSIONS;
+            Arrays.fill(next, base, base + DIMENSIONS, 0f);
+            countFeatures(tools[ordinal], next, base);
+            weigh(next, base, idf);
+        }
+        return new ToolVectorIndex(next, idf, tools.length);
+    }
+
+    // 검색어 벡터. 뽑을 특징이 없으면 null
+    float[] embed(String q) {
+        float[] v = new float[DIMENSIONS];
+        addFeatures(q, 1f, v, 0);
+        boolean any = false;
+        for (float x : v) {
+            if (x > 0f) {
+                any = true;
+                break;
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        weigh(v, 0, idf);
+        return v;
+    }
+
+    /**
+     * query와 유사도가 MIN_SIMILARITY 이상인 툴 중 상위 limit개
+     * - allowed가 null이 아니면 거기 든 ordinal만 본다. (필터에 걸리는 줄은 내적도 하지 않는다)
+     * - 결과는 유사도 내림차순. total은 기준을 넘은 전체 개수다.
+     */
+    Hits top(float[] query, ToolBitmap allowed, int limit) {
+        // (유사도 비트 << 32 | ordinal) 최소 힙. 유사도는 양수라 float 비트 순서가 크기 순서와 같다
+        long[] heap = new long[Math.max(limit, 1)];
+        int count = 0;
+        int total = 0;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (allowed != null && !allowed.contains(ordinal)) {
+                continue;
+            }
+            float score = VectorMath.dot(query, 0, matrix, ordinal * DIMENSIONS, DIMENSIONS);
+            if (score < MIN_SIMILARITY) {
+                continue;
+            }
+            total++;
+            if (limit == 0) {
+                continue;
+            }
+            long key = ((long) Float.floatToIntBits(score) << 32) | ordinal;
+            if (count < limit) {
+                heap[count] = key;
+                siftUp(heap, count++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(heap, count);
+            }
+        }
+
+        long[] sorted = Arrays.copyOf(heap, count);
+        Arrays.sort(sorted);
+        int[] docs = new int[count];
+        float[] scores = new float[count];
+        for (int i = 0; i < count; i++) {
+            long key = sorted[count - 1 - i];
+            docs[i] = (int) key;
+            scores[i] = Float.intBitsToFloat((int) (key >>> 32));
+        }
+        return new Hits(docs, scores, total);
+    }
+
+    // ordinal 툴의 벡터 사본 (스칼라 내적으로 top 결과를 검산할 때 쓴다)
+    float[] row(int ordinal) {
+        return Arrays.copyOfRange(matrix, ordinal * DIMENSIONS, (ordinal + 1) * DIMENSIONS);
+    }
+
+    // 유사도가 기준을 넘는 ordinal 전체 (오름차순, 패싯 계산용)
+    int[] matches(float[] query) {
+        NgramIndex.IntList out = new NgramIndex.IntList();
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (VectorMath.dot(query, 0, matrix, ordinal * DIMENSIONS, DIMENSIONS) >= MIN_SIMILARITY) {
+                out.add(ordinal);
+            }
+        }
+        return out.toArray();
+    }
+
+    private static void countFeatures(AiToolResponse t, float[] row, int base) {
+        addFeatures(t.name(), NAME_WEIGHT, row, base);
+        addFeatures(t.subTitle(), 1f, row, base);
+        addFeatures(t.description(), 1f, row, base);
+    }
+
+    // 글자/숫자가 이어진 구간을 단어로 보고, 단어와 그 안의 2-gram, 3-gram 을 센다
+    private static void addFeatures(String text, float weight, float[] row, int base) {
+        if (text == null) {
+            return;
+        }
+        String s = text.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < s.length()) {
+            while (i < s.length() && !Character.isLetterOrDigit(s.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < s.length() && Character.isLetterOrDigit(s.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                // 사전에 있는 영어 단어는 한국어 낱말로 바꿔 센다 (ASCII 로 시작하는 단어만 찾아본다)
+                String alias = s.charAt(start) < 0x80 ? ALIASES.get(s.substring(start, i)) : null;
+                if (alias != null) {
+                    addWord(alias, 0, alias.length(), weight, row, base);
+                } else {
+                    addWord(s, start, i, weight, row, base);
+                }
+            }
+        }
+    }
+
+    private static void addWord(String s, int start, int end, float weight, float[] row, int base) {
+        row[base + bucket(s, start, end, 0)] += weight;
+        for (int n = 2; n <= 3; n++) {
+            for (int g = start; g + n <= end; g++) {
+                row[base + bucket(s, g, g + n, n)] += weight;
+            }
+        }
+    }
+
+    // tf -> (1 + log tf) * idf 로 바꾸고 길이를 1로 맞춘다
+    private static void weigh(float[] v, int base, float[] idf) {
+        float norm = 0f;
+        for (int j = 0; j < DIMENSIONS; j++) {
+            float tf = v[base + j];
+            if (tf > 0f) {
+                float w = (1f + (float) Math.log(tf)) * idf[j];
+                v[base + j] = w;
+                norm += w * w;
+            }
+        }
+        if (norm > 0f) {
+            float inv = (float) (1.0 / Math.sqrt(norm));
+            for (int j = 0; j < DIMENSIONS; j++) {
+                v[base + j] *= inv;
+            }
+        }
+    }
+
+    // 부분 문자열을 만들지 않고 해시한다. seed로 단어/2-gram/3-gram 을 구분한다
+    private static int bucket(String s, int from, int to, int seed) {
+        int h = seed * 0x9E3779B9;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + s.charAt(i);
+        }
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h & (DIMENSIONS - 1);
+    }
+
+    private static void siftUp(long[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= heap[i]) {
+                return;
+            }
+            long tmp = heap[parent];
+            heap[parent] = heap[i];
+            heap[i] = tmp;
+            i = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        int i = 0;
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = (left + 1 < size && heap[left + 1] < heap[left]) ? left + 1 : left;
+            if (heap[i] <= heap[smallest]) {
+                return;
+            }
+            long tmp = heap[i];
+            heap[i] = heap[smallest];
+            heap[smallest] = tmp;
+            i = smallest;
+        }
+    }
+
+    record Hits(int[] docs, float[] scores, int total) {
+    }
+}
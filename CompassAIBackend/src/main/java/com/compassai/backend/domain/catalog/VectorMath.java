@@ -0,0 +1,33 @@
+package com.compassai.backend.domain.catalog;
+
+/**
+ * float 벡터 내적
+ * - jdk.incubator.vector 모듈이 있으면 SIMD(SimdVectorMath)로, 없으면 스칼라 루프로 계산한다.
+ *   (실행 시 --add-modules jdk.incubator.vector 가 있어야 SIMD 경로를 쓴다)
+ * - -Dcompassai.vector.simd=false 로 SIMD 경로를 끌 수 있다.
+ */
+public final class VectorMath {
+
+    public static final boolean SIMD_ENABLED =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+                    && !"false".equalsIgnoreCase(System.getProperty("compassai.vector.simd"));
+
+    private VectorMath() {
+    }
+
+    // a[aOffset..aOffset+length) 와 b[bOffset..bOffset+length) 의 내적
+    public static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        // SIMD_ENABLED 가 false 면 SimdVectorMath 클래스는 로딩되지 않는다
+        return SIMD_ENABLED
+                ? SimdVectorMath.dot(a, aOffset, b, bOffset, length)
+                : dotScalar(a, aOffset, b, bOffset, length);
+    }
+
+    public static float dotScalar(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float sum = 0f;
+        for (int i = 0; i < length; i++) {
+            sum += a[aOffset + i] * b[bOffset + i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,25 @@
+package com.compassai.backend.domain.counter;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 툴별 누적 조회/클릭 수
+ * - 요청마다 쓰지 않고 ToolCounters 가 모아 둔 증가분을 주기적으로 더한다.
+ * - 삭제된 툴의 증가분 때문에 배치 전체가 실패하지 않도록 ai_tool 에 FK를 걸지 않는다.
+ */
+@Entity
+@Table(name = "ai_tool_counter")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class AiToolCounter {
+
+    @Id
+    @Column(name = "tool_id")
+    private Long toolId;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(nullable = false)
+    private long clicks;
+}
@@ -0,0 +1,44 @@
+package com.compassai.backend.domain.counter;
+
+import com.compassai.backend.domain.AiToolRepository;
+import com.compassai.backend.domain.catalog.AiToolCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 툴 조회/클릭 집계
+ * - 메모리 카운터만 올리고 바로 204를 돌려준다. DB 반영은 ToolCounters 가 주기적으로 한다.
+ */
+@RestController
+@RequestMapping("/api/tools")
+@RequiredArgsConstructor
+public class ToolCounterController {
+
+    private final ToolCounters counters;
+    private final AiToolCatalog catalog;
+    private final AiToolRepository repo;
+
+    @PostMapping("/{id}/view")
+    public ResponseEntity<Void> view(@PathVariable Long id) {
+        return count(id, ToolCounterType.VIEW);
+    }
+
+    @PostMapping("/{id}/click")
+    public ResponseEntity<Void> click(@PathVariable Long id) {
+        return count(id, ToolCounterType.CLICK);
+    }
+
+    private ResponseEntity<Void> count(Long id, ToolCounterType type) {
+        // 없는 id로 카운터가 끝없이 늘어나지 않도록 확인한다. 스냅샷 모드에서는 DB를 보지 않는다
+        boolean exists = catalog.isEnabled() ? catalog.current().contains(id) : repo.existsById(id);
+        if (!exists) {
+            return ResponseEntity.notFound().build();
+        }
+        counters.increment(id, type);
+        return ResponseEntity.noContent().build();
+    }
+}
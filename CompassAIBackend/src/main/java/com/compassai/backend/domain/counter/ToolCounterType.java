@@ -0,0 +1,7 @@
+package com.compassai.backend.domain.counter;
+
+// 툴별로 세는 사용 지표
+public enum ToolCounterType {
+    VIEW,   // 상세/목록에서 노출
+    CLICK   // 툴 사이트로 이동
+}
@@ -0,0 +1,169 @@
+package com.compassai.backend.domain.counter;
+
+import com.compassai.backend.domain.catalog.ToolPopularity;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 툴별 조회/클릭 카운터
+ * - 요청 경로에서는 툴별 LongAdder 를 올리기만 한다. (셀이 스레드별로 나뉘어 같은 툴에 몰려도 경합이 적고, 할당도 없다)
+ * - 주기적으로 마지막 flush 이후 증가분만 모아 ai_tool_counter 에 배치 upsert 한다.
+ *   LongAdder 는 줄이지 않고 flush 한 값을 따로 기억하므로, flush 도중에 들어온 증가분도 잃지 않는다.
+ * - flush 뒤에는 DB 누적값을 다시 읽어 다른 노드가 더한 값도 따라잡는다.
+ * - 인기 점수 = 조회 수 + 클릭 수 * clickWeight
+ */
+@Slf4j
+@Component
+public class ToolCounters implements ToolPopularity {
+
+    private static final String UPSERT = """
+            INSERT INTO ai_tool_counter (tool_id, views, clicks) VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE views = views + VALUES(views), clicks = clicks + VALUES(clicks)
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final int clickWeight;
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    // flush 와 DB 재적재가 겹치지 않게 한다 (가상 스레드 고정을 피하려고 synchronized 대신 락)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private volatile long epoch;
+
+    public ToolCounters(JdbcTemplate jdbc,
+                        @Value("${compassai.counters.click-weight:5}") int clickWeight) {
+        this.jdbc = jdbc;
+        this.clickWeight = clickWeight;
+    }
+
+    // 호출하는 쪽에서 툴 존재 여부를 확인한 뒤 부른다
+    public void increment(Long toolId, ToolCounterType type) {
+        Counter c = counters.get(toolId);
+        if (c == null) {
+            c = counters.computeIfAbsent(toolId, k -> new Counter());
+        }
+        (type == ToolCounterType.VIEW ? c.views : c.clicks).increment();
+    }
+
+    public long views(Long toolId) {
+        Counter c = counters.get(toolId);
+        return (c == null) ? 0L : c.viewsBase + c.views.sum();
+    }
+
+    public long clicks(Long toolId) {
+        Counter c = counters.get(toolId);
+        return (c == null) ? 0L : c.clicksBase + c.clicks.sum();
+    }
+
+    @Override
+    public long score(Long toolId) {
+        return views(toolId) + clicks(toolId) * clickWeight;
+    }
+
+    @Override
+    public long epoch() {
+        return epoch;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        flushLock.lock();
+        try {
+            reloadTotals();
+            epoch++;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${compassai.counters.flush-interval-ms:5000}",
+            fixedDelayString = "${compassai.counters.flush-interval-ms:5000}"
+    )
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Object[]> rows = new ArrayList<>();
+            List<Pending> pending = new ArrayList<>();
+            counters.forEach((toolId, c) -> {
+                long views = c.views.sum() - c.flushedViews;
+                long clicks = c.clicks.sum() - c.flushedClicks;
+                if (views != 0 || clicks != 0) {
+                    rows.add(new Object[]{toolId, views, clicks});
+                    pending.add(new Pending(c, views, clicks));
+                }
+            });
+            if (!rows.isEmpty()) {
+                // rewriteBatchedStatements=true 이면 여러 줄짜리 INSERT 하나로 나간다
+                jdbc.batchUpdate(UPSERT, rows);
+                for (Pending p : pending) {
+                    p.counter().flushedViews += p.views();
+                    p.counter().flushedClicks += p.clicks();
+                }
+                log.debug("tool counters flushed: {} tools", rows.size());
+            }
+            if (reloadTotals() || !rows.isEmpty()) {
+                epoch++;
+            }
+        } catch (DataAccessException e) {
+            // 실패한 증가분은 flushed 에 더하지 않았으므로 다음 주기에 다시 쓴다
+            log.warn("tool counter flush failed", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * base = DB 누적값 - 이 노드가 이미 쓴 값. 그래야 base + 메모리 합계가 전체 누적값이 된다.
+     * - 다른 노드가 더한 값이 있어 base 가 바뀌었으면 true
+     */
+    private boolean reloadTotals() {
+        boolean[] changed = {false};
+        jdbc.query("SELECT tool_id, views, clicks FROM ai_tool_counter", rs -> {
+            Counter c = counters.computeIfAbsent(rs.getLong("tool_id"), k -> new Counter());
+            long views = rs.getLong("views") - c.flushedViews;
+            long clicks = rs.getLong("clicks") - c.flushedClicks;
+            if (views != c.viewsBase || clicks != c.clicksBase) {
+                c.viewsBase = views;
+                c.clicksBase = clicks;
+                changed[0] = true;
+            }
+        });
+        return changed[0];
+    }
+
+    private static final class Counter {
+        final LongAdder views = new LongAdder();
+        final LongAdder clicks = new LongAdder();
+
+        // flush 스레드만 쓴다 (flushLock 안)
+        long flushedViews;
+        long flushedClicks;
+
+        // DB 에서 읽은 값. 읽는 쪽은 락 없이 본다
+        volatile long viewsBase;
+        volatile long clicksBase;
+    }
+
+    private record Pending(Counter counter, long views, long clicks) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.compassai.backend.domain.dto;
 
+import com.compassai.backend.domain.AiTool;
+
 import java.util.List;
 
 public record AiToolResponse(
@@ -11,4 +13,19 @@ public record AiToolResponse(
         String logo,
         String description,
         List<String> categories
-) {}
+) {
+
+    // 엔티티와 이미 정렬된 카테고리 이름 목록으로 응답 DTO를 만든다
+    public static AiToolResponse of(AiTool t, List<String> categories) {
+        return new AiToolResponse(
+                t.getId(),
+                t.getName(),
+                t.getSubTitle(),
+                t.getOrigin(),
+                t.getUrl(),
+                t.getLogo(),
+                t.getDescription(),
+                categories
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package com.compassai.backend.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 열 단위 목록 응답 (Accept: application/vnd.compassai.columnar+json)
+ * - 필드 이름은 한 번만 쓰고 값은 필드별 배열로 담는다. i번째 툴은 각 배열의 i번째 값이다.
+ * - Page 메타데이터는 화면에서 쓰는 네 값만 남긴다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ColumnarPage(
+        Columns content,
+        long totalElements,
+        int totalPages,
+        int number,
+        int size,
+        ToolFacets facets
+) {
+
+    public record Columns(
+            List<Long> id,
+            List<String> name,
+            List<String> subTitle,
+            List<String> origin,
+            List<String> url,
+            List<String> logo,
+            List<String> description,
+            List<List<String>> categories
+    ) {}
+
+    public static ColumnarPage of(Page<AiToolResponse> page, ToolFacets facets) {
+        List<AiToolResponse> tools = page.getContent();
+        int n = tools.size();
+        List<Long> id = new ArrayList<>(n);
+        List<String> name = new ArrayList<>(n);
+        List<String> subTitle = new ArrayList<>(n);
+        List<String> origin = new ArrayList<>(n);
+        List<String> url = new ArrayList<>(n);
+        List<String> logo = new ArrayList<>(n);
+        List<String> description = new ArrayList<>(n);
+        List<List<String>> categories = new ArrayList<>(n);
+        for (AiToolResponse t : tools) {
+            id.add(t.id());
+            name.add(t.name());
+            subTitle.add(t.subTitle());
+            origin.add(t.origin());
+            url.add(t.url());
+            logo.add(t.logo());
+            description.add(t.description());
+            categories.add(t.categories());
+        }
+        return new ColumnarPage(
+                new Columns(id, name, subTitle, origin, url, logo, description, categories),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.getNumber(),
+                page.getSize(),
+                facets
+        );
+    }
+}
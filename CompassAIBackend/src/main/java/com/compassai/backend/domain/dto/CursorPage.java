@@ -0,0 +1,10 @@
+package com.compassai.backend.domain.dto;
+
+import java.util.List;
+
+// 커서 기반 목록 응답. nextCursor가 null이면 마지막 페이지다.
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {}
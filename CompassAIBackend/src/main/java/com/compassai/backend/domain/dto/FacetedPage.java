@@ -0,0 +1,10 @@
+package com.compassai.backend.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import org.springframework.data.domain.Page;
+
+// 기존 Page 응답 필드는 그대로 두고 facets 필드만 덧붙인 응답
+public record FacetedPage<T>(
+        @JsonUnwrapped Page<T> page,
+        ToolFacets facets
+) {}
@@ -0,0 +1,9 @@
+package com.compassai.backend.domain.dto;
+
+import java.util.Map;
+
+// 현재 필터 기준 카테고리별/출처별 툴 개수
+public record ToolFacets(
+        Map<String, Integer> categories,
+        Map<String, Integer> origins
+) {}
@@ -0,0 +1,14 @@
+package com.compassai.backend.domain.dto;
+
+// 자동완성 목록 한 줄 (목록 화면보다 가볍게 이름/로고만 내려준다)
+public record ToolSuggestion(
+        Long id,
+        String name,
+        String subTitle,
+        String logo
+) {
+
+    public static ToolSuggestion of(AiToolResponse t) {
+        return new ToolSuggestion(t.id(), t.name(), t.subTitle(), t.logo());
+    }
+}
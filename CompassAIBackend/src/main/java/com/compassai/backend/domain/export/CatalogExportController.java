@@ -0,0 +1,51 @@
+package com.compassai.backend.domain.export;
+
+import com.compassai.backend.domain.catalog.ToolResponseFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 카탈로그 내보내기 (파트너 연동용)
+ * - 한 줄에 툴 하나인 NDJSON 을 응답 스트림에 바로 쓴다.
+ * - Accept-Encoding 이 gzip 을 받으면(q=0 이 아니면, * 포함) gzip 으로 압축해 보낸다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/tools")
+@RequiredArgsConstructor
+public class CatalogExportController {
+
+    static final String NDJSON = "application/x-ndjson";
+
+    private final CatalogNdjsonExporter exporter;
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void export(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        boolean gzip = ToolResponseFormat.acceptsGzip(acceptEncoding);
+        response.setContentType(NDJSON + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        long start = System.nanoTime();
+        OutputStream body = response.getOutputStream();
+        try (OutputStream out = gzip ? new GZIPOutputStream(body, 64 * 1024) : body) {
+            long tools = exporter.write(out);
+            log.info("catalog export: {} tools in {} ms (gzip={})", tools, (System.nanoTime() - start) / 1_000_000, gzip);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.compassai.backend.domain.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 전체 카탈로그를 NDJSON 으로 내보낸다.
+ * - 엔티티나 목록을 만들지 않고, 정방향 전용 ResultSet 을 받아 읽는 즉시 쓴다.
+ * - MySQL 은 이 문장에만 fetch size Integer.MIN_VALUE 를 줘서 행 단위로 스트리밍한다. (다른 쿼리는 기존처럼 한 번에 받는다)
+ *   스트리밍 중에는 그 연결로 다른 문장을 실행할 수 없으므로 이 쿼리 하나만 돌린다. 다른 DB 는 fetch-size 만큼씩 받는다.
+ * - 카테고리는 SQL 에서 LEFT JOIN 해 (tool id, 카테고리 이름) 순으로 받고, 같은 툴의 연속된 행을 한 줄로 합친다.
+ *   (GROUP_CONCAT 은 group_concat_max_len 에서 잘리므로 쓰지 않는다)
+ * - JsonGenerator 하나가 내부 버퍼를 재사용하므로 툴 수와 상관없이 메모리 사용량이 일정하다.
+ * - 한 줄 형식은 AiToolResponse 와 같다.
+ */
+@Component
+public class CatalogNdjsonExporter {
+
+    private static final String SQL = """
+            SELECT t.id, t.name, t.sub_title, t.origin, t.url, t.logo, t.description, c.name AS category
+            FROM ai_tool t
+            LEFT JOIN ai_tool_category tc ON tc.tool_id = t.id
+            LEFT JOIN category c ON c.id = tc.category_id
+            ORDER BY t.id, c.name
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public CatalogNdjsonExporter(DataSource dataSource,
+                                 ObjectMapper objectMapper,
+                                 @Value("${compassai.export.fetch-size:1000}") int fetchSize) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    // 쓴 툴 수를 돌려준다
+    public long write(OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // 최상위 객체 사이를 줄바꿈으로 구분한다 (NDJSON)
+            json.setRootValueSeparator(new SerializedString("\n"));
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            RowWriter writer = new RowWriter(json);
+            jdbc.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(isMySql(con) ? Integer.MIN_VALUE : fetchSize);
+                return ps;
+            }, writer::row);
+            writer.finish();
+            json.writeRaw('\n');
+            return writer.count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Connector/J 는 정방향 전용 + 읽기 전용 + fetch size Integer.MIN_VALUE 일 때만 행을 하나씩 받는다
+    private static boolean isMySql(Connection con) throws SQLException {
+        return "MySQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName());
+    }
+
+    // 같은 툴의 연속된 행을 하나의 JSON 객체로 쓴다
+    private static final class RowWriter {
+
+        private final JsonGenerator json;
+        private long currentId = Long.MIN_VALUE;
+        private long count;
+
+        RowWriter(JsonGenerator json) {
+            this.json = json;
+        }
+
+        void row(ResultSet rs) throws SQLException {
+            try {
+                long id = rs.getLong("id");
+                if (id != currentId) {
+                    finish();
+                    currentId = id;
+                    count++;
+                    json.writeStartObject();
+                    json.writeNumberField("id", id);
+                    json.writeStringField("name", rs.getString("name"));
+                    json.writeStringField("subTitle", rs.getString("sub_title"));
+                    json.writeStringField("origin", rs.getString("origin"));
+                    json.writeStringField("url", rs.getString("url"));
+                    json.writeStringField("logo", rs.getString("logo"));
+                    json.writeStringField("description", rs.getString("description"));
+                    json.writeArrayFieldStart("categories");
+                }
+                String category = rs.getString("category");
+                if (category != null) {
+                    json.writeString(category);
+                }
+            } catch (IOException e) {
+                // 클라이언트가 연결을 끊은 경우 등. 쿼리를 멈추기 위해 밖으로 던진다
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() {
+            if (currentId == Long.MIN_VALUE) {
+                return;
+            }
+            try {
+                json.writeEndArray();
+                json.writeEndObject();
+                currentId = Long.MIN_VALUE;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.compassai.backend.domain.logo;
+
+import com.compassai.backend.domain.AiTool;
+import com.compassai.backend.domain.AiToolRepository;
+import com.compassai.backend.domain.ETags;
+import com.compassai.backend.domain.catalog.AiToolCatalog;
+import com.compassai.backend.domain.dto.AiToolResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 툴 로고 썸네일
+ * - /api/tools/{id}/logo?w= 는 썸네일을 만들어(처음 한 번) 내용 주소 URL(/api/logos/{key}.png)로 보낸다.
+ *   툴의 로고가 바뀌면 키가 바뀌므로 이 리다이렉트만 짧게 캐시한다.
+ * - /api/logos/{key}.png 는 내용이 절대 바뀌지 않으므로 1년 immutable 로 캐시하고, 파일을 그대로 보낸다. (FileRangeResponder)
+ */
+@RestController
+@RequiredArgsConstructor
+public class LogoController {
+
+    private static final CacheControl REDIRECT_CACHE = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+    private static final String IMMUTABLE_CACHE = "public, max-age=31536000, immutable";
+
+    private final LogoThumbnailer thumbnailer;
+    private final AiToolCatalog catalog;
+    private final AiToolRepository repo;
+
+    @GetMapping("/api/tools/{id}/logo")
+    public ResponseEntity<Void> logo(@PathVariable Long id, @RequestParam(defaultValue = "128") int w) throws IOException {
+        if (w < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "w는 1 이상이어야 합니다.");
+        }
+        String logo = findLogo(id).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        LogoThumbnailer.Thumbnail t = thumbnailer.thumbnail(logo, w)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create("/api/logos/" + t.key() + ".png"))
+                .cacheControl(REDIRECT_CACHE)
+                .build();
+    }
+
+    @GetMapping("/api/logos/{key}.png")
+    public void cached(@PathVariable String key,
+                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        LogoThumbnailer.Thumbnail t = thumbnailer.cached(key)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        String etag = "\"" + t.key() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType(MediaType.IMAGE_PNG_VALUE);
+        FileRangeResponder.send(t.file(), t.length(), etag, request, response);
+    }
+
+    // 스냅샷 모드면 DB를 보지 않는다
+    private Optional<String> findLogo(Long id) {
+        if (catalog.isEnabled()) {
+            return catalog.current().findById(id).map(AiToolResponse::logo);
+        }
+        return repo.findById(id).map(AiTool::getLogo);
+    }
+}
@@ -0,0 +1,197 @@
+package com.compassai.backend.domain.logo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 툴 로고 썸네일 생성기
+ * - AiTool.logo 는 프론트엔드 public 폴더 기준 경로("/gemini.png")라서 source-dir 아래에서 원본을 찾는다.
+ * - 원본 내용의 SHA-256 과 폭으로 키를 만들어 cache-dir 에 PNG로 한 번만 만든다. (내용 주소 방식이라 원본이 바뀌면 키도 바뀐다)
+ * - 폭은 WIDTHS 중 요청 이상인 가장 작은 값으로 올려, 캐시 파일 종류가 폭 수만큼만 생기게 한다.
+ * - 같은 (원본 파일, 수정 시각, 크기, 폭)은 메모리에 기억해 두어 두 번째부터는 stat 한 번으로 끝난다.
+ */
+@Slf4j
+@Component
+public class LogoThumbnailer {
+
+    static final int[] WIDTHS = {32, 48, 64, 96, 128, 192, 256};
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{32}-w\\d{2,3}");
+
+    private final Path sourceDir;
+    private final Path cacheDir;
+
+    // 같은 썸네일을 동시에 여러 번 만들지 않도록 진행 중인 작업을 같이 기다린다
+    private final ConcurrentHashMap<Source, CompletableFuture<Thumbnail>> known = new ConcurrentHashMap<>();
+
+    public LogoThumbnailer(@Value("${compassai.logo.source-dir:../CompassAIFrontend/public}") String sourceDir,
+                           @Value("${compassai.logo.cache-dir:${java.io.tmpdir}/compassai-logo-cache}") String cacheDir) {
+        this.sourceDir = Path.of(sourceDir).toAbsolutePath().normalize();
+        this.cacheDir = Path.of(cacheDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * logo 경로의 원본으로 width 폭 썸네일을 찾거나 만든다.
+     * - 외부 URL, source-dir 밖 경로, 없는 파일, 이미지가 아닌 파일이면 empty
+     */
+    public Optional<Thumbnail> thumbnail(String logo, int width) throws IOException {
+        Path source = resolveSource(logo);
+        if (source == null || !Files.isRegularFile(source)) {
+            return Optional.empty();
+        }
+        BasicFileAttributes attrs = Files.readAttributes(source, BasicFileAttributes.class);
+        Source key = new Source(source, attrs.lastModifiedTime().toMillis(), attrs.size(), snapWidth(width));
+
+        CompletableFuture<Thumbnail> mine = new CompletableFuture<>();
+        CompletableFuture<Thumbnail> existing = known.putIfAbsent(key, mine);
+        if (existing == null) {
+            try {
+                mine.complete(generate(key));
+            } catch (IOException | RuntimeException e) {
+                known.remove(key, mine);
+                mine.completeExceptionally(e);
+            }
+        }
+        try {
+            Thumbnail t = (existing != null ? existing : mine).join();
+            // 캐시 폴더를 누가 지웠으면 다시 만든다
+            if (t != null && !Files.exists(t.file())) {
+                known.remove(key);
+                return thumbnail(logo, width);
+            }
+            return Optional.ofNullable(t);
+        } catch (java.util.concurrent.CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw e;
+        }
+    }
+
+    // /api/logos/{key}.png 로 들어온 키의 캐시 파일. 형식이 틀리거나 없으면 empty
+    public Optional<Thumbnail> cached(String key) {
+        if (!KEY.matcher(key).matches()) {
+            return Optional.empty();
+        }
+        Path file = cacheFile(key);
+        try {
+            return Files.isRegularFile(file) ? Optional.of(new Thumbnail(key, file, Files.size(file))) : Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static int snapWidth(int width) {
+        for (int w : WIDTHS) {
+            if (w >= width) {
+                return w;
+            }
+        }
+        return WIDTHS[WIDTHS.length - 1];
+    }
+
+    private Path resolveSource(String logo) {
+        if (logo == null || logo.isBlank() || logo.contains("://") || logo.startsWith("//")) {
+            return null;
+        }
+        Path p = sourceDir.resolve(logo.replaceFirst("^/+", "")).normalize();
+        return p.startsWith(sourceDir) ? p : null;
+    }
+
+    // 이미지가 아니면 null
+    private Thumbnail generate(Source source) throws IOException {
+        byte[] original = Files.readAllBytes(source.path());
+        String key = sha256(original) + "-w" + source.width();
+        Path file = cacheFile(key);
+        if (Files.isRegularFile(file)) {
+            return new Thumbnail(key, file, Files.size(file));
+        }
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(original));
+        if (image == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        BufferedImage resized = resize(image, source.width());
+        Files.createDirectories(file.getParent());
+        Path tmp = Files.createTempFile(file.getParent(), key, ".tmp");
+        try {
+            ImageIO.write(resized, "png", tmp.toFile());
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        long size = Files.size(file);
+        log.info("logo thumbnail {} ({} bytes -> {} bytes) in {} ms", key, original.length, size,
+                (System.nanoTime() - start) / 1_000_000);
+        return new Thumbnail(key, file, size);
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄이다가 마지막에 목표 크기로 맞춘다
+    private static BufferedImage resize(BufferedImage image, int maxWidth) {
+        int targetW = Math.min(maxWidth, image.getWidth());
+        int targetH = Math.max(1, Math.round((float) image.getHeight() * targetW / image.getWidth()));
+        BufferedImage current = image;
+        int w = image.getWidth();
+        int h = image.getHeight();
+        do {
+            w = Math.max(targetW, w / 2);
+            h = Math.max(targetH, h / 2);
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != targetW || h != targetH);
+        return current;
+    }
+
+    private Path cacheFile(String key) {
+        return cacheDir.resolve(key.substring(0, 2)).resolve(key + ".png");
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Source(Path path, long lastModified, long size, int width) {
+    }
+
+    public record Thumbnail(String key, Path file, long length) {
+    }
+}
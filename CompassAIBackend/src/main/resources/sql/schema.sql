@@ -45,7 +45,8 @@ CREATE TABLE IF NOT EXISTS ai_tool (
                                        created_at    TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
                                        updated_at    TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
                                        CONSTRAINT uq_ai_tool_name UNIQUE (name),
-                                       CONSTRAINT uq_ai_tool_url  UNIQUE (url)
+                                       CONSTRAINT uq_ai_tool_url  UNIQUE (url),
+                                       INDEX idx_ai_tool_updated_id (updated_at, id)                -- 최신순 커서 페이지네이션
 ) ENGINE=InnoDB;
 
 /* -----------------------------
@@ -111,3 +112,15 @@ CREATE TABLE IF NOT EXISTS ai_tool_application_category (
                                                                 FOREIGN KEY (category_id)
                                                                     REFERENCES category(id)            ON DELETE CASCADE
 ) ENGINE=InnoDB;
+
+/* -----------------------------
+   7) ai_tool_counter:
+      툴별 누적 조회/클릭 수 (인기순 정렬용)
+      - 서버가 메모리에 모은 증가분을 주기적으로 더한다
+      - 삭제된 툴 때문에 배치가 실패하지 않도록 FK는 걸지 않는다
+   ----------------------------- */
+CREATE TABLE IF NOT EXISTS ai_tool_counter (
+                                               tool_id BIGINT NOT NULL PRIMARY KEY,
+                                               views   BIGINT NOT NULL DEFAULT 0,
+                                               clicks  BIGINT NOT NULL DEFAULT 0
+) ENGINE=InnoDB;
@@ -0,0 +1,123 @@
+package com.compassai.backend.startup;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 벤치마크: 프로세스를 띄운 순간부터 GET /api/tools?size=1 이 처음 200 을 돌려줄 때까지
+ * - ./gradlew startupBenchmark -Pfaststart 로 실행한다. (풀어 둔 bootJar 와 AppCDS 아카이브를 쓴다)
+ * - 일반 기동, fast-start(AOT + faststart 프로파일), fast-start + AppCDS 를 번갈아 runs 번씩 띄운다.
+ * - application.properties 의 MySQL 이 떠 있어야 한다.
+ *
+ * 인자: java 실행 파일, 앱 폴더(build/faststart), jar 이름, CDS 아카이브 이름, 반복 횟수, 포트, 결과 파일
+ */
+public final class StartupBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final long POLL_MILLIS = 10;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String java = args[0];
+        Path appDir = Path.of(args[1]);
+        String jar = args[2];
+        String archive = args[3];
+        int runs = Integer.parseInt(args[4]);
+        int port = Integer.parseInt(args[5]);
+        Path report = Path.of(args[6]);
+
+        List<Variant> variants = List.of(
+                new Variant("default", List.of(java, "-jar", jar)),
+                new Variant("faststart", List.of(java,
+                        "-Dspring.aot.enabled=true", "-Dspring.profiles.active=faststart",
+                        "-jar", jar)),
+                new Variant("faststart+cds", List.of(java, "-XX:SharedArchiveFile=" + archive,
+                        "-Dspring.aot.enabled=true", "-Dspring.profiles.active=faststart",
+                        "-jar", jar))
+        );
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        URI uri = URI.create("http://localhost:" + port + "/api/tools?size=1");
+        Path logs = Files.createDirectories(report.getParent().resolve("logs"));
+
+        long[][] millis = new long[variants.size()][runs];
+        // 디스크 캐시 등이 한쪽에만 유리하지 않도록 변형을 번갈아 띄운다
+        for (int run = 0; run < runs; run++) {
+            for (int v = 0; v < variants.size(); v++) {
+                Variant variant = variants.get(v);
+                Path log = logs.resolve(variant.name() + "-" + run + ".log");
+                millis[v][run] = timeToFirstResponse(variant, appDir, port, client, uri, log);
+                System.out.printf("%-14s run %d: %d ms%n", variant.name(), run + 1, millis[v][run]);
+            }
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add("time to first 200 from GET /api/tools?size=1 (ms, " + runs + " runs)");
+        lines.add(String.format("%-14s %8s %8s %8s", "variant", "min", "median", "max"));
+        for (int v = 0; v < variants.size(); v++) {
+            long[] sorted = millis[v].clone();
+            Arrays.sort(sorted);
+            lines.add(String.format("%-14s %8d %8d %8d",
+                    variants.get(v).name(), sorted[0], sorted[sorted.length / 2], sorted[sorted.length - 1]));
+        }
+        Files.write(report, lines);
+        lines.forEach(System.out::println);
+    }
+
+    private static long timeToFirstResponse(Variant variant, Path appDir, int port, HttpClient client,
+                                            URI uri, Path log) throws Exception {
+        List<String> command = new ArrayList<>(variant.command());
+        command.add("--server.port=" + port);
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(appDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name() + " exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (ConnectException | HttpTimeoutException e) {
+                    // 아직 포트가 열리지 않았다
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+            throw new IllegalStateException(variant.name() + " did not answer within " + TIMEOUT + ", see " + log);
+        } finally {
+            stop(process);
+        }
+    }
+
+    private static void stop(Process process) throws InterruptedException, IOException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private record Variant(String name, List<String> command) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.compassai.backend.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가짜 시계로 토큰 버킷의 거절/충전/유휴 키 정리를 확인한다
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    // 용량 2개, 분당 60개(초당 1개) 충전
+    private TokenBucketRateLimiter limiter(int maxKeys) {
+        return new TokenBucketRateLimiter(2, 60, maxKeys, now::get);
+    }
+
+    @Test
+    void rejectsWhenEmptyAndReportsWait() {
+        TokenBucketRateLimiter limiter = limiter(100);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(1000);
+
+        // 다른 키는 따로 센다
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    void refillsAtConfiguredRate() {
+        TokenBucketRateLimiter limiter = limiter(100);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+
+        now.addAndGet(400);
+        assertThat(limiter.tryAcquire("a")).isEqualTo(600);
+
+        now.addAndGet(600);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() {
+        TokenBucketRateLimiter limiter = limiter(100);
+        limiter.tryAcquire("a");
+
+        now.addAndGet(60_000);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void evictsOnlyBucketsIdleLongEnoughToBeFull() {
+        TokenBucketRateLimiter limiter = limiter(100);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+
+        // 다시 가득 차려면 2초가 필요하다
+        now.addAndGet(1_999);
+        limiter.evictIdle();
+        assertThat(limiter.size()).isEqualTo(1);
+
+        now.addAndGet(1);
+        limiter.evictIdle();
+        assertThat(limiter.size()).isZero();
+
+        // 지워진 키는 새 버킷처럼 동작한다
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+    }
+
+    @Test
+    void keyCountStaysBoundedUnderManyDistinctKeys() {
+        TokenBucketRateLimiter limiter = limiter(64);
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("key-" + i);
+        }
+        assertThat(limiter.size()).isLessThanOrEqualTo(64);
+    }
+
+    private static void flood(TokenBucketRateLimiter limiter, String prefix) {
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire(prefix + i);
+        }
+    }
+
+    @Test
+    void fullStripeIsScannedOnRequestPathAtMostOncePerInterval() {
+        // 1ms 면 가득 차므로 조금만 지나도 모든 키가 지울 수 있는 상태가 된다
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 60_000, 512, now::get);
+        now.addAndGet(1_500);
+        // stripe 수와 상관없이 모두 가득 차게 넣는다. 가득 찬 뒤 첫 새 키가 정리 시각을 가져간다
+        flood(limiter, "a-");
+        int full = limiter.size();
+
+        // 정리 간격(1초) 안에서는 새 키가 stripe 를 훑지 않고 overflow 로 간다
+        now.addAndGet(100);
+        limiter.tryAcquire("b");
+        assertThat(limiter.size()).isEqualTo(full);
+
+        now.addAndGet(1_000);
+        limiter.tryAcquire("c");
+        assertThat(limiter.size()).isLessThan(full);
+    }
+
+    @Test
+    void emailSpellingsShareOneBucketAfterNormalization() {
+        TokenBucketRateLimiter limiter = limiter(100);
+
+        assertThat(limiter.tryAcquire(AuthService.normalizeEmail(" Test@Test.com"))).isZero();
+        assertThat(limiter.tryAcquire(AuthService.normalizeEmail("test@test.COM "))).isZero();
+        assertThat(limiter.tryAcquire(AuthService.normalizeEmail("TEST@TEST.COM"))).isPositive();
+    }
+}
@@ -0,0 +1,134 @@
+package com.compassai.backend.auth.session;
+
+import com.compassai.backend.auth.Role;
+import com.compassai.backend.auth.dto.UserLoginResponse;
+import com.compassai.backend.auth.session.SessionTokenCodec.SessionToken;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 세션 토큰의 왕복, 변조/만료/폐기 거절, TTL 검증을 확인한다
+class SessionTokenCodecTest {
+
+    private static final long NOW = 1_700_000_000L;
+
+    private final SessionTokenCodec codec = codec(1);
+
+    @Test
+    void roundTripKeepsEveryField() {
+        SessionToken token = new SessionToken(42L, NOW + 60, new UserLoginResponse(7L, "홍길동", "hong@test.com", Role.ADMIN));
+
+        SessionToken decoded = codec.decode(codec.encode(token), NOW);
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.id()).isEqualTo(42L);
+        assertThat(decoded.expiresAt()).isEqualTo(NOW + 60);
+        assertThat(decoded.user().getId()).isEqualTo(7L);
+        assertThat(decoded.user().getName()).isEqualTo("홍길동");
+        assertThat(decoded.user().getEmail()).isEqualTo("hong@test.com");
+        assertThat(decoded.user().getRole()).isEqualTo(Role.ADMIN);
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        String[] parts = codec.encode(token(NOW + 60)).split("\\.");
+        byte[] payload = Base64.getUrlDecoder().decode(parts[0]);
+        // 마지막 바이트는 권한 이름의 끝 글자다
+        payload[payload.length - 1] ^= 1;
+
+        assertThat(codec.decode(encode(payload) + "." + parts[1], NOW)).isNull();
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        String[] parts = codec.encode(token(NOW + 60)).split("\\.");
+        byte[] signature = Base64.getUrlDecoder().decode(parts[1]);
+        signature[0] ^= 1;
+
+        assertThat(codec.decode(parts[0] + "." + encode(signature), NOW)).isNull();
+        assertThat(codec.decode(parts[0] + "." + encode(Arrays.copyOf(signature, 16)), NOW)).isNull();
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherKey() {
+        assertThat(codec.decode(codec(2).encode(token(NOW + 60)), NOW)).isNull();
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String value = codec.encode(token(NOW + 60));
+
+        assertThat(codec.decode(value, NOW + 59)).isNotNull();
+        assertThat(codec.decode(value, NOW + 60)).isNull();
+        assertThat(codec.decode(value, NOW + 3600)).isNull();
+    }
+
+    @Test
+    void rejectsMalformedValues() {
+        for (String value : new String[]{null, "", ".", "abc", "abc.", ".abc", "!!!.???", "a.b.c"}) {
+            assertThat(codec.decode(value, NOW)).isNull();
+        }
+    }
+
+    @Test
+    void filterIgnoresRevokedTokenId() throws Exception {
+        TokenRevocationList revocations = new TokenRevocationList();
+        SessionTokenFilter filter = new SessionTokenFilter(codec, revocations);
+        long expiresAt = Instant.now().getEpochSecond() + 60;
+        String value = codec.encode(token(expiresAt));
+
+        assertThat(filter(filter, value).getAttribute(SessionTokenFilter.TOKEN_ATTRIBUTE)).isNotNull();
+
+        revocations.revoke(42L, expiresAt);
+        assertThat(filter(filter, value).getAttribute(SessionTokenFilter.TOKEN_ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    void loginStoreRejectsTtlOutsideCookieRange() {
+        TokenRevocationList revocations = new TokenRevocationList();
+
+        assertThatThrownBy(() -> new TokenLoginStore(codec, revocations, 0, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenLoginStore(codec, revocations, Integer.MAX_VALUE + 1L, false))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new TokenLoginStore(codec, revocations, Integer.MAX_VALUE, false)
+                .save(new MockHttpServletRequest(), response, token(NOW).user());
+        assertThat(response.getCookie(TokenLoginStore.COOKIE_NAME).getMaxAge()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    private static MockHttpServletRequest filter(SessionTokenFilter filter, String value) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(TokenLoginStore.COOKIE_NAME, value));
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return request;
+    }
+
+    private static SessionToken token(long expiresAt) {
+        return new SessionToken(42L, expiresAt, new UserLoginResponse(1L, "tester", "test@test.com", Role.USER));
+    }
+
+    private static SessionTokenCodec codec(int seed) {
+        byte[] key = new byte[32];
+        Arrays.fill(key, (byte) seed);
+        try {
+            return new SessionTokenCodec(Base64.getEncoder().encodeToString(key));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,28 @@
+package com.compassai.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// faststart 프로파일(ddl-auto=validate)이 sql/schema.sql 로 만든 MySQL 스키마 위에서 기동되는지 확인한다
+// H2 는 TEXT 를 CLOB 으로 보고하는 등 MySQL 과 타입이 달라 검증이 되지 않으므로 실제 MySQL 을 띄운다
+@SpringBootTest
+@ActiveProfiles("faststart")
+@Testcontainers(disabledWithoutDocker = true)
+class FastStartSchemaValidationTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("compassai")
+            .withInitScript("sql/schema.sql");
+
+    // 엔티티 매핑이 스키마와 다르면 컨텍스트가 뜨지 않아 여기까지 오지 못한다
+    @Test
+    void entityMappingsMatchSchemaSql() {
+    }
+}
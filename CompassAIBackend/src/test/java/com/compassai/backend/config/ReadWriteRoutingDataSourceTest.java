@@ -0,0 +1,191 @@
+package com.compassai.backend.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 메모리 H2 두 개(primary, replica)로 읽기/쓰기 라우팅, read-your-writes, 복제본 제외/유지를 확인한다
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(300);
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("rw-primary");
+        replica = database("rw-replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        Routing r = routing(ReplicaPool.Strategy.ROUND_ROBIN, replica);
+
+        assertThat(r.read()).isEqualTo("rw-replica");
+        assertThat(r.write()).isEqualTo("rw-primary");
+        // 트랜잭션 밖 호출은 primary
+        assertThat(r.jdbc.queryForObject("SELECT name FROM node", String.class)).isEqualTo("rw-primary");
+    }
+
+    @Test
+    void clientReadsItsOwnWritesFromPrimaryWithinWindow() throws Exception {
+        Routing r = routing(ReplicaPool.Strategy.ROUND_ROBIN, replica);
+
+        ReadYourWrites.bind(() -> "u:1");
+        r.write();
+        assertThat(r.read()).isEqualTo("rw-primary");
+
+        // 다른 클라이언트는 영향이 없다
+        ReadYourWrites.bind(() -> "u:2");
+        assertThat(r.read()).isEqualTo("rw-replica");
+
+        Thread.sleep(WINDOW.toMillis() + 100);
+        ReadYourWrites.bind(() -> "u:1");
+        assertThat(r.read()).isEqualTo("rw-replica");
+    }
+
+    @Test
+    void failedReplicaIsEjectedAndReadsFallBack() {
+        DataSource broken = new DriverManagerDataSource("jdbc:compassai-missing:replica");
+        Routing r = routing(ReplicaPool.Strategy.ROUND_ROBIN, broken, replica);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(r.read()).isEqualTo("rw-replica");
+        }
+        assertThat(r.pool.healthyCount()).isEqualTo(1);
+
+        Routing onlyBroken = routing(ReplicaPool.Strategy.ROUND_ROBIN, broken);
+        assertThat(onlyBroken.read()).isEqualTo("rw-primary");
+        assertThat(onlyBroken.pool.healthyCount()).isZero();
+    }
+
+    @Test
+    void replicaWithFullPoolStaysInRotation() {
+        // 풀이 꽉 차 시간이 지난 복제본은 빼지 않고 다음 복제본으로 넘긴다
+        DataSource busy = failing(new SQLTransientConnectionException("replica-0 - Connection is not available"));
+        Routing r = routing(ReplicaPool.Strategy.LEAST_LOADED, busy, replica);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(r.read()).isEqualTo("rw-replica");
+        }
+        assertThat(r.pool.healthyCount()).isEqualTo(2);
+
+        Routing onlyBusy = routing(ReplicaPool.Strategy.ROUND_ROBIN, busy);
+        assertThat(onlyBusy.read()).isEqualTo("rw-primary");
+        assertThat(onlyBusy.pool.healthyCount()).isEqualTo(1);
+
+        // 같은 예외라도 연결 실패가 원인이면 죽은 복제본이다
+        DataSource down = failing(new SQLTransientConnectionException("replica-0 - Connection is not available",
+                "08S01", new SQLException("Communications link failure")));
+        Routing onlyDown = routing(ReplicaPool.Strategy.ROUND_ROBIN, down);
+        assertThat(onlyDown.read()).isEqualTo("rw-primary");
+        assertThat(onlyDown.pool.healthyCount()).isZero();
+    }
+
+    @Test
+    void healthCheckKeepsSaturatedReplica() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:rw-replica;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(1);
+        config.setConnectionTimeout(250);
+        try (HikariDataSource saturated = new HikariDataSource(config)) {
+            ReplicaPool pool = new ReplicaPool(List.of(saturated), ReplicaPool.Strategy.ROUND_ROBIN);
+
+            // 하나뿐인 커넥션을 빌려 둔 채 검사하면 풀 대기 시간이 지나지만 복제본은 그대로 남는다
+            try (Connection held = pool.getConnection()) {
+                assertThat(name(held)).isEqualTo("rw-replica");
+                pool.checkHealth();
+                assertThat(pool.healthyCount()).isEqualTo(1);
+            }
+            pool.checkHealth();
+            assertThat(pool.healthyCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void leastLoadedPrefersReplicaWithFewerBorrowedConnections() throws Exception {
+        DataSource second = database("rw-replica-2");
+        ReplicaPool pool = new ReplicaPool(List.of(replica, second), ReplicaPool.Strategy.LEAST_LOADED);
+
+        try (Connection first = pool.getConnection()) {
+            String busy = name(first);
+            for (int i = 0; i < 3; i++) {
+                try (Connection next = pool.getConnection()) {
+                    assertThat(name(next)).isNotEqualTo(busy);
+                }
+            }
+        }
+    }
+
+    private Routing routing(ReplicaPool.Strategy strategy, DataSource... replicas) {
+        ReplicaPool pool = new ReplicaPool(List.of(replicas), strategy);
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, pool, new ReadYourWrites(WINDOW)));
+        return new Routing(pool, new JdbcTemplate(routing), new DataSourceTransactionManager(routing));
+    }
+
+    private static DataSource failing(SQLException error) {
+        return new DriverManagerDataSource("jdbc:compassai-unused:replica") {
+            @Override
+            public Connection getConnection() throws SQLException {
+                throw error;
+            }
+        };
+    }
+
+    private static DataSource database(String name) {
+        DataSource ds = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(ds);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(40))");
+        jdbc.execute("CREATE TABLE IF NOT EXISTS note (id INT)");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return ds;
+    }
+
+    private static String name(Connection c) throws Exception {
+        try (var rs = c.createStatement().executeQuery("SELECT name FROM node")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private record Routing(ReplicaPool pool, JdbcTemplate jdbc, DataSourceTransactionManager tx) {
+
+        String read() {
+            TransactionTemplate t = new TransactionTemplate(tx);
+            t.setReadOnly(true);
+            return t.execute(s -> jdbc.queryForObject("SELECT name FROM node", String.class));
+        }
+
+        String write() {
+            return new TransactionTemplate(tx).execute(s -> {
+                jdbc.update("INSERT INTO note (id) VALUES (1)");
+                return jdbc.queryForObject("SELECT name FROM node", String.class);
+            });
+        }
+    }
+}
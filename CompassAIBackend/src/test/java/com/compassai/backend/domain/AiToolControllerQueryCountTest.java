@@ -0,0 +1,83 @@
+package com.compassai.backend.domain;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// /api/tools DB 조회 경로에서 페이지 크기와 상관없이 SQL 실행 횟수가 일정한지 확인한다
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AiToolControllerQueryCountTest {
+
+    private static final int TOOL_COUNT = 60;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private AiToolRepository toolRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @BeforeEach
+    void seed() {
+        if (toolRepository.count() > 0) {
+            return;
+        }
+        Category writing = categoryRepository.save(Category.builder().name("글쓰기/콘텐츠").build());
+        Category design = categoryRepository.save(Category.builder().name("디자인/아트").build());
+        for (int i = 0; i < TOOL_COUNT; i++) {
+            toolRepository.save(AiTool.builder()
+                    .name("tool-" + i)
+                    .subTitle("sub " + i)
+                    .origin(i % 2 == 0 ? "국내" : "해외")
+                    .description("description " + i)
+                    .categories(Set.of(writing, design))
+                    .build());
+        }
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() throws Exception {
+        long small = countStatements("/api/tools?size=5");
+        long large = countStatements("/api/tools?size=40");
+
+        // 목록 1 + count 1 + 카테고리 일괄 조회 1
+        assertThat(small).isLessThanOrEqualTo(3);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void categoriesAreStillReturnedSorted() throws Exception {
+        mvc.perform(get("/api/tools").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].categories[0]").value("글쓰기/콘텐츠"))
+                .andExpect(jsonPath("$.content[0].categories[1]").value("디자인/아트"));
+    }
+
+    private long countStatements(String url) throws Exception {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        mvc.perform(get(url)).andExpect(status().isOk());
+        return stats.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,27 @@
+package com.compassai.backend.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// If-None-Match 목록/약한 ETag 비교를 확인한다
+class ETagsTest {
+
+    @Test
+    void matchesListsWildcardAndWeakTags() {
+        String etag = "\"abc\"";
+
+        assertThat(ETags.matches("\"abc\"", etag)).isTrue();
+        assertThat(ETags.matches("W/\"abc\"", etag)).isTrue();
+        assertThat(ETags.matches("\"x\", W/\"abc\"", etag)).isTrue();
+        assertThat(ETags.matches("\"x\",\"abc\"", etag)).isTrue();
+        assertThat(ETags.matches("*", etag)).isTrue();
+        assertThat(ETags.matches("\"abc\"", "W/\"abc\"")).isTrue();
+
+        assertThat(ETags.matches(null, etag)).isFalse();
+        assertThat(ETags.matches(" ", etag)).isFalse();
+        assertThat(ETags.matches("\"abcd\"", etag)).isFalse();
+        assertThat(ETags.matches("abc", etag)).isFalse();
+        assertThat(ETags.matches("\"x\", \"y\"", etag)).isFalse();
+    }
+}
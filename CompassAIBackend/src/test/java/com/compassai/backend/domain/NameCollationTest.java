@@ -0,0 +1,33 @@
+package com.compassai.backend.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 이름 비교가 utf8mb4_0900_ai_ci 처럼 대소문자/악센트만 무시하는지 표로 확인한다
+class NameCollationTest {
+
+    // 이름 두 개, 같은 이름으로 보는지
+    private static final Object[][] CASES = {
+            {"Café", "cafe", true},
+            {"CHATGPT", "ChatGPT", true},
+            {"Straße", "STRASSE", true},
+            {"Ｃafe", "Cafe", true},
+            // NFC 와 NFD
+            {"caf\u00e9", "cafe\u0301", true},
+            {"\ucc57", "\u110e\u1162\u11ba", true},
+            // 공백/문장부호/다른 글자는 가린다
+            {"Chat GPT", "ChatGPT", false},
+            {"a-b", "ab", false},
+            {"챗지피티", "챗지피타", false},
+            {"Cafe", "Cafe ", false},
+    };
+
+    @Test
+    void comparesLikeDbCollation() {
+        for (Object[] c : CASES) {
+            boolean same = NameCollation.ORDER.compare((String) c[0], (String) c[1]) == 0;
+            assertThat(same).as("%s = %s", c[0], c[1]).isEqualTo(c[2]);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.compassai.backend.domain.application.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 202 를 돌려준 뒤 쓰기에서 버려질 값(빈 카테고리, 너무 긴 설명, categories 누락)을 접수 전에 거절하는지 확인한다
+class ToolApplicationRequestTest {
+
+    @Test
+    void acceptsValidRequest() {
+        assertThatCode(() -> request("설명", List.of("글쓰기/콘텐츠")).validate()).doesNotThrowAnyException();
+        assertThatCode(() -> request(null, List.of()).validate()).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsMissingOrBlankCategories() {
+        assertThatThrownBy(() -> request("설명", null).validate()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> request("설명", Arrays.asList("글쓰기/콘텐츠", null)).validate())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> request("설명", List.of(" ")).validate()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void capsDescriptionAtTextColumnBytes() {
+        String ascii = "a".repeat(ToolApplicationRequest.MAX_DESCRIPTION_BYTES);
+        assertThatCode(() -> request(ascii, List.of()).validate()).doesNotThrowAnyException();
+        assertThatThrownBy(() -> request(ascii + "a", List.of()).validate())
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 한글은 UTF-8 로 3바이트라 글자 수가 3분의 1을 넘으면 들어가지 않는다
+        String hangul = "가".repeat(ToolApplicationRequest.MAX_DESCRIPTION_BYTES / 3 + 1);
+        assertThatThrownBy(() -> request(hangul, List.of()).validate()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ToolApplicationRequest request(String description, List<String> categories) {
+        return new ToolApplicationRequest("툴", null, null, null, null, description, categories);
+    }
+}
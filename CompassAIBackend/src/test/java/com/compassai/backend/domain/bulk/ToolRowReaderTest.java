@@ -0,0 +1,91 @@
+package com.compassai.backend.domain.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 손으로 짠 CSV(RFC 4180) 리더의 따옴표/줄바꿈/BOM/헤더 처리를 확인한다
+class ToolRowReaderTest {
+
+    private static final String HEADER = "name,sub_title,origin,url,logo,description,categories\n";
+
+    @Test
+    void readsPlainRowsAndSplitsCategories() throws Exception {
+        List<ToolImportRow> rows = read(HEADER
+                + "ChatGPT,대화형 AI,해외,https://chatgpt.com/,/gpt.png,설명, 글쓰기/콘텐츠 | 생산성 ||\n"
+                + "Gemini,,,,,,\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).isEqualTo(new ToolImportRow("ChatGPT", "대화형 AI", "해외", "https://chatgpt.com/",
+                "/gpt.png", "설명", List.of("글쓰기/콘텐츠", "생산성")));
+        // 빈 칸은 null, 카테고리가 없으면 빈 목록
+        assertThat(rows.get(1)).isEqualTo(new ToolImportRow("Gemini", null, null, null, null, null, List.of()));
+    }
+
+    @Test
+    void quotedFieldsKeepCommasNewlinesAndEscapedQuotes() throws Exception {
+        List<ToolImportRow> rows = read(HEADER
+                + "\"Claude, Pro\",\"대화형\n어시스턴트\",해외,,,\"He said \"\"hi\"\"\",\"a|b\"\n");
+
+        assertThat(rows).hasSize(1);
+        ToolImportRow row = rows.get(0);
+        assertThat(row.name()).isEqualTo("Claude, Pro");
+        assertThat(row.subTitle()).isEqualTo("대화형\n어시스턴트");
+        assertThat(row.description()).isEqualTo("He said \"hi\"");
+        assertThat(row.categories()).containsExactly("a", "b");
+    }
+
+    @Test
+    void handlesBomCrlfBlankLinesAndMissingTrailingNewline() throws Exception {
+        List<ToolImportRow> rows = read("\uFEFFName,Categories\r\nA,x\r\n\r\n\"B\r\nC\",y\r\nD,z");
+
+        assertThat(names(rows)).containsExactly("A", "B\r\nC", "D");
+        assertThat(rows.get(2).categories()).containsExactly("z");
+    }
+
+    @Test
+    void headerMatchesColumnsByNameInAnyOrder() throws Exception {
+        List<ToolImportRow> rows = read("categories,SubTitle,name\nx|y,부제,Sora\n");
+
+        assertThat(rows.get(0).name()).isEqualTo("Sora");
+        assertThat(rows.get(0).subTitle()).isEqualTo("부제");
+        assertThat(rows.get(0).categories()).containsExactly("x", "y");
+    }
+
+    @Test
+    void shortRecordLeavesMissingColumnsNull() throws Exception {
+        List<ToolImportRow> rows = read(HEADER + "OnlyName\n");
+
+        assertThat(rows.get(0)).isEqualTo(new ToolImportRow("OnlyName", null, null, null, null, null, List.of()));
+    }
+
+    @Test
+    void emptyInputHasNoRows() throws Exception {
+        assertThat(read("")).isEmpty();
+        assertThat(read(HEADER)).isEmpty();
+    }
+
+    @Test
+    void rejectsMissingNameColumnAndUnclosedQuote() {
+        assertThatThrownBy(() -> read("title,url\nA,B\n")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> read(HEADER + "\"unclosed,x\n")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<ToolImportRow> read(String csv) throws Exception {
+        List<ToolImportRow> rows = new ArrayList<>();
+        try (ToolRowReader reader = new ToolRowReader.Csv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    private static List<String> names(List<ToolImportRow> rows) {
+        return rows.stream().map(ToolImportRow::name).toList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.dto.AiToolResponse;
+import com.compassai.backend.domain.dto.ToolFacets;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 스냅샷 필터/패싯이 DB collation(utf8mb4_0900_ai_ci)처럼 대소문자와 악센트를 가리지 않는지 확인한다
+class CatalogFacetsTest {
+
+    private static final AiToolResponse[] TOOLS = {
+            tool(1, "OpenAI", "Chatbot", "Writing"),
+            tool(2, "openai", "chatbot"),
+            tool(3, "Google", "Image", "Écriture"),
+            tool(4, null, "Writing"),
+    };
+
+    @Test
+    void filterValuesMatchIgnoringCaseAndAccents() {
+        CatalogFacets facets = CatalogFacets.build(TOOLS);
+        Object[][] cases = {
+                // 카테고리, match, 출처, 걸리는 ordinal
+                {List.of("CHATBOT"), null, List.of(), new int[]{0, 1}},
+                {List.of("writing"), null, List.of(), new int[]{0, 3}},
+                {List.of("ecriture"), null, List.of(), new int[]{2}},
+                {List.of(), null, List.of("OPENAI"), new int[]{0, 1}},
+                {List.of("chatbot", "WRITING"), "all", List.of(), new int[]{0}},
+                {List.of("image"), null, List.of("google", "Google"), new int[]{2}},
+                {List.of("없는 카테고리"), null, List.of(), new int[]{}},
+        };
+        for (Object[] c : cases) {
+            @SuppressWarnings("unchecked")
+            ToolFilter filter = ToolFilter.of((List<String>) c[0], (String) c[1], (List<String>) c[2]);
+            ToolBitmap allowed = facets.allowed(filter);
+            int[] expected = (int[]) c[3];
+            assertThat(allowed.cardinality()).as("%s", c[0] + " " + c[2]).isEqualTo(expected.length);
+            for (int ordinal : expected) {
+                assertThat(allowed.contains(ordinal)).as("%s", c[0] + " " + c[2]).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void spellingsOfOneNameShareAFacet() {
+        ToolFacets counts = CatalogFacets.build(TOOLS).count(null, ToolFilter.NONE);
+        assertThat(counts.categories()).isEqualTo(Map.of("Chatbot", 2, "Écriture", 1, "Image", 1, "Writing", 2));
+        assertThat(counts.origins()).isEqualTo(Map.of("Google", 1, "OpenAI", 2));
+    }
+
+    @Test
+    void filterDropsValuesThatDifferOnlyInCase() {
+        ToolFilter filter = ToolFilter.of(List.of(" AI ", "ai", "Chat"), null, List.of("openai", "OpenAI"));
+        assertThat(filter.categories()).isEqualTo(List.of("AI", "Chat"));
+        assertThat(filter.origins()).isEqualTo(List.of("openai"));
+        assertThat(filter.isSimple()).isFalse();
+    }
+
+    private static AiToolResponse tool(long id, String origin, String... categories) {
+        return new AiToolResponse(id, "tool " + id, null, origin, null, null, null, List.of(categories));
+    }
+}
@@ -0,0 +1,201 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.AiTool;
+import com.compassai.backend.domain.Category;
+import com.compassai.backend.domain.NameCollation;
+import com.compassai.backend.domain.dto.AiToolResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 스냅샷 find 의 필터/페이징이 AiToolRepository.findAllFiltered 조건(collation 비교, LIKE '%q%', 최신순)을 그대로 옮긴 기준 구현과 같은지 확인한다
+class CatalogSnapshotTest {
+
+    private static final String[] WORDS = {"Chat", "Image", "영상", "편집", "Code", "Writer", "Voice", "요약", "AI", "Studio"};
+    private static final String[] CATEGORIES = {"Chatbot", "Image", "영상", "Writing", "Code"};
+    private static final String[] ORIGINS = {"OpenAI", "Google", "Naver", "Kakao"};
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final Random random = new Random(3);
+
+    @Test
+    void findMatchesTheRepositoryQuery() {
+        List<AiTool> tools = randomTools(250);
+        CatalogSnapshot snapshot = CatalogSnapshot.of(tools);
+        Object[][] cases = {
+                // 카테고리, match, 출처, 검색어
+                {List.of(), null, List.of(), null},
+                {List.of("chatbot"), null, List.of(), null},
+                {List.of("영상"), null, List.of("OPENAI"), null},
+                {List.of(), null, List.of("google", "Naver"), null},
+                {List.of("Image", "code"), "all", List.of(), null},
+                {List.of("Image", "code"), "any", List.of(), null},
+                {List.of(), null, List.of(), "chat"},
+                {List.of(), null, List.of(), "영상 편"},
+                {List.of("WRITING"), null, List.of("kakao"), "ai"},
+                {List.of(), null, List.of(), "없는 검색어"},
+                {List.of("없는 카테고리"), null, List.of(), null},
+        };
+        for (Object[] c : cases) {
+            @SuppressWarnings("unchecked")
+            ToolFilter filter = ToolFilter.of((List<String>) c[0], (String) c[1], (List<String>) c[2]);
+            String q = (String) c[3];
+            List<Long> expected = expectedIds(tools, filter, q);
+            for (int size : new int[]{1, 7, 50, 1_000}) {
+                for (int page = 0; page <= expected.size() / size + 1; page++) {
+                    Page<AiToolResponse> actual = snapshot.find(filter, q, ToolSort.RECENT, PageRequest.of(page, size));
+                    String label = filter + " q=" + q + " page " + page + "/" + size;
+                    int from = Math.min(page * size, expected.size());
+                    assertThat(ids(actual.getContent())).as(label)
+                            .isEqualTo(expected.subList(from, Math.min(from + size, expected.size())));
+                    assertThat(actual.getTotalElements()).as(label).isEqualTo((long) expected.size());
+                }
+            }
+        }
+    }
+
+    @Test
+    void upsertsGiveTheSameResultsAsAFullRebuild() {
+        List<AiTool> tools = randomTools(120);
+        CatalogSnapshot snapshot = CatalogSnapshot.of(tools);
+        List<AiTool> changed = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            AiTool t = tools.get(random.nextInt(tools.size()));
+            t.setName(randomWords(2) + " " + t.getId());
+            t.setUpdatedAt(BASE.plusMinutes(random.nextInt(60)));
+            changed.add(t);
+        }
+        for (int i = 0; i < 5; i++) {
+            AiTool t = randomTool(1_000L + i);
+            tools.add(t);
+            changed.add(t);
+        }
+        CatalogSnapshot updated = snapshot.withUpserts(changed);
+        CatalogSnapshot rebuilt = CatalogSnapshot.of(tools);
+        for (String q : new String[]{null, "chat", "영상", "studio 1"}) {
+            for (ToolSort sort : new ToolSort[]{ToolSort.RECENT, ToolSort.RELEVANCE}) {
+                PageRequest page = PageRequest.of(0, 1_000);
+                assertThat(ids(updated.find(ToolFilter.NONE, q, sort, page).getContent())).as("%s %s", q, sort)
+                        .isEqualTo(ids(rebuilt.find(ToolFilter.NONE, q, sort, page).getContent()));
+            }
+        }
+        assertThat(updated.version()).isEqualTo(rebuilt.version());
+    }
+
+    @Test
+    void relevanceRanksNameMatchesFirstAndBreaksTiesByRecency() {
+        List<AiTool> tools = List.of(
+                tool(1, "Pix", null, null, 1),
+                tool(2, "Pixel Art", null, null, 2),
+                tool(3, "Super Pix", null, null, 3),
+                tool(4, "Painter", "pix 로 그린다", null, 4),
+                tool(5, "Sketch", null, "PIX 호환", 5),
+                tool(6, "Drawer", "Pix 지원", "pix 내보내기", 6),
+                tool(7, "Other", "다른 툴", "관련 없음", 7));
+        CatalogSnapshot snapshot = CatalogSnapshot.of(tools);
+
+        // 정확히 일치(6) > 접두(5) > 부제목+설명(3, 더 최신) = 이름 포함(3) > 부제목(2) > 설명(1)
+        Page<AiToolResponse> page = snapshot.find(ToolFilter.NONE, "pix", ToolSort.RELEVANCE, PageRequest.of(0, 10));
+        assertThat(ids(page.getContent())).isEqualTo(List.of(1L, 2L, 6L, 3L, 4L, 5L));
+        assertThat(ids(snapshot.find(ToolFilter.NONE, "pix", ToolSort.RELEVANCE, PageRequest.of(1, 4)).getContent()))
+                .isEqualTo(List.of(4L, 5L));
+        // 같은 검색어라도 최신순이면 관련도와 무관하다
+        assertThat(ids(snapshot.find(ToolFilter.NONE, "pix", ToolSort.RECENT, PageRequest.of(0, 10)).getContent()))
+                .isEqualTo(List.of(6L, 5L, 4L, 3L, 2L, 1L));
+    }
+
+    // findAllFiltered 의 WHERE 절과 ORDER BY updatedAt DESC, id DESC 를 그대로 옮긴 기준 구현
+    private static List<Long> expectedIds(List<AiTool> tools, ToolFilter filter, String q) {
+        String needle = (q == null) ? null : q.toLowerCase(Locale.ROOT);
+        return tools.stream()
+                .filter(t -> matchesCategories(t, filter))
+                .filter(t -> !filter.hasOrigins() || filter.origins().stream().anyMatch(o -> sameName(o, t.getOrigin())))
+                .filter(t -> needle == null || contains(t.getName(), needle) || contains(t.getSubTitle(), needle)
+                        || contains(t.getDescription(), needle))
+                .sorted(Comparator.comparing(AiTool::getUpdatedAt).thenComparing(AiTool::getId).reversed())
+                .map(AiTool::getId)
+                .toList();
+    }
+
+    private static boolean matchesCategories(AiTool t, ToolFilter filter) {
+        if (!filter.hasCategories()) {
+            return true;
+        }
+        Predicate<String> has = name -> t.getCategories().stream().anyMatch(c -> sameName(name, c.getName()));
+        return filter.matchAll()
+                ? filter.categories().stream().allMatch(has)
+                : filter.categories().stream().anyMatch(has);
+    }
+
+    private static boolean sameName(String a, String b) {
+        return a != null && b != null && NameCollation.key(a).equals(NameCollation.key(b));
+    }
+
+    private static boolean contains(String field, String needle) {
+        return field != null && field.toLowerCase(Locale.ROOT).contains(needle);
+    }
+
+    private static List<Long> ids(List<AiToolResponse> tools) {
+        return tools.stream().map(AiToolResponse::id).toList();
+    }
+
+    private List<AiTool> randomTools(int n) {
+        List<AiTool> tools = new ArrayList<>(n);
+        for (long id = 1; id <= n; id++) {
+            tools.add(randomTool(id));
+        }
+        return tools;
+    }
+
+    private AiTool randomTool(long id) {
+        Set<Category> categories = new HashSet<>();
+        for (int i = random.nextInt(3); i > 0; i--) {
+            String name = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            categories.add(Category.builder().id((long) name.hashCode()).name(name).build());
+        }
+        return AiTool.builder()
+                .id(id)
+                .name(randomWords(2) + " " + id)
+                .subTitle(random.nextInt(4) == 0 ? null : randomWords(3))
+                .origin(random.nextInt(5) == 0 ? null : ORIGINS[random.nextInt(ORIGINS.length)])
+                .description(randomWords(6))
+                // 같은 시각이 자주 나오도록 범위를 좁게 잡는다 (그때는 id 역순)
+                .updatedAt(BASE.plusMinutes(random.nextInt(60)))
+                .categories(categories)
+                .build();
+    }
+
+    private String randomWords(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static AiTool tool(long id, String name, String subTitle, String description, int minute) {
+        return AiTool.builder()
+                .id(id)
+                .name(name)
+                .subTitle(subTitle)
+                .description(description)
+                .updatedAt(BASE.plusMinutes(minute))
+                .categories(new HashSet<>())
+                .build();
+    }
+}
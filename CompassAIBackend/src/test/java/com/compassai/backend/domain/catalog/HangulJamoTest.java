@@ -0,0 +1,68 @@
+package com.compassai.backend.domain.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 자동완성 키를 만드는 자모/초성 분해 규칙을 표로 확인한다
+class HangulJamoTest {
+
+    // 입력, jamo(), chosung()
+    private static final String[][] CASES = {
+            // 완성 글자
+            {"챗지피티", "ㅊㅐㅅㅈㅣㅍㅣㅌㅣ", "ㅊㅈㅍㅌ"},
+            {"구글 제미나이", "ㄱㅜㄱㅡㄹㅈㅔㅁㅣㄴㅏㅇㅣ", "ㄱㄱㅈㅁㄴㅇ"},
+            // 입력 중인 글자와 초성만 입력
+            {"챗ㅈ", "ㅊㅐㅅㅈ", "ㅊㅈ"},
+            {"채", "ㅊㅐ", "ㅊ"},
+            {"ㅊㅈㅍㅌ", "ㅊㅈㅍㅌ", "ㅊㅈㅍㅌ"},
+            // 겹모음/겹받침은 입력 순서대로 둘로 나눈다
+            {"과", "ㄱㅗㅏ", "ㄱ"},
+            {"닭", "ㄷㅏㄹㄱ", "ㄷ"},
+            {"값", "ㄱㅏㅂㅅ", "ㄱ"},
+            {"앉", "ㅇㅏㄴㅈ", "ㅇ"},
+            {"ㄺ", "ㄹㄱ", "ㄺ"},
+            {"ㅄ", "ㅂㅅ", "ㅄ"},
+            {"ㅘ", "ㅗㅏ", "ㅘ"},
+            // 조합형 자모 (NFD 로 풀린 "챗", "닭", "달" 뒤 조합형 받침, 초성 하나)
+            {"\u110E\u1162\u11BA", "ㅊㅐㅅ", "ㅊ"},
+            {"\u1103\u1161\u11B0", "ㄷㅏㄹㄱ", "ㄷ"},
+            {"달\u11A8", "ㄷㅏㄹㄱ", "ㄷ"},
+            {"\u110E", "ㅊ", "ㅊ"},
+            // 한글이 아닌 글자는 소문자로, 공백은 뺀다
+            {"Chat GPT", "chatgpt", "chatgpt"},
+            {"GPT-4o", "gpt-4o", "gpt-4o"},
+            {"AI 비서", "aiㅂㅣㅅㅓ", "aiㅂㅅ"},
+            {"", "", ""},
+            {" \t ", "", ""},
+    };
+
+    @Test
+    void decomposesTable() {
+        for (String[] c : CASES) {
+            assertThat(HangulJamo.jamo(c[0])).as("jamo(%s)", c[0]).isEqualTo(c[1]);
+            assertThat(HangulJamo.chosung(c[0])).as("chosung(%s)", c[0]).isEqualTo(c[2]);
+        }
+    }
+
+    @Test
+    void conjoiningAndCompatibilityFormsGiveSameKeys() {
+        for (String name : new String[]{"챗지피티", "구글 제미나이", "닭갈비 앉아서 값 과자", "뤼튼 wrtn"}) {
+            String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+            assertThat(decomposed).isNotEqualTo(name);
+            assertThat(HangulJamo.jamo(decomposed)).as(name).isEqualTo(HangulJamo.jamo(name));
+            assertThat(HangulJamo.chosung(decomposed)).as(name).isEqualTo(HangulJamo.chosung(name));
+            assertThat(HangulJamo.containsSyllable(decomposed)).isTrue();
+        }
+    }
+
+    @Test
+    void containsSyllableOnlyForHangulSyllables() {
+        assertThat(HangulJamo.containsSyllable("ChatGPT")).isFalse();
+        assertThat(HangulJamo.containsSyllable("ㅊㅈㅍㅌ")).isFalse();
+        assertThat(HangulJamo.containsSyllable("")).isFalse();
+        assertThat(HangulJamo.containsSyllable("Notion 노션")).isTrue();
+    }
+}
@@ -0,0 +1,113 @@
+package com.compassai.backend.domain.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// n-gram 후보가 부분 문자열을 포함하는 문서를 빠뜨리지 않는지, 부분 갱신이 새로 만든 색인과 같은지 무식한 contains 와 비교한다
+class NgramIndexTest {
+
+    // 글자 종류를 적게 잡아 gram 충돌과 긴 포스팅이 자주 생기게 한다
+    private static final String ALPHABET = "abc가나다 ";
+
+    private final Random random = new Random(11);
+
+    @Test
+    void candidatesCoverEveryDocumentThatContainsTheNeedle() {
+        String[] texts = randomTexts(400);
+        texts[7] = null;
+        texts[8] = "";
+        NgramIndex index = NgramIndex.build(texts);
+        for (int i = 0; i < 500; i++) {
+            String needle = randomText(1 + random.nextInt(6));
+            int[] candidates = index.candidates(needle);
+            int[] expected = containing(texts, needle);
+            assertThat(isAscending(candidates)).as(needle).isTrue();
+            // 3글자 이하는 gram 하나가 검색어 전체라 후보가 곧 정답이다
+            if (needle.length() <= NgramIndex.MAX_GRAM) {
+                assertThat(candidates).as(needle).isEqualTo(expected);
+            } else {
+                assertThat(NgramIndex.intersect(candidates, expected)).as(needle).isEqualTo(expected);
+            }
+        }
+        assertThat(index.candidates("")).isEmpty();
+        assertThat(index.candidates("xyz")).isEmpty();
+    }
+
+    @Test
+    void updateMatchesAFreshBuild() {
+        String[] texts = randomTexts(300);
+        NgramIndex index = NgramIndex.build(texts);
+        for (int round = 0; round < 20; round++) {
+            int[] docs = random.ints(0, texts.length).distinct().limit(1 + random.nextInt(8)).sorted().toArray();
+            String[] before = new String[docs.length];
+            String[] after = new String[docs.length];
+            for (int i = 0; i < docs.length; i++) {
+                before[i] = texts[docs[i]];
+                after[i] = random.nextInt(10) == 0 ? null : randomText(random.nextInt(20));
+                texts[docs[i]] = after[i];
+            }
+            index = index.update(docs, before, after);
+            NgramIndex fresh = NgramIndex.build(texts);
+            assertThat(index.gramCount()).as("round %d", round).isEqualTo(fresh.gramCount());
+            for (int i = 0; i < 50; i++) {
+                String needle = randomText(1 + random.nextInt(4));
+                assertThat(index.candidates(needle)).as("round %d, %s", round, needle).isEqualTo(fresh.candidates(needle));
+            }
+        }
+    }
+
+    @Test
+    void intersectAndUnionKeepSortedDistinctValues() {
+        int[][][] cases = {
+                // a, b, 교집합, 합집합
+                {{}, {}, {}, {}},
+                {{1, 3, 5}, {}, {}, {1, 3, 5}},
+                {{1, 3, 5}, {2, 3, 4, 5, 9}, {3, 5}, {1, 2, 3, 4, 5, 9}},
+                {{0, 1, 2}, {0, 1, 2}, {0, 1, 2}, {0, 1, 2}},
+                {{10}, {1, 2, 3}, {}, {1, 2, 3, 10}},
+        };
+        for (int[][] c : cases) {
+            assertThat(NgramIndex.intersect(c[0], c[1])).as(Arrays.toString(c[0]) + Arrays.toString(c[1])).isEqualTo(c[2]);
+            assertThat(NgramIndex.union(c[0], c[1])).as(Arrays.toString(c[0]) + Arrays.toString(c[1])).isEqualTo(c[3]);
+        }
+    }
+
+    private static int[] containing(String[] texts, String needle) {
+        NgramIndex.IntList out = new NgramIndex.IntList();
+        for (int doc = 0; doc < texts.length; doc++) {
+            if (texts[doc] != null && texts[doc].contains(needle)) {
+                out.add(doc);
+            }
+        }
+        return out.toArray();
+    }
+
+    private static boolean isAscending(int[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i - 1] >= values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String[] randomTexts(int n) {
+        String[] texts = new String[n];
+        for (int i = 0; i < n; i++) {
+            texts[i] = randomText(random.nextInt(30));
+        }
+        return texts;
+    }
+
+    private String randomText(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+}
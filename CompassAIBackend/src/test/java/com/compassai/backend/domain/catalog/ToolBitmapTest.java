@@ -0,0 +1,76 @@
+package com.compassai.backend.domain.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 배열/비트셋 두 표현의 모든 조합에서 and/or/andCardinality 가 BitSet 과 같은 결과를 내는지 확인한다
+class ToolBitmapTest {
+
+    // 64의 배수와 아닌 크기를 섞는다
+    private static final int[] UNIVERSES = {1, 63, 64, 65, 130, 1_000, 4_096};
+
+    // 원소 비율. 1/32 보다 작으면 배열, 크면 비트셋 표현이 된다
+    private static final double[] DENSITIES = {0, 0.005, 0.02, 0.04, 0.3, 1};
+
+    private final Random random = new Random(5);
+
+    @Test
+    void setOperationsMatchBitSetAcrossRepresentations() {
+        for (int universe : UNIVERSES) {
+            for (double da : DENSITIES) {
+                for (double db : DENSITIES) {
+                    BitSet a = randomSet(universe, da);
+                    BitSet b = randomSet(universe, db);
+                    ToolBitmap x = ToolBitmap.ofSorted(a.stream().toArray(), universe);
+                    ToolBitmap y = ToolBitmap.ofSorted(b.stream().toArray(), universe);
+                    String label = universe + " " + da + " " + db;
+
+                    BitSet and = (BitSet) a.clone();
+                    and.and(b);
+                    BitSet or = (BitSet) a.clone();
+                    or.or(b);
+                    assertSame(x.and(y), and, universe, label + " and");
+                    assertSame(y.and(x), and, universe, label + " and (swapped)");
+                    assertSame(x.or(y), or, universe, label + " or");
+                    assertSame(y.or(x), or, universe, label + " or (swapped)");
+                    assertThat(x.andCardinality(y)).as(label).isEqualTo(and.cardinality());
+                    assertThat(y.andCardinality(x)).as(label).isEqualTo(and.cardinality());
+                }
+            }
+        }
+    }
+
+    @Test
+    void allAndEmptyCoverTheUniverseExactly() {
+        for (int universe : UNIVERSES) {
+            BitSet full = new BitSet();
+            full.set(0, universe);
+            assertSame(ToolBitmap.all(universe), full, universe, "all " + universe);
+            assertSame(ToolBitmap.empty(universe), new BitSet(), universe, "empty " + universe);
+            assertThat(ToolBitmap.all(universe).contains(universe)).as("all %d", universe).isFalse();
+            assertThat(ToolBitmap.all(universe).contains(-1)).as("all %d", universe).isFalse();
+            assertThat(ToolBitmap.empty(universe).isEmpty()).isTrue();
+        }
+    }
+
+    private static void assertSame(ToolBitmap actual, BitSet expected, int universe, String label) {
+        assertThat(actual.cardinality()).as(label).isEqualTo(expected.cardinality());
+        for (int v = 0; v < universe; v++) {
+            assertThat(actual.contains(v)).as("%s, %d", label, v).isEqualTo(expected.get(v));
+        }
+    }
+
+    private BitSet randomSet(int universe, double density) {
+        BitSet set = new BitSet(universe);
+        for (int v = 0; v < universe; v++) {
+            if (random.nextDouble() < density) {
+                set.set(v);
+            }
+        }
+        return set;
+    }
+}
@@ -0,0 +1,70 @@
+package com.compassai.backend.domain.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 응답 캐시가 gzip 본문을 gzip 을 받는 요청이 왔을 때만 만들고, 원본은 한 번만 직렬화하는지 확인한다
+class ToolResponseCacheTest {
+
+    private static final ToolListKey KEY = new ToolListKey(ToolFilter.NONE, null, ToolSort.RECENT,
+            ToolSearchMode.KEYWORD, 0, 20, false, "\"v1\"");
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void compressesOnlyWhenGzipIsRequested() throws Exception {
+        ToolResponseCache cache = new ToolResponseCache(new ObjectMapper(), true, 1 << 20);
+
+        byte[] plain = cache.get(KEY, ToolResponseFormat.JSON, false, this::load);
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+        assertThat(cache.get(KEY, ToolResponseFormat.JSON, false, this::load)).isSameAs(plain);
+
+        byte[] gzip = cache.get(KEY, ToolResponseFormat.JSON, true, this::load);
+        assertThat(cache.estimatedSize()).isEqualTo(2);
+        assertThat(gunzip(gzip)).isEqualTo(plain);
+        assertThat(cache.get(KEY, ToolResponseFormat.JSON, true, this::load)).isSameAs(gzip);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void gzipFirstStillSerializesOnce() throws Exception {
+        ToolResponseCache cache = new ToolResponseCache(new ObjectMapper(), true, 1 << 20);
+
+        byte[] gzip = cache.get(KEY, ToolResponseFormat.JSON, true, this::load);
+        byte[] plain = cache.get(KEY, ToolResponseFormat.JSON, false, this::load);
+
+        assertThat(gunzip(gzip)).isEqualTo(plain);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void disabledCacheLoadsEveryTime() throws Exception {
+        ToolResponseCache cache = new ToolResponseCache(new ObjectMapper(), false, 1 << 20);
+
+        byte[] plain = cache.get(KEY, ToolResponseFormat.JSON, false, this::load);
+        byte[] gzip = cache.get(KEY, ToolResponseFormat.JSON, true, this::load);
+
+        assertThat(gunzip(gzip)).isEqualTo(plain);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private Object load() {
+        loads.incrementAndGet();
+        return Map.of("content", List.of("ChatGPT", "Gemini"));
+    }
+
+    private static byte[] gunzip(byte[] body) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
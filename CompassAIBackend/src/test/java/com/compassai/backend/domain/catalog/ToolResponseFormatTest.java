@@ -0,0 +1,41 @@
+package com.compassai.backend.domain.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Accept-Encoding 의 q 값까지 보고 gzip 을 보낼지 정하는지 표로 확인한다
+class ToolResponseFormatTest {
+
+    // Accept-Encoding, gzip 으로 보내도 되는지
+    private static final Object[][] CASES = {
+            {"gzip", true},
+            {"gzip, deflate, br", true},
+            {"GZIP;Q=0.5", true},
+            {"br, gzip;q=1.0", true},
+            {"x-gzip", true},
+            // q=0 은 "받지 않음"
+            {"gzip;q=0", false},
+            {"gzip; q=0.0", false},
+            {"deflate, gzip;q=0", false},
+            // 값이 이상하면 0 으로 본다
+            {"gzip;q=abc", false},
+            {"gzip;q=2", false},
+            // gzip 이 없으면 * 를 따르고, gzip 이 있으면 * 보다 gzip 항목이 우선이다
+            {"*", true},
+            {"*;q=0", false},
+            {"*, gzip;q=0", false},
+            {"gzip, *;q=0", true},
+            {"deflate", false},
+            {"identity", false},
+            {"", false},
+            {null, false},
+    };
+
+    @Test
+    void acceptsGzipTable() {
+        for (Object[] c : CASES) {
+            assertThat(ToolResponseFormat.acceptsGzip((String) c[0])).as("acceptsGzip(%s)", c[0]).isEqualTo(c[1]);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.dto.AiToolResponse;
+import com.compassai.backend.domain.dto.ToolSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 자동완성 색인의 접두사 매칭과 순위(이름 > 초성 > 중간 단어, 같으면 최신순)를 표로 확인한다
+class ToolSuggestIndexTest {
+
+    // ordinal 순서. rank 는 최신순 위치(0 이 가장 최신)
+    private static final String[] NAMES = {
+            "ChatGPT", "챗지피티 도우미", "Google Gemini", "Gemma", "채널톡", "제미나이 헬퍼", "구글 제미나이", "Chat Chat", " "
+    };
+    private static final int[] RANK = {3, 1, 0, 5, 2, 6, 4, 7, 8};
+
+    private final ToolSuggestIndex index = ToolSuggestIndex.build(tools(), RANK);
+
+    // 검색어, limit, 기대하는 id 순서 (id = ordinal + 1)
+    private static final Object[][] CASES = {
+            // 이름 처음부터 맞은 Gemma 가 더 최신인 중간 단어 매칭(Google Gemini)보다 앞선다
+            {"gem", 10, List.of(4L, 3L)},
+            {"GEM", 10, List.of(4L, 3L)},
+            // 초성 / 입력 중인 글자
+            {"ㅊㅈㅍㅌ", 10, List.of(2L)},
+            {"챗ㅈ", 10, List.of(2L)},
+            // 둘 다 이름 처음부터 맞으면 최신순
+            {"채", 10, List.of(2L, 5L)},
+            {"채", 10, List.of(2L, 5L)},
+            // 상위 limit 개만
+            {"채", 1, List.of(2L)},
+            {"gem", 1, List.of(4L)},
+            // 이름 초성 > 중간 단어 초성 (구글 제미나이가 더 최신이어도)
+            {"ㅈㅁ", 10, List.of(6L, 7L)},
+            {"제미", 10, List.of(6L, 7L)},
+            {"ㄱ", 10, List.of(7L)},
+            // 한 툴이 여러 키로 맞아도 한 번만 나온다
+            {"chat", 10, List.of(1L, 8L)},
+            {"chat gpt", 10, List.of(1L)},
+            {"ㅎ", 10, List.of(6L)},
+            // 맞는 게 없거나 빈 검색어, limit 0
+            {"zzz", 10, List.of()},
+            {"", 10, List.of()},
+            {"  ", 10, List.of()},
+            {null, 10, List.of()},
+            {"채", 0, List.of()},
+    };
+
+    @Test
+    void suggestsTable() {
+        for (Object[] c : CASES) {
+            String q = (String) c[0];
+            List<Long> ids = index.suggest(q, (Integer) c[1]).stream().map(ToolSuggestion::id).toList();
+            assertThat(ids).as("suggest(%s, %s)", q, c[1]).isEqualTo(c[2]);
+        }
+    }
+
+    @Test
+    void skipsBlankNamesAndIndexesEveryWord() {
+        // 이름 키 + 한글이면 초성 키, 두 번째 단어부터는 단어 키를 더 넣는다
+        int expected = 0;
+        for (String name : NAMES) {
+            if (name.isBlank()) {
+                continue;
+            }
+            int terms = name.split(" ").length;
+            expected += terms * (HangulJamo.containsSyllable(name) ? 2 : 1);
+        }
+        assertThat(index.size()).isEqualTo(expected);
+    }
+
+    private static AiToolResponse[] tools() {
+        AiToolResponse[] tools = new AiToolResponse[NAMES.length];
+        for (int i = 0; i < NAMES.length; i++) {
+            tools[i] = new AiToolResponse((long) i + 1, NAMES[i], null, null, null, null, null, List.of());
+        }
+        return tools;
+    }
+}
@@ -0,0 +1,51 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.dto.AiToolResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 영어 검색어가 별칭 사전을 거쳐 한국어로만 적힌 툴을 (반대 방향도) 찾는지 확인한다
+class ToolVectorIndexTest {
+
+    private static final AiToolResponse[] TOOLS = {
+            tool(1, "영상 편집 스튜디오", "영상을 자르고 자막을 넣어 편집하는 도구"),
+            tool(2, "이미지 생성기", "문장으로 그림을 만들어 주는 이미지 생성 서비스"),
+            tool(3, "음성 합성", "글을 자연스러운 목소리로 읽어 준다"),
+            tool(4, "코드 리뷰 봇", "풀 리퀘스트에 리뷰를 남긴다"),
+            tool(5, "Meeting Notes", "Records a meeting and writes a summary"),
+    };
+
+    @Test
+    void englishQueryFindsKoreanTool() {
+        ToolVectorIndex index = ToolVectorIndex.build(TOOLS);
+        String[][] cases = {
+                // 검색어, 맨 위에 와야 할 툴 이름
+                {"video editing", "영상 편집 스튜디오"},
+                {"Video Editor", "영상 편집 스튜디오"},
+                {"image generation", "이미지 생성기"},
+                {"code review", "코드 리뷰 봇"},
+                {"회의 요약", "Meeting Notes"},
+        };
+        for (String[] c : cases) {
+            float[] query = index.embed(c[0]);
+            assertThat(query).as(c[0]).isNotNull();
+            ToolVectorIndex.Hits hits = index.top(query, null, 1);
+            assertThat(hits.docs().length).as(c[0]).isEqualTo(1);
+            assertThat(TOOLS[hits.docs()[0]].name()).as(c[0]).isEqualTo(c[1]);
+        }
+    }
+
+    @Test
+    void wordOutsideAliasesDoesNotCrossLanguages() {
+        ToolVectorIndex index = ToolVectorIndex.build(TOOLS);
+        float[] query = index.embed("subtitles");
+        assertThat(index.top(query, null, 10).total()).isEqualTo(0);
+    }
+
+    private static AiToolResponse tool(long id, String name, String description) {
+        return new AiToolResponse(id, name, null, null, null, null, description, List.of());
+    }
+}
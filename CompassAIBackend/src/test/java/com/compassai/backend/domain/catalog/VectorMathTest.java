@@ -0,0 +1,138 @@
+package com.compassai.backend.domain.catalog;
+
+import com.compassai.backend.domain.dto.AiToolResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// SIMD 내적과 스칼라 내적이 (벡터 폭의 배수가 아닌 길이와 오프셋까지) 같은 값을 내고, 유사도 상위 결과가 맞는지 확인한다
+class VectorMathTest {
+
+    private final Random random = new Random(7);
+
+    @Test
+    void simdAndScalarAgreeForEveryTailLength() {
+        assumeTrue(VectorMath.SIMD_ENABLED, "--add-modules jdk.incubator.vector 없이 실행됨");
+        float[] a = randomVector(1_100);
+        float[] b = randomVector(1_100);
+        // 0~67 은 AVX-512(16칸)까지 모든 나머지 길이를 지난다. 255/256/257 은 실제 차원 주변
+        List<Integer> lengths = new ArrayList<>();
+        for (int n = 0; n <= 67; n++) {
+            lengths.add(n);
+        }
+        lengths.addAll(List.of(255, 256, 257, 1_000));
+        for (int length : lengths) {
+            for (int[] offsets : new int[][]{{0, 0}, {1, 3}, {7, 0}, {13, 29}, {100 - length % 7, 77}}) {
+                float simd = SimdVectorMath.dot(a, offsets[0], b, offsets[1], length);
+                float scalar = VectorMath.dotScalar(a, offsets[0], b, offsets[1], length);
+                // 더하는 순서가 달라 마지막 몇 비트는 다를 수 있다
+                assertThat(simd).as("length %d, offsets %s", length, Arrays.toString(offsets))
+                        .isCloseTo(scalar, within(1e-4f * (1 + absDot(a, offsets[0], b, offsets[1], length))));
+            }
+        }
+    }
+
+    @Test
+    void dotOnSmallIntegersIsExact() {
+        float[] a = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        float[] b = {9, 8, 7, 6, 5, 4, 3, 2, 1};
+        assertThat(VectorMath.dotScalar(a, 0, b, 0, 9)).isEqualTo(165f);
+        assertThat(VectorMath.dot(a, 0, b, 0, 9)).isEqualTo(165f);
+        assertThat(VectorMath.dot(a, 2, b, 5, 4)).isEqualTo(3 * 4 + 4 * 3 + 5 * 2 + 6 * 1f);
+        assertThat(VectorMath.dot(a, 0, b, 0, 0)).isEqualTo(0f);
+    }
+
+    @Test
+    void topMatchesScalarBruteForce() {
+        AiToolResponse[] tools = tools(600);
+        ToolVectorIndex index = ToolVectorIndex.build(tools);
+        ToolBitmap evens = ToolBitmap.ofSorted(evens(tools.length), tools.length);
+
+        for (String q : new String[]{"영상 편집", "이미지 생성", "chat assistant", "코드 리뷰 도우미", "음성"}) {
+            float[] query = index.embed(q);
+            assertThat(query).as(q).isNotNull();
+            assertThat(index.top(query, null, 0).total()).as(q).isGreaterThan(5);
+            for (ToolBitmap allowed : new ToolBitmap[]{null, evens}) {
+                for (int limit : new int[]{0, 1, 5, 37, 1_000}) {
+                    assertTop(index, query, allowed, limit, tools.length, q);
+                }
+            }
+        }
+    }
+
+    private static void assertTop(ToolVectorIndex index, float[] query, ToolBitmap allowed, int limit, int size, String q) {
+        // 스칼라 내적으로 구한 기준 점수 (내림차순)
+        List<Float> expected = new ArrayList<>();
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (allowed != null && !allowed.contains(ordinal)) {
+                continue;
+            }
+            float score = VectorMath.dotScalar(query, 0, index.row(ordinal), 0, ToolVectorIndex.DIMENSIONS);
+            if (score >= ToolVectorIndex.MIN_SIMILARITY) {
+                expected.add(score);
+            }
+        }
+        expected.sort((x, y) -> Float.compare(y, x));
+
+        ToolVectorIndex.Hits hits = index.top(query, allowed, limit);
+        String label = q + ", limit " + limit + (allowed == null ? "" : ", evens");
+        assertThat(hits.total()).as(label).isEqualTo(expected.size());
+        assertThat(hits.docs().length).as(label).isEqualTo(Math.min(limit, expected.size()));
+        for (int i = 0; i < hits.docs().length; i++) {
+            int doc = hits.docs()[i];
+            float scalar = VectorMath.dotScalar(query, 0, index.row(doc), 0, ToolVectorIndex.DIMENSIONS);
+            assertThat(allowed == null || allowed.contains(doc)).as(label).isTrue();
+            assertThat(hits.scores()[i]).as(label).isCloseTo(scalar, within(1e-5f));
+            assertThat(hits.scores()[i]).as(label).isCloseTo(expected.get(i), within(1e-5f));
+            if (i > 0) {
+                assertThat(hits.scores()[i]).as(label).isLessThanOrEqualTo(hits.scores()[i - 1]);
+            }
+        }
+    }
+
+    private float[] randomVector(int n) {
+        float[] v = new float[n];
+        for (int i = 0; i < n; i++) {
+            v[i] = random.nextFloat() * 2 - 1;
+        }
+        return v;
+    }
+
+    private static float absDot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float sum = 0f;
+        for (int i = 0; i < length; i++) {
+            sum += Math.abs(a[aOffset + i] * b[bOffset + i]);
+        }
+        return sum;
+    }
+
+    private static int[] evens(int n) {
+        int[] out = new int[(n + 1) / 2];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = i * 2;
+        }
+        return out;
+    }
+
+    private AiToolResponse[] tools(int n) {
+        String[] words = {"영상", "편집", "이미지", "생성", "음성", "합성", "코드", "리뷰", "번역", "요약", "chat", "assistant",
+                "writer", "video", "도우미", "자동", "마케팅", "문서", "검색", "회의록"};
+        AiToolResponse[] tools = new AiToolResponse[n];
+        for (int i = 0; i < n; i++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + i;
+            StringBuilder description = new StringBuilder();
+            for (int w = 0; w < 12; w++) {
+                description.append(words[random.nextInt(words.length)]).append(random.nextBoolean() ? "을 " : " ");
+            }
+            tools[i] = new AiToolResponse((long) i + 1, name, null, null, null, null, description.toString(), List.of());
+        }
+        return tools;
+    }
+}
@@ -0,0 +1,109 @@
+package com.compassai.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기준 리포트와 비교하는 릴리스 게이트의 판정 규칙(표본/잡음 제외, 설정 불일치, 처리량, 오류율)을 확인한다
+class LoadReportTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final double MAX_REGRESSION = 0.10;
+
+    @Test
+    void sameNumbersPass() {
+        assertThat(regressions(endpoint(1000, 0, 100, 10, 20), endpoint(1000, 0, 100, 10, 20))).isEmpty();
+    }
+
+    @Test
+    void latencyOverRatioAndDeltaIsRegression() {
+        List<String> out = regressions(endpoint(1000, 0, 100, 12, 20), endpoint(1000, 0, 100, 10, 20));
+
+        assertThat(out).hasSize(1);
+        assertThat(out.get(0)).startsWith("list p50Ms");
+        // 비율 경계: 정확히 10% 는 통과
+        assertThat(regressions(endpoint(1000, 0, 100, 10, 22), endpoint(1000, 0, 100, 10, 20))).isEmpty();
+    }
+
+    @Test
+    void smallAbsoluteDeltaIsNoise() {
+        // 40% 느려졌지만 0.4ms 차이는 MIN_DELTA_MS 보다 작다
+        assertThat(regressions(endpoint(1000, 0, 100, 1.4, 2.0), endpoint(1000, 0, 100, 1.0, 2.0))).isEmpty();
+        assertThat(regressions(endpoint(1000, 0, 100, 1.6, 2.0), endpoint(1000, 0, 100, 1.0, 2.0))).hasSize(1);
+    }
+
+    @Test
+    void endpointsWithFewSamplesAreSkipped() {
+        long few = LoadReport.MIN_SAMPLES - 1;
+
+        assertThat(regressions(endpoint(few, 0, 10, 50, 90), endpoint(1000, 0, 100, 10, 20))).isEmpty();
+        assertThat(regressions(endpoint(1000, 0, 10, 50, 90), endpoint(few, 0, 100, 10, 20))).isEmpty();
+        assertThat(regressions(endpoint(LoadReport.MIN_SAMPLES, 0, 100, 50, 20), endpoint(1000, 0, 100, 10, 20)))
+                .hasSize(1);
+    }
+
+    @Test
+    void endpointMissingFromCurrentRunIsSkipped() {
+        ObjectNode current = report(64);
+        assertThat(LoadReport.regressions(current, report(64, endpoint(1000, 0, 100, 10, 20)), MAX_REGRESSION))
+                .isEmpty();
+    }
+
+    @Test
+    void throughputDropIsRegression() {
+        assertThat(regressions(endpoint(1000, 0, 91, 10, 20), endpoint(1000, 0, 100, 10, 20))).isEmpty();
+
+        List<String> out = regressions(endpoint(1000, 0, 89, 10, 20), endpoint(1000, 0, 100, 10, 20));
+        assertThat(out).hasSize(1);
+        assertThat(out.get(0)).startsWith("list throughput");
+    }
+
+    @Test
+    void errorRateMayRiseByAtMostOnePercentPoint() {
+        // 10 / 1010 = 0.99%, 11 / 1011 = 1.09%
+        assertThat(regressions(endpoint(1000, 10, 100, 10, 20), endpoint(1000, 0, 100, 10, 20))).isEmpty();
+
+        List<String> out = regressions(endpoint(1000, 11, 100, 10, 20), endpoint(1000, 0, 100, 10, 20));
+        assertThat(out).hasSize(1);
+        assertThat(out.get(0)).startsWith("list error rate");
+    }
+
+    @Test
+    void differentConfigIsNotCompared() {
+        ObjectNode current = report(128, endpoint(1000, 500, 10, 50, 90));
+        ObjectNode baseline = report(64, endpoint(1000, 0, 100, 10, 20));
+
+        List<String> out = LoadReport.regressions(current, baseline, MAX_REGRESSION);
+
+        // 지표가 모두 나빠졌어도 설정이 다르다는 한 줄만 돌려준다
+        assertThat(out).hasSize(1);
+        assertThat(out.get(0)).startsWith("부하 설정이 기준 리포트와 달라");
+    }
+
+    private static List<String> regressions(ObjectNode current, ObjectNode baseline) {
+        return LoadReport.regressions(report(64, current), report(64, baseline), MAX_REGRESSION);
+    }
+
+    private static ObjectNode report(int clients, ObjectNode... list) {
+        ObjectNode report = MAPPER.createObjectNode();
+        report.putObject("config").put("clients", clients).put("mix", "list=100");
+        ObjectNode endpoints = report.putObject("endpoints");
+        for (ObjectNode e : list) {
+            endpoints.set("list", e);
+        }
+        return report;
+    }
+
+    private static ObjectNode endpoint(long count, long errors, double throughput, double p50Ms, double p99Ms) {
+        return MAPPER.createObjectNode()
+                .put("count", count)
+                .put("errors", errors)
+                .put("throughput", throughput)
+                .put("p50Ms", p50Ms)
+                .put("p99Ms", p99Ms);
+    }
+}
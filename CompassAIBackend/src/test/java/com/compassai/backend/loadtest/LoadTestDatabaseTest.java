@@ -0,0 +1,54 @@
+package com.compassai.backend.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MySQL 스크립트를 H2 MySQL 모드용으로 바꾸는 규칙을 표와 실제 schema.sql/data.sql 로 확인한다
+class LoadTestDatabaseTest {
+
+    // MySQL 구문, 바뀐 구문
+    private static final String[][] CASES = {
+            {"CREATE DATABASE IF NOT EXISTS compassai\n    DEFAULT CHARACTER SET utf8mb4;\nSELECT 1;", "\nSELECT 1;"},
+            {"USE compassai;\nSELECT 1;", "\nSELECT 1;"},
+            {"CREATE TABLE t (id BIGINT) ENGINE=InnoDB;", "CREATE TABLE t (id BIGINT);"},
+            {"create table t (id bigint) engine = InnoDB;", "create table t (id bigint);"},
+            // 행 별칭 upsert -> VALUES()
+            {"INSERT INTO t (a, b) VALUES (1, 2)\n    AS new\nON DUPLICATE KEY UPDATE a = new.a, b = new.b;",
+                    "INSERT INTO t (a, b) VALUES (1, 2)\n    ON DUPLICATE KEY UPDATE a = VALUES(a), b = VALUES(b);"},
+            // 별칭처럼 보이지만 아닌 것은 그대로 둔다
+            {"UPDATE t SET a = renew.a;", "UPDATE t SET a = renew.a;"},
+            {"SELECT news FROM t AS news ON t.id = news.id;", "SELECT news FROM t AS news ON t.id = news.id;"},
+            {"INSERT IGNORE INTO t (a) VALUES (1);", "INSERT IGNORE INTO t (a) VALUES (1);"},
+    };
+
+    @Test
+    void rewritesTable() {
+        for (String[] c : CASES) {
+            assertThat(LoadTestDatabase.toH2(c[0])).as("toH2(%s)", c[0]).isEqualTo(c[1]);
+        }
+    }
+
+    @Test
+    void rewritesShippedSchemaAndSeedScripts() throws Exception {
+        String schema = LoadTestDatabase.toH2(script("sql/schema.sql"));
+        assertThat(schema).doesNotContainIgnoringCase("CREATE DATABASE");
+        assertThat(schema).doesNotContainIgnoringCase("ENGINE");
+        assertThat(schema).doesNotContain("USE compassai");
+        assertThat(schema).contains("CREATE TABLE IF NOT EXISTS ai_tool (");
+
+        String data = LoadTestDatabase.toH2(script("sql/data.sql"));
+        assertThat(data).doesNotContain("USE compassai");
+        assertThat(data).doesNotContainPattern("(?i)\\bAS\\s+new\\b");
+        assertThat(data).doesNotContain("new.");
+        assertThat(data).contains("description = VALUES(description)");
+        assertThat(data).contains("ON DUPLICATE KEY UPDATE");
+    }
+
+    private static String script(String path) throws Exception {
+        return new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+    }
+}
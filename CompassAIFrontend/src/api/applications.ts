@@ -0,0 +1,16 @@
+import { postJSON } from "./apiUtils";
+
+export type ToolApplicationPayload = {
+    name: string;
+    subTitle: string;
+    origin: string;
+    url: string;
+    logo: string;
+    description: string;
+    categories: string[];
+};
+
+// 등록 신청 (로그인 필요). 접수되면 202와 빈 본문이 온다
+export function submitApplication(payload: ToolApplicationPayload) {
+    return postJSON<null>("/applications", payload);
+}
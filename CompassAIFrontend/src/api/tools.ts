@@ -1,5 +1,5 @@
 import { getJSON } from "./apiUtils";
-import type { Page } from "../types/page";
+import type { CursorPage, Page } from "../types/page";
 import type { Tool } from "../types/tool";
 
 type AiToolResponse = {
@@ -47,7 +47,49 @@ export async function getTools(params?: {
     };
 }
 
+// 무한 스크롤용: 이전 응답의 nextCursor를 넘기면 그 뒤부터 limit개를 가져온다
+export async function getToolsByCursor(params?: {
+    category?: string | null;
+    q?: string | null;
+    origin?: string | null;
+    cursor?: string | null;
+    limit?: number;
+}) {
+    const usp = new URLSearchParams();
+    if (params?.category) usp.set("category", params.category);
+    if (params?.q) usp.set("q", params.q);
+    if (params?.origin) usp.set("origin", params.origin);
+    if (params?.cursor) usp.set("cursor", params.cursor);
+    usp.set("limit", String(params?.limit ?? 40));
+
+    const page = await getJSON<CursorPage<AiToolResponse>>(`/tools?${usp.toString()}`);
+    return {
+        ...page,
+        content: page.content.map(mapDto),
+    };
+}
+
 export async function getTool(id: number | string) {
     const dto = await getJSON<AiToolResponse>(`/tools/${id}`);
     return mapDto(dto);
 }
+
+export type ToolSuggestion = {
+    id: number;
+    name: string;
+    subTitle?: string;
+    logo?: string;
+};
+
+// 검색창 자동완성: 이름 접두사/초성으로 찾은 툴 이름 목록
+export async function getSuggestions(q: string, limit = 8) {
+    const usp = new URLSearchParams({ q, limit: String(limit) });
+    return getJSON<ToolSuggestion[]>(`/tools/suggest?${usp.toString()}`);
+}
+
+// 툴 사이트로 이동할 때 클릭 수 집계 (페이지를 떠나도 전송되도록 sendBeacon 사용)
+export function recordToolClick(id: number | string) {
+    const url = `/api/tools/${id}/click`;
+    if (navigator.sendBeacon?.(url)) return;
+    fetch(url, { method: "POST", credentials: "include", keepalive: true }).catch(() => {});
+}
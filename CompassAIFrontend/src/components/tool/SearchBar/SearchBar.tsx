@@ -1,5 +1,6 @@
 import { useEffect, useRef, useState } from "react";
 import s from "./SearchBar.module.css";
+import { getSuggestions, type ToolSuggestion } from "../../../api/tools";
 
 type Props = {
     placeholder?: string;       // 입력창 placeholder 문구
@@ -13,6 +14,7 @@ type Props = {
  * - AI 서비스 검색 입력창
  * - 엔터로 검색 실행 / ESC로 입력 초기화
  * - 입력값이 없을 때 중앙 placeholder(ghost) 표시
+ * - 입력하는 동안 /api/tools/suggest 로 이름 자동완성 목록 표시 (초성 검색 가능)
  */
 export default function SearchBar({
                                       placeholder = "AI 서비스 검색",
@@ -22,14 +24,50 @@ export default function SearchBar({
     /** 입력값 상태 */
     const [q, setQ] = useState(defaultValue);
 
+    /** 자동완성 목록 (입력이 멈춘 뒤에만 요청) */
+    const [suggestions, setSuggestions] = useState<ToolSuggestion[]>([]);
+
     /** input 엘리먼트 참조 (초점 이동용) */
     const inputRef = useRef<HTMLInputElement>(null);
 
     /** 외부에서 defaultValue가 바뀔 때 내부 상태도 동기화 */
     useEffect(() => setQ(defaultValue), [defaultValue]);
 
+    /** 입력이 100ms 멈추면 자동완성 요청. 늦게 온 이전 응답은 버린다 */
+    useEffect(() => {
+        const text = q.trim();
+        if (!text) {
+            setSuggestions([]);
+            return;
+        }
+        let dead = false;
+        const timer = setTimeout(() => {
+            getSuggestions(text)
+                .then((list) => {
+                    if (!dead) setSuggestions(list);
+                })
+                .catch(() => {
+                    if (!dead) setSuggestions([]);
+                });
+        }, 100);
+        return () => {
+            dead = true;
+            clearTimeout(timer);
+        };
+    }, [q]);
+
     /** 검색 실행 함수 (양쪽 공백 제거 후 전달) */
-    const doSearch = () => onSearch(q.trim());
+    const doSearch = () => {
+        setSuggestions([]);
+        onSearch(q.trim());
+    };
+
+    /** 자동완성 항목 선택 → 그 이름으로 바로 검색 */
+    const pick = (name: string) => {
+        setQ(name);
+        setSuggestions([]);
+        onSearch(name);
+    };
 
     /** 입력 초기화 함수 */
     const clear = () => {
@@ -50,6 +88,7 @@ export default function SearchBar({
                 value={q}
                 onChange={(e) => setQ(e.target.value)}
                 onKeyDown={(e) => {
+                    if (e.nativeEvent.isComposing) return; // 한글 조합 중 엔터는 무시
                     if (e.key === "Enter") doSearch();  // 엔터 → 검색 실행
                     if (e.key === "Escape") clear();     // ESC → 입력 초기화
                 }}
@@ -57,6 +96,26 @@ export default function SearchBar({
                 aria-label="AI 툴 검색"
             />
 
+            {/* ===== 자동완성 목록 ===== */}
+            {suggestions.length > 0 && (
+                <ul className={s.suggest} role="listbox">
+                    {suggestions.map((t) => (
+                        <li key={t.id} role="option" aria-selected={false}>
+                            <button
+                                type="button"
+                                className={s.suggestItem}
+                                onMouseDown={(e) => e.preventDefault()} // 입력창 포커스 유지
+                                onClick={() => pick(t.name)}
+                            >
+                                {t.logo && <img src={t.logo} alt="" className={s.suggestLogo} />}
+                                <span>{t.name}</span>
+                                {t.subTitle && <span className={s.suggestSub}>{t.subTitle}</span>}
+                            </button>
+                        </li>
+                    ))}
+                </ul>
+            )}
+
             {/* ===== 입력 초기화 버튼 (×) ===== */}
             {q && (
                 <button
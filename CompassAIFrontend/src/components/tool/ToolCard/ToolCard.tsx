@@ -1,6 +1,7 @@
 import { useMemo, useState } from "react";
 import type { Tool } from "../../../types/tool";
 import s from "./ToolCard.module.css";
+import { recordToolClick } from "../../../api/tools";
 
 /**
  * Tool 타입 확장
@@ -30,8 +31,10 @@ export default function ToolCard({ tool }: Props) {
         const logos = `/logos/${name}.png`;
         const images = `/images/${name}.png`;
         const list = [tool.logo, asIs, logos, images].filter(Boolean) as string[];
-        return list.map((p) => encodeURI(p));
-    }, [tool.logo, tool.name]);
+        // 백엔드가 줄여 둔 썸네일을 먼저 쓴다 (54px 카드라 2배 화면까지 128이면 충분)
+        const thumb = tool.logo ? [`/api/tools/${tool.id}/logo?w=128`] : [];
+        return [...thumb, ...list.map((p) => encodeURI(p))];
+    }, [tool.id, tool.logo, tool.name]);
 
     /** 현재 표시 중인 이미지 인덱스 */
     const [idx, setIdx] = useState(0);
@@ -53,7 +56,13 @@ export default function ToolCard({ tool }: Props) {
     return (
         <div className={s.wrap}>
             {/* ===== 기본 카드 ===== */}
-            <a className={s.card} href={tool.url || "#"} target="_blank" rel="noreferrer">
+            <a
+                className={s.card}
+                href={tool.url || "#"}
+                target="_blank"
+                rel="noreferrer"
+                onClick={() => recordToolClick(tool.id)} // 인기순 정렬용 클릭 집계
+            >
                 <div className={s.inner}>
                     {/* 왼쪽: 로고 */}
                     <div className={s.left}>
@@ -1,5 +1,6 @@
 import React, { useRef, useState } from "react";
 import s from "./SubmitToolPage.module.css";
+import { submitApplication } from "../../api/applications";
 
 /* 선택 항목 */
 const CATEGORIES = [
@@ -66,9 +67,18 @@ function validate(form: ToolForm): Errors {
     return e;
 }
 
-/* 더미 제출 */
+/* 등록 신청 제출 (서버는 접수만 하고 202를 돌려준다) */
 async function submitTool(form: ToolForm) {
-    return new Promise<ToolForm>((r) => setTimeout(() => r(form), 500));
+    await submitApplication({
+        name: form.name.trim(),
+        subTitle: form.subTitle.trim(),
+        origin: form.origin,
+        url: form.url.trim(),
+        logo: form.logo.trim(),
+        description: form.long.trim(),
+        categories: [...form.categories],
+    });
+    return form;
 }
 
 /* 컴포넌트 */
@@ -98,6 +108,10 @@ export default function SubmitToolPage() {
             const res = await submitTool(form);
             setPreview(res);
             setOkMessage("등록 요청이 제출되었습니다. 검토 후 반영됩니다.");
+        } catch (err: unknown) {
+            // 로그인 필요(401), 접수 지연(503) 등 서버 메시지를 이름 칸 아래에 보여 준다
+            const msg = err instanceof Error ? err.message : "등록 요청에 실패했습니다.";
+            setErrors({ name: msg });
         } finally {
             setSubmitting(false);
         }
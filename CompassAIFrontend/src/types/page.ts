@@ -6,3 +6,10 @@ export type Page<T> = {
     totalElements: number;
     totalPages: number;
 };
+
+// 커서 기반 목록 응답 타입 (/api/tools?limit=...)
+export type CursorPage<T> = {
+    content: T[];
+    nextCursor: string | null;
+    hasNext: boolean;
+};
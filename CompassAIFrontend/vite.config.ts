@@ -16,6 +16,8 @@ export default defineConfig({
       '/api': {
         target: 'http://localhost:8080',
         changeOrigin: true,
+        // 백엔드 로그인 IP 제한이 사용자별로 걸리도록 X-Forwarded-For 를 붙인다
+        xfwd: true,
       },
     },
   },